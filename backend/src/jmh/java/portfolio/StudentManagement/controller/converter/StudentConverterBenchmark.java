@@ -0,0 +1,84 @@
+package portfolio.StudentManagement.controller.converter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.data.StudentCourse;
+import portfolio.StudentManagement.domain.StudentDetail;
+
+/**
+ * StudentConverter.getStudentDetailsListのベンチマークです。受講生ごとに受講生コース情報を全件走査していた旧実装と、受講生IDごとにまとめてから組み立てる現行実装を比較します。
+ * 旧実装は受講生数×受講生コース数に比例するため、100,000件では1回の呼び出しに数十秒かかります。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StudentConverterBenchmark {
+
+  private static final int COURSES_PER_STUDENT = 2;
+
+  @Param({"1000", "10000", "100000"})
+  private int studentCount;
+
+  private List<Student> studentList;
+  private List<StudentCourse> studentCourseList;
+  private StudentConverter converter;
+
+  @Setup
+  public void setUp() {
+    studentList = new ArrayList<>(studentCount);
+    studentCourseList = new ArrayList<>(studentCount * COURSES_PER_STUDENT);
+    for (int i = 0; i < studentCount; i++) {
+      Student student = new Student.StudentBuilder("受講生" + i, "student" + i + "@example.com",
+          "東京都港区", 20 + i % 40).build();
+      studentList.add(student);
+    }
+    // DBから取得した場合と同様に、受講生コース情報は受講生の順序とは無関係に並べます
+    for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+      for (int i = studentCount - 1; i >= 0; i--) {
+        studentCourseList.add(new StudentCourse.StudentCourseBuilder(
+            studentList.get(i).getId(), "コース" + j).build());
+      }
+    }
+    converter = new StudentConverter();
+  }
+
+  @Benchmark
+  public List<StudentDetail> current() {
+    return converter.getStudentDetailsList(studentList, studentCourseList);
+  }
+
+  @Benchmark
+  public List<StudentDetail> legacy() {
+    return legacyGetStudentDetailsList(studentList, studentCourseList);
+  }
+
+  /**
+   * 比較用の旧実装です。受講生1件ごとに受講生コース情報リストを全件走査します。
+   */
+  private static List<StudentDetail> legacyGetStudentDetailsList(List<Student> studentList,
+      List<StudentCourse> studentCourseList) {
+    List<StudentDetail> studentDetailsList = new ArrayList<>();
+    studentList.forEach(student -> {
+      StudentDetail studentDetail = new StudentDetail();
+      studentDetail.setStudent(student);
+
+      List<StudentCourse> convertedStudentCoursesList = studentCourseList.stream()
+          .filter(studentCourse -> student.getId().equals(studentCourse.getStudentId()))
+          .collect(Collectors.toList());
+      studentDetail.setStudentCourseList(convertedStudentCoursesList);
+      studentDetailsList.add(studentDetail);
+    });
+    return studentDetailsList;
+  }
+}
@@ -0,0 +1,116 @@
+package portfolio.StudentManagement.data;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import portfolio.StudentManagement.repository.typehandler.UuidBinaryTypeHandler;
+
+/**
+ * IDの生成処理のベンチマークです。 ランダムなUUID（バージョン4）と時刻順のUUID（バージョン7）について、主キーとしてINSERTした場合の1秒あたりの登録件数と、
+ * 複数スレッドから同時に生成した場合の1秒あたりの生成件数を比較します。
+ * 登録先は既定ではH2のインメモリDBです。 ページ分割やバッファプールの影響はディスク上のInnoDBの方が大きく表れるため、
+ * MySQLで計測する場合はjdbcUrlに接続先（ユーザー名とパスワードを含む）を指定してください。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdGeneratorBenchmark {
+
+  private static final int ROWS_PER_INVOCATION = 1000;
+
+  @Param({"uuid-v4", "uuid-v7"})
+  private String idType;
+
+  /**
+   * 計測前に登録しておく申込状況の件数です。
+   */
+  @Param({"100000"})
+  private int existingRows;
+
+  @Param({"jdbc:h2:mem:ids;DB_CLOSE_DELAY=-1"})
+  private String jdbcUrl;
+
+  private IdGenerator idGenerator;
+  private Connection connection;
+  private PreparedStatement insert;
+
+  @Setup
+  public void setUp() throws SQLException {
+    idGenerator = idType.equals("uuid-v7") ? new UuidV7Generator() : IdGenerator.RANDOM_UUID;
+    connection = DriverManager.getConnection(jdbcUrl);
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS id_benchmark_statuses");
+      // 申込状況テーブルと同じ構成です。外部キーは作成しません
+      statement.execute("""
+          CREATE TABLE id_benchmark_statuses (
+            id BINARY(16) PRIMARY KEY,
+            student_course_id BINARY(16) NOT NULL,
+            status VARCHAR(20) NOT NULL,
+            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+          )""");
+    }
+    connection.setAutoCommit(false);
+    insert = connection.prepareStatement(
+        "INSERT INTO id_benchmark_statuses (id, student_course_id, status, created_at)"
+            + " VALUES (?, ?, ?, ?)");
+    for (int i = 0; i < existingRows; i += ROWS_PER_INVOCATION) {
+      insertRows();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE id_benchmark_statuses");
+    }
+    connection.commit();
+    connection.close();
+  }
+
+  /**
+   * 申込状況を一定件数ずつバッチでINSERTしてコミットします。 スコアは1秒あたりの登録件数です。
+   */
+  @Benchmark
+  @OperationsPerInvocation(ROWS_PER_INVOCATION)
+  public void insert() throws SQLException {
+    insertRows();
+  }
+
+  /**
+   * 4スレッドから同時にIDを生成します。 スコアは1秒あたりの生成件数です。
+   */
+  @Benchmark
+  @Threads(4)
+  public String generate() {
+    return idGenerator.nextId();
+  }
+
+  private void insertRows() throws SQLException {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    for (int i = 0; i < ROWS_PER_INVOCATION; i++) {
+      insert.setBytes(1, UuidBinaryTypeHandler.toBytes(idGenerator.nextId()));
+      insert.setBytes(2, UuidBinaryTypeHandler.toBytes(idGenerator.nextId()));
+      insert.setString(3, "仮申込");
+      insert.setTimestamp(4, now);
+      insert.addBatch();
+    }
+    insert.executeBatch();
+    connection.commit();
+  }
+}
@@ -0,0 +1,61 @@
+package portfolio.StudentManagement.data;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 受講生ビルダー・受講生コースビルダーのベンチマークです。 ビルダーはインスタンス生成のたびにIDを生成するため、
+ * ランダムなUUID（バージョン4、UUID.randomUUID）と時刻順のUUID（バージョン7）のそれぞれで計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StudentBuilderBenchmark {
+
+  private static final LocalDateTime START_DATE = LocalDateTime.parse("2024-04-01T00:00:00");
+
+  @Param({"uuid-v4", "uuid-v7"})
+  private String idType;
+
+  private String studentId;
+
+  @Setup
+  public void setUp() {
+    IdGenerators.use(idType.equals("uuid-v7") ? new UuidV7Generator() : IdGenerator.RANDOM_UUID);
+    studentId = IdGenerators.nextId();
+  }
+
+  @TearDown
+  public void tearDown() {
+    IdGenerators.use(new UuidV7Generator());
+  }
+
+  @Benchmark
+  public Student buildStudent() {
+    return new Student.StudentBuilder("山田 太郎", "yamada@example.com", "東京都港区", 32)
+        .kana("ヤマダ タロウ")
+        .nickName("たろ")
+        .gender(Student.Gender.Male)
+        .build();
+  }
+
+  /**
+   * 開始日と終了日を指定して受講生コース情報を生成します。 指定しない場合は既定値として現在日時を取得するため、その処理時間は含みません。
+   */
+  @Benchmark
+  public StudentCourse buildStudentCourse() {
+    return new StudentCourse.StudentCourseBuilder(studentId, "Javaフルコース")
+        .startDate(START_DATE)
+        .endDate(START_DATE.plusYears(1))
+        .build();
+  }
+}
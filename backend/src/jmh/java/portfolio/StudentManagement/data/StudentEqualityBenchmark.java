@@ -0,0 +1,112 @@
+package portfolio.StudentManagement.data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 受講生更新で変更の有無を判定する処理（StudentService.updateStudentIfModified, updateStudentCourseIfModified）のベンチマークです。
+ * リクエストとDBからはそれぞれ別の文字列インスタンスが渡されるため、同じ値を持つ別のインスタンス同士でequalsとhashCodeを計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StudentEqualityBenchmark {
+
+  private static final int COURSES_PER_STUDENT = 5;
+
+  private Student currentStudent;
+  private Student unchangedStudent;
+  private Student changedStudent;
+  private List<StudentCourse> currentStudentCourseList;
+  private List<StudentCourse> receivedStudentCourseList;
+
+  @Setup
+  public void setUp() {
+    String id = IdGenerators.nextId();
+    currentStudent = student(id, "入院のため利用休止中");
+    unchangedStudent = student(id, "入院のため利用休止中");
+    // 比較の最後の方で差異が見つかる備考のみを変更します
+    changedStudent = student(id, "復学済み");
+
+    currentStudentCourseList = new ArrayList<>(COURSES_PER_STUDENT);
+    receivedStudentCourseList = new ArrayList<>(COURSES_PER_STUDENT);
+    LocalDateTime startDate = LocalDateTime.parse("2024-04-01T00:00:00");
+    for (int i = 0; i < COURSES_PER_STUDENT; i++) {
+      String courseId = IdGenerators.nextId();
+      currentStudentCourseList.add(course(courseId, id, "コース" + i, startDate));
+      // 最後の受講生コース情報のみ開始日を変更します
+      receivedStudentCourseList.add(course(courseId, id, "コース" + i,
+          i == COURSES_PER_STUDENT - 1 ? startDate.plusMonths(1) : startDate));
+    }
+  }
+
+  @Benchmark
+  public boolean studentEqualsUnchanged() {
+    return unchangedStudent.equals(currentStudent);
+  }
+
+  @Benchmark
+  public boolean studentEqualsChanged() {
+    return changedStudent.equals(currentStudent);
+  }
+
+  @Benchmark
+  public int studentHashCode() {
+    return currentStudent.hashCode();
+  }
+
+  @Benchmark
+  public int studentCourseHashCode() {
+    return currentStudentCourseList.getFirst().hashCode();
+  }
+
+  /**
+   * 現在の受講生コース情報をIDのマップにし、受け取った受講生コース情報と順に比較して変更のあった件数を返します。
+   */
+  @Benchmark
+  public int studentCourseDiff() {
+    Map<String, StudentCourse> currentStudentCourseMap = currentStudentCourseList.stream()
+        .collect(
+            Collectors.toMap(StudentCourse::getId, studentCourse -> studentCourse, (a, b) -> b));
+    int modified = 0;
+    for (StudentCourse receivedStudentCourse : receivedStudentCourseList) {
+      if (!receivedStudentCourse.equals(
+          currentStudentCourseMap.get(receivedStudentCourse.getId()))) {
+        modified++;
+      }
+    }
+    return modified;
+  }
+
+  /**
+   * 全ての文字列を新しいインスタンスとして受講生を生成します。
+   */
+  private static Student student(String id, String remark) {
+    return new Student.StudentBuilder(new String("山田 太郎"), new String("yamada@example.com"),
+        new String("東京都港区"), 32)
+        .kana(new String("ヤマダ タロウ"))
+        .nickName(new String("たろ"))
+        .gender(Student.Gender.Male)
+        .remark(new String(remark))
+        .useOnlyTestBuildWithId(new String(id));
+  }
+
+  private static StudentCourse course(String id, String studentId, String courseName,
+      LocalDateTime startDate) {
+    return new StudentCourse.StudentCourseBuilder(new String(studentId), new String(courseName))
+        .startDate(startDate)
+        .endDate(startDate.plusYears(1))
+        .buildWithId(new String(id));
+  }
+}
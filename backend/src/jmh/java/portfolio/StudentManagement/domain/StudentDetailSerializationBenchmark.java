@@ -0,0 +1,78 @@
+package portfolio.StudentManagement.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import portfolio.StudentManagement.data.EnrollmentStatus;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.IdGenerators;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.data.StudentCourse;
+
+/**
+ * 受講生詳細リストをJSONに変換する処理のベンチマークです。 受講生詳細の一覧・ページ検索のレスポンスと同じく、Spring MVCの既定の設定で生成したObjectMapperで変換します。
+ * スコアは受講生詳細リスト1件分の変換時間です。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentDetailSerializationBenchmark {
+
+  private static final int COURSES_PER_STUDENT = 2;
+
+  @Param({"10", "100", "1000", "10000"})
+  private int studentCount;
+
+  private List<StudentDetail> studentDetailList;
+  private ObjectWriter writer;
+
+  @Setup
+  public void setUp() {
+    LocalDateTime startDate = LocalDateTime.parse("2024-04-01T00:00:00");
+    studentDetailList = new ArrayList<>(studentCount);
+    for (int i = 0; i < studentCount; i++) {
+      Student student = new Student.StudentBuilder("受講生" + i, "student" + i + "@example.com",
+          "東京都港区", 20 + i % 40)
+          .kana("ジュコウセイ")
+          .remark("備考" + i)
+          .build();
+      List<StudentCourse> studentCourseList = new ArrayList<>(COURSES_PER_STUDENT);
+      for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+        StudentCourse.StudentCourseBuilder builder = new StudentCourse.StudentCourseBuilder(
+            student.getId(), "コース" + j)
+            .startDate(startDate)
+            .endDate(startDate.plusYears(1));
+        StudentCourse studentCourse = builder.build();
+        studentCourseList.add(builder.enrollmentStatus(EnrollmentStatus.builder()
+                .id(IdGenerators.nextId())
+                .studentCourseId(studentCourse.getId())
+                .status(Status.受講中)
+                .createdAt(startDate)
+                .build())
+            .buildWithId(studentCourse.getId()));
+      }
+      studentDetailList.add(new StudentDetail(student, studentCourseList));
+    }
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+        .constructCollectionType(List.class, StudentDetail.class));
+  }
+
+  @Benchmark
+  public byte[] writeValueAsBytes() throws JsonProcessingException {
+    return writer.writeValueAsBytes(studentDetailList);
+  }
+}
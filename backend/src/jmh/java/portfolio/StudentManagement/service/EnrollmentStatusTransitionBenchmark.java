@@ -0,0 +1,239 @@
+package portfolio.StudentManagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import portfolio.StudentManagement.controller.converter.StudentConverter;
+import portfolio.StudentManagement.data.EnrollmentStatus;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.domain.EnrollmentStatusTransitionResult;
+import portfolio.StudentManagement.exception.EnrollmentStatusBadRequestException;
+import portfolio.StudentManagement.exception.EnrollmentStatusConflictException;
+import portfolio.StudentManagement.exception.EnrollmentStatusNotFoundException;
+import portfolio.StudentManagement.repository.EnrollmentStatusRepository;
+import portfolio.StudentManagement.repository.StudentCourseRepository;
+import portfolio.StudentManagement.repository.StudentRepository;
+import portfolio.StudentManagement.repository.typehandler.UuidBinaryTypeHandler;
+
+/**
+ * 申込状況更新のベンチマークです。H2のインメモリDBに申込状況の履歴を指定件数分登録し、履歴件数が増えても更新処理の時間が変わらないことを確認します。
+ * 比較用に、申込状況を全件取得してから受講生コース情報IDで絞り込む旧実装の検証処理も計測します。
+ * また、更新対象の受講生コース全件を1件ずつ更新する場合と、一括更新でまとめて更新する場合も比較します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnrollmentStatusTransitionBenchmark {
+
+  private static final int TARGET_COURSE_COUNT = 100;
+  private static final List<String> MAPPER_RESOURCES = List.of(
+      "mapper/studentRepository.xml",
+      "mapper/studentCourseRepository.xml",
+      "mapper/enrollmentStatus.xml");
+
+  @Param({"1000", "10000", "100000"})
+  private int historySize;
+
+  private SqlSession session;
+  private EnrollmentStatusRepository enrollmentStatusRepository;
+  private StudentService studentService;
+  private final List<String> targetCourseIdList = new ArrayList<>();
+  private final List<String> targetStatusIdList = new ArrayList<>();
+
+  @Setup
+  public void setUp() throws IOException, SQLException {
+    UnpooledDataSource dataSource = new UnpooledDataSource("org.h2.Driver",
+        "jdbc:h2:mem:transition" + historySize + ";DB_CLOSE_DELAY=-1", "sa", "");
+    Configuration configuration = new Configuration(
+        new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+    configuration.setMapUnderscoreToCamelCase(true);
+    // 同一セッション内のキャッシュで検索が省略されないよう、キャッシュはステートメント単位にします
+    configuration.setLocalCacheScope(LocalCacheScope.STATEMENT);
+    configuration.getTypeHandlerRegistry().register(UuidBinaryTypeHandler.class);
+    for (String resource : MAPPER_RESOURCES) {
+      try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+        new XMLMapperBuilder(inputStream, configuration, resource,
+            configuration.getSqlFragments()).parse();
+      }
+    }
+    SqlSessionFactory sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+    session = sqlSessionFactory.openSession(false);
+    createTableAndInsertHistory(session.getConnection());
+    session.commit(true);
+
+    enrollmentStatusRepository = session.getMapper(EnrollmentStatusRepository.class);
+    StudentRepository studentRepository = session.getMapper(StudentRepository.class);
+    studentService = new StudentService(studentRepository,
+        session.getMapper(StudentCourseRepository.class), enrollmentStatusRepository,
+        new StudentConverter(),
+        new StudentDetailCache(1000, Duration.ofMinutes(10), new SimpleMeterRegistry()),
+        new StudentSearchIndex(studentRepository, false));
+  }
+
+  @TearDown
+  public void tearDown() {
+    session.close();
+  }
+
+  /**
+   * 仮申込の受講生コースを本申込に更新し、次の計測に影響しないようロールバックします。
+   */
+  @Benchmark
+  public void transition()
+      throws EnrollmentStatusNotFoundException, EnrollmentStatusBadRequestException,
+      EnrollmentStatusConflictException {
+    EnrollmentStatus enrollmentStatus = EnrollmentStatus.builder()
+        .studentCourseId(randomTargetCourseId())
+        .status(Status.本申込)
+        .build();
+    studentService.updateEnrollmentStatus(enrollmentStatus);
+    session.rollback(true);
+  }
+
+  /**
+   * 更新対象の受講生コース全件を、1件ずつの申込状況更新で本申込に更新します。
+   */
+  @Benchmark
+  public void transitionAllOneByOne()
+      throws EnrollmentStatusNotFoundException, EnrollmentStatusBadRequestException,
+      EnrollmentStatusConflictException {
+    for (String studentCourseId : targetCourseIdList) {
+      studentService.updateEnrollmentStatus(EnrollmentStatus.builder()
+          .studentCourseId(studentCourseId)
+          .status(Status.本申込)
+          .build());
+    }
+    session.rollback(true);
+  }
+
+  /**
+   * 更新対象の受講生コース全件を、申込状況の一括更新で本申込に更新します。
+   */
+  @Benchmark
+  public List<EnrollmentStatusTransitionResult> transitionAllInBulk() {
+    List<EnrollmentStatusTransitionResult> results = studentService
+        .transitionEnrollmentStatuses(targetCourseIdList, Status.本申込);
+    session.rollback(true);
+    return results;
+  }
+
+  /**
+   * 比較用の旧実装の検証処理です。全件取得してから受講生コース情報IDで絞り込み、最後の申込状況を取得します。
+   */
+  @Benchmark
+  public Status legacyCurrentStatusLookup() {
+    String studentCourseId = randomTargetCourseId();
+    return enrollmentStatusRepository.selectAllEnrollmentStatus().stream()
+        .filter(enrollmentStatus -> enrollmentStatus.getStudentCourseId().equals(studentCourseId))
+        .toList()
+        .getLast()
+        .getStatus();
+  }
+
+  private String randomTargetCourseId() {
+    return targetCourseIdList.get(ThreadLocalRandom.current().nextInt(TARGET_COURSE_COUNT));
+  }
+
+  /**
+   * 申込状況テーブルとインデックスを作成し、履歴を登録します。 更新対象の受講生コースは仮申込のみ、それ以外は受講終了までの4件の履歴を持ちます。
+   */
+  private void createTableAndInsertHistory(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("""
+          CREATE TABLE enrollment_statuses (
+            id BINARY(16) PRIMARY KEY,
+            student_course_id BINARY(16) NOT NULL,
+            status VARCHAR(20) NOT NULL,
+            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+          )""");
+      statement.execute("CREATE INDEX idx_enrollment_statuses_student_course_id_created_at"
+          + " ON enrollment_statuses (student_course_id, created_at)");
+      // 現在の申込状況の更新先です。外部キーは作成しません
+      statement.execute("""
+          CREATE TABLE students_courses (
+            id BINARY(16) PRIMARY KEY,
+            student_id BINARY(16) NOT NULL,
+            course_name VARCHAR(100) NOT NULL,
+            start_date TIMESTAMP NULL DEFAULT NULL,
+            end_date TIMESTAMP NULL DEFAULT NULL,
+            current_status_id BINARY(16) DEFAULT NULL,
+            current_status VARCHAR(20) DEFAULT NULL
+          )""");
+    }
+
+    Status[] fullHistory = {Status.仮申込, Status.本申込, Status.受講中, Status.受講終了};
+    LocalDateTime baseDateTime = LocalDateTime.of(2024, 1, 1, 9, 0);
+    try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO enrollment_statuses (id, student_course_id, status, created_at)"
+            + " VALUES (?, ?, ?, ?)")) {
+      int inserted = 0;
+      while (inserted < historySize) {
+        String studentCourseId = UUID.randomUUID().toString();
+        boolean isTarget = targetCourseIdList.size() < TARGET_COURSE_COUNT;
+        if (isTarget) {
+          targetCourseIdList.add(studentCourseId);
+        }
+        int statusCount = isTarget ? 1 : fullHistory.length;
+        for (int i = 0; i < statusCount; i++) {
+          String statusId = UUID.randomUUID().toString();
+          if (isTarget) {
+            targetStatusIdList.add(statusId);
+          }
+          insert.setBytes(1, UuidBinaryTypeHandler.toBytes(statusId));
+          insert.setBytes(2, UuidBinaryTypeHandler.toBytes(studentCourseId));
+          insert.setString(3, fullHistory[i].name());
+          insert.setTimestamp(4, Timestamp.valueOf(baseDateTime.plusMinutes(inserted)));
+          insert.addBatch();
+          inserted++;
+        }
+      }
+      insert.executeBatch();
+    }
+    try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO students_courses"
+            + " (id, student_id, course_name, current_status_id, current_status)"
+            + " VALUES (?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < targetCourseIdList.size(); i++) {
+        insert.setBytes(1, UuidBinaryTypeHandler.toBytes(targetCourseIdList.get(i)));
+        insert.setBytes(2, UuidBinaryTypeHandler.toBytes(UUID.randomUUID().toString()));
+        insert.setString(3, "Javaフルコース");
+        insert.setBytes(4, UuidBinaryTypeHandler.toBytes(targetStatusIdList.get(i)));
+        insert.setString(5, Status.仮申込.name());
+        insert.addBatch();
+      }
+      insert.executeBatch();
+    }
+  }
+}
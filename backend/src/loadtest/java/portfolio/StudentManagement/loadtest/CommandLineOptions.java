@@ -0,0 +1,44 @@
+package portfolio.StudentManagement.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 負荷試験用ツールのコマンドライン引数（--name=value 形式）です。 値を省略した場合（--name）はtrueとして扱います。
+ */
+final class CommandLineOptions {
+
+  private final Map<String, String> values = new HashMap<>();
+
+  CommandLineOptions(String[] args) {
+    for (String arg : args) {
+      if (!arg.startsWith("--")) {
+        throw new IllegalArgumentException("引数は--name=valueの形式で指定してください: " + arg);
+      }
+      int separator = arg.indexOf('=');
+      if (separator < 0) {
+        values.put(arg.substring(2), "true");
+      } else {
+        values.put(arg.substring(2, separator), arg.substring(separator + 1));
+      }
+    }
+  }
+
+  String getString(String name, String defaultValue) {
+    return values.getOrDefault(name, defaultValue);
+  }
+
+  int getInt(String name, int defaultValue) {
+    String value = values.get(name);
+    return value == null ? defaultValue : Integer.parseInt(value.replace("_", ""));
+  }
+
+  long getLong(String name, long defaultValue) {
+    String value = values.get(name);
+    return value == null ? defaultValue : Long.parseLong(value.replace("_", ""));
+  }
+
+  boolean getBoolean(String name) {
+    return Boolean.parseBoolean(values.get(name));
+  }
+}
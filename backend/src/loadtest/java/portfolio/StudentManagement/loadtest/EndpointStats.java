@@ -0,0 +1,58 @@
+package portfolio.StudentManagement.loadtest;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * リクエストの種類ごとの応答時間（HdrHistogram、マイクロ秒）とエラー件数です。
+ * 応答時間は送信予定の時刻から計測するため、サーバーの遅延で送信が遅れた分も含みます。
+ */
+final class EndpointStats {
+
+  private static final double MICROS_PER_MILLI = 1000.0;
+
+  private final Histogram histogram = new ConcurrentHistogram(3);
+  private final LongAdder errors = new LongAdder();
+
+  void recordSuccess(long latencyNanos) {
+    histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+  }
+
+  void recordError() {
+    errors.increment();
+  }
+
+  long count() {
+    return histogram.getTotalCount();
+  }
+
+  long errors() {
+    return errors.sum();
+  }
+
+  /**
+   * 指定したパーセンタイルの応答時間を返します。
+   *
+   * @param percentile パーセンタイル（0〜100）
+   * @return 応答時間（ミリ秒）
+   */
+  double percentileMillis(double percentile) {
+    return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+  }
+
+  double maxMillis() {
+    return histogram.getMaxValue() / MICROS_PER_MILLI;
+  }
+
+  /**
+   * 応答時間の分布をHdrHistogramの形式（.hgrm、ミリ秒）で出力します。
+   *
+   * @param out 出力先
+   */
+  void writePercentileDistribution(PrintStream out) {
+    histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+  }
+}
@@ -0,0 +1,86 @@
+package portfolio.StudentManagement.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * 合成データに使用する氏名・フリガナ・居住地域の候補です。 候補は実在の頻度に近い順に並べ、先頭ほど選ばれやすくしています。
+ */
+final class JapaneseNames {
+
+  /**
+   * 姓の候補（漢字、カタカナ、ローマ字）です。
+   */
+  private static final String[][] SURNAMES = {
+      {"佐藤", "サトウ", "sato"}, {"鈴木", "スズキ", "suzuki"}, {"高橋", "タカハシ", "takahashi"},
+      {"田中", "タナカ", "tanaka"}, {"伊藤", "イトウ", "ito"}, {"渡辺", "ワタナベ", "watanabe"},
+      {"山本", "ヤマモト", "yamamoto"}, {"中村", "ナカムラ", "nakamura"},
+      {"小林", "コバヤシ", "kobayashi"}, {"加藤", "カトウ", "kato"}, {"吉田", "ヨシダ", "yoshida"},
+      {"山田", "ヤマダ", "yamada"}, {"佐々木", "ササキ", "sasaki"}, {"山口", "ヤマグチ", "yamaguchi"},
+      {"松本", "マツモト", "matsumoto"}, {"井上", "イノウエ", "inoue"}, {"木村", "キムラ", "kimura"},
+      {"林", "ハヤシ", "hayashi"}, {"斎藤", "サイトウ", "saito"}, {"清水", "シミズ", "shimizu"},
+      {"山崎", "ヤマザキ", "yamazaki"}, {"森", "モリ", "mori"}, {"池田", "イケダ", "ikeda"},
+      {"橋本", "ハシモト", "hashimoto"}, {"阿部", "アベ", "abe"}, {"石川", "イシカワ", "ishikawa"},
+      {"山下", "ヤマシタ", "yamashita"}, {"中島", "ナカジマ", "nakajima"}, {"石井", "イシイ", "ishii"},
+      {"小川", "オガワ", "ogawa"}, {"前田", "マエダ", "maeda"}, {"岡田", "オカダ", "okada"},
+      {"長谷川", "ハセガワ", "hasegawa"}, {"藤田", "フジタ", "fujita"}, {"後藤", "ゴトウ", "goto"},
+      {"近藤", "コンドウ", "kondo"}, {"村上", "ムラカミ", "murakami"}, {"遠藤", "エンドウ", "endo"},
+      {"青木", "アオキ", "aoki"}, {"坂本", "サカモト", "sakamoto"}
+  };
+
+  /**
+   * 男性の名の候補（漢字、カタカナ、ローマ字）です。
+   */
+  private static final String[][] MALE_GIVEN_NAMES = {
+      {"太郎", "タロウ", "taro"}, {"健一", "ケンイチ", "kenichi"}, {"大輔", "ダイスケ", "daisuke"},
+      {"翔太", "ショウタ", "shota"}, {"拓也", "タクヤ", "takuya"}, {"健太", "ケンタ", "kenta"},
+      {"蓮", "レン", "ren"}, {"大翔", "ヒロト", "hiroto"}, {"悠真", "ユウマ", "yuma"},
+      {"誠", "マコト", "makoto"}, {"直樹", "ナオキ", "naoki"}, {"隆", "タカシ", "takashi"},
+      {"陽翔", "ハルト", "haruto"}, {"湊", "ミナト", "minato"}, {"亮", "リョウ", "ryo"},
+      {"修", "オサム", "osamu"}, {"浩二", "コウジ", "koji"}, {"和也", "カズヤ", "kazuya"}
+  };
+
+  /**
+   * 女性の名の候補（漢字、カタカナ、ローマ字）です。
+   */
+  private static final String[][] FEMALE_GIVEN_NAMES = {
+      {"花子", "ハナコ", "hanako"}, {"美香", "ミカ", "mika"}, {"陽菜", "ヒナ", "hina"},
+      {"結衣", "ユイ", "yui"}, {"さくら", "サクラ", "sakura"}, {"美咲", "ミサキ", "misaki"},
+      {"愛", "アイ", "ai"}, {"葵", "アオイ", "aoi"}, {"凛", "リン", "rin"},
+      {"恵子", "ケイコ", "keiko"}, {"裕子", "ユウコ", "yuko"}, {"由美", "ユミ", "yumi"},
+      {"彩", "アヤ", "aya"}, {"真由美", "マユミ", "mayumi"}, {"芽依", "メイ", "mei"},
+      {"奈々", "ナナ", "nana"}, {"千尋", "チヒロ", "chihiro"}, {"明美", "アケミ", "akemi"}
+  };
+
+  /**
+   * 居住地域（都道府県＋市区町村）の候補です。
+   */
+  private static final String[] CITIES = {
+      "東京都港区", "東京都新宿区", "東京都世田谷区", "東京都江東区", "神奈川県横浜市", "大阪府大阪市",
+      "愛知県名古屋市", "北海道札幌市", "福岡県福岡市", "神奈川県川崎市", "埼玉県さいたま市",
+      "兵庫県神戸市", "京都府京都市", "千葉県千葉市", "広島県広島市", "宮城県仙台市",
+      "静岡県浜松市", "新潟県新潟市", "熊本県熊本市", "岡山県岡山市", "沖縄県那覇市", "長野県松本市"
+  };
+
+  private JapaneseNames() {
+  }
+
+  static String[] surname(SplittableRandom random) {
+    return pick(SURNAMES, random);
+  }
+
+  static String[] givenName(SplittableRandom random, boolean female) {
+    return pick(female ? FEMALE_GIVEN_NAMES : MALE_GIVEN_NAMES, random);
+  }
+
+  static String city(SplittableRandom random) {
+    return pick(CITIES, random);
+  }
+
+  /**
+   * 先頭ほど選ばれやすくなるよう、2つの一様乱数の小さい方の位置を選びます。
+   */
+  private static <T> T pick(T[] candidates, SplittableRandom random) {
+    return candidates[Math.min(random.nextInt(candidates.length),
+        random.nextInt(candidates.length))];
+  }
+}
@@ -0,0 +1,319 @@
+package portfolio.StudentManagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import portfolio.StudentManagement.StudentManagementApplication;
+import portfolio.StudentManagement.controller.StudentController;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.loadtest.RequestMix.Kind;
+
+/**
+ * REST APIに一定の到着率（--rate、1秒あたりのリクエスト数）でリクエストを送信し、リクエストの種類ごとの応答時間とスループットを出力する負荷試験ツールです。
+ * 前のリクエストの完了を待たずに予定の時刻に送信し（オープンモデル）、応答時間は送信予定の時刻から計測します。 サーバーが遅延した場合も送信間隔は変わらないため、待ち時間を含めた応答時間となります。
+ * 既定ではSyntheticDataGeneratorで合成データを登録したDBに接続してアプリケーションを同じプロセスで起動し、--base-url（http://localhost:8080 のようにREST APIのパス（/api）を含まないURL）を指定した場合は起動済みのアプリケーションに送信します。
+ * 同じプロセスで起動する場合は--virtual-threads=true|falseでリクエストを仮想スレッドとTomcatのスレッドプールのどちらで処理するかを切り替えられるため、同じ条件で両方を実行して比較してください。
+ * 結果はパーセンタイルの表として標準出力とレポート（--report-dir、既定はbuild/reports/loadtest）に出力し、応答時間の分布をリクエストの種類ごとに.hgrmファイルとして出力します。
+ *
+ * <pre>
+ * ./gradlew loadTest -PloadtestArgs="--rate=200 --duration-seconds=60 --mix=list:20,search:30,detail:35,update:10,transition:5"
+ * ./gradlew loadTest -PloadtestArgs="--rate=200 --duration-seconds=60 --virtual-threads=false --report-dir=build/reports/loadtest/platform"
+ * </pre>
+ */
+public class LoadTestHarness {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String API_PATH = "/api";
+  private static final int POOL_PAGE_SIZE = 500;
+  private static final int TRANSITION_COURSES = 5;
+  private static final Status[] TRANSITION_STATUSES = {Status.本申込, Status.受講中, Status.受講終了};
+
+  private final String baseUrl;
+  private final HttpClient httpClient;
+  private final Duration timeout;
+  private final int rate;
+  private final Duration warmup;
+  private final Duration duration;
+  private final int pageSize;
+  private final String mixDefinition;
+  private final RequestMix mix;
+  private final SplittableRandom random;
+  private final Path reportDir;
+  private final String virtualThreads;
+
+  private final List<ObjectNode> studentDetails = new ArrayList<>();
+  private final List<String> studentCourseIds = new ArrayList<>();
+  private final Map<Kind, EndpointStats> stats = new EnumMap<>(Kind.class);
+  private long updateCount;
+
+  LoadTestHarness(CommandLineOptions options, String baseUrl) {
+    this.baseUrl = baseUrl;
+    this.timeout = Duration.ofSeconds(options.getInt("timeout-seconds", 10));
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(timeout)
+        .build();
+    this.rate = options.getInt("rate", 100);
+    this.warmup = Duration.ofSeconds(options.getInt("warmup-seconds", 10));
+    this.duration = Duration.ofSeconds(options.getInt("duration-seconds", 60));
+    this.pageSize = options.getInt("page-size", 50);
+    this.mixDefinition = options.getString("mix", RequestMix.DEFAULT_MIX);
+    this.mix = new RequestMix(mixDefinition);
+    this.random = new SplittableRandom(options.getLong("seed", 42));
+    this.reportDir = Path.of(options.getString("report-dir", "build/reports/loadtest"));
+    this.virtualThreads = options.getString("virtual-threads", "default");
+    mix.kinds().forEach(kind -> stats.put(kind, new EndpointStats()));
+  }
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions options = new CommandLineOptions(args);
+    String baseUrl = options.getString("base-url", null);
+    ConfigurableApplicationContext context = null;
+    if (baseUrl == null) {
+      context = startApplication(options);
+      baseUrl = "http://localhost:"
+          + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+    try {
+      LoadTestHarness harness = new LoadTestHarness(options, baseUrl);
+      harness.loadTestData(options.getInt("pool-size", 20_000));
+      harness.run();
+      harness.report();
+    } finally {
+      if (context != null) {
+        context.close();
+      }
+    }
+  }
+
+  /**
+   * 合成データを登録したDBに接続して、アプリケーションを空いているポートで起動します。
+   * 設定はapplication.propertiesより優先させるため、コマンドライン引数として渡します。
+   */
+  static ConfigurableApplicationContext startApplication(CommandLineOptions options) {
+    String jdbcUrl = options.getString("jdbc-url", SyntheticDataGenerator.DEFAULT_JDBC_URL);
+    List<String> properties = new ArrayList<>(List.of(
+        "--server.port=0",
+        "--spring.datasource.url=" + jdbcUrl,
+        "--spring.datasource.username=" + options.getString("username", "sa"),
+        "--spring.datasource.password=" + options.getString("password", ""),
+        // 空にすることで、接続先のURLからドライバーを判定させます
+        "--spring.datasource.driver-class-name=",
+        // 計測中に定期実行の処理が動かないようにします
+        "--course-progression.cron=-",
+        "--student-archive.cron=-"));
+    if (jdbcUrl.startsWith("jdbc:h2:")) {
+      properties.add("--spring.flyway.placeholders.online-ddl=");
+    }
+    String virtualThreads = options.getString("virtual-threads", null);
+    if (virtualThreads != null) {
+      properties.add("--spring.threads.virtual.enabled=" + virtualThreads);
+    }
+    return new SpringApplicationBuilder(StudentManagementApplication.class)
+        .run(properties.toArray(String[]::new));
+  }
+
+  /**
+   * ID検索・更新で使用する受講生詳細と、申込状況の一括更新で使用する受講生コースIDを、受講生詳細のページ検索で先頭から取得します。
+   *
+   * @param poolSize 取得する受講生詳細の件数
+   */
+  void loadTestData(int poolSize) throws IOException, InterruptedException {
+    String after = null;
+    while (studentDetails.size() < poolSize) {
+      String query = "/students?limit=" + POOL_PAGE_SIZE
+          + (after == null ? "" : "&after=" + encode(after));
+      HttpResponse<String> response = httpClient.send(get(query), BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException("受講生詳細を取得できませんでした: " + response.statusCode());
+      }
+      for (JsonNode studentDetail : OBJECT_MAPPER.readTree(response.body())) {
+        studentDetails.add((ObjectNode) studentDetail);
+        studentDetail.path("studentCourseList")
+            .forEach(studentCourse -> studentCourseIds.add(studentCourse.path("id").asText()));
+      }
+      after = response.headers().firstValue(StudentController.NEXT_CURSOR_HEADER).orElse(null);
+      if (after == null) {
+        break;
+      }
+    }
+    if (studentDetails.isEmpty() || studentCourseIds.isEmpty()) {
+      throw new IllegalStateException("受講生が登録されていません。先にgenerateDataで合成データを登録してください");
+    }
+    System.out.printf("受講生詳細 %,d 件、受講生コースID %,d 件を取得しました%n",
+        studentDetails.size(), studentCourseIds.size());
+  }
+
+  /**
+   * ウォームアップと計測の期間にわたって、一定間隔でリクエストを送信します。 ウォームアップ中の応答は集計しません。
+   * リクエストは予定の時刻に仮想スレッドで送信し、全ての応答を待ってから終了します。
+   */
+  void run() {
+    System.out.printf("%d req/s でウォームアップ %d 秒、計測 %d 秒のリクエストを送信します%n",
+        rate, warmup.toSeconds(), duration.toSeconds());
+    long start = System.nanoTime();
+    long measureFrom = start + warmup.toNanos();
+    long end = measureFrom + duration.toNanos();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long i = 0; ; i++) {
+        long scheduledAt = start + i * TimeUnit.SECONDS.toNanos(1) / rate;
+        if (scheduledAt >= end) {
+          break;
+        }
+        Kind kind = mix.pick(random);
+        HttpRequest request = buildRequest(kind);
+        boolean measured = scheduledAt >= measureFrom;
+        while (System.nanoTime() < scheduledAt) {
+          LockSupport.parkNanos(scheduledAt - System.nanoTime());
+        }
+        executor.submit(() -> send(kind, request, scheduledAt, measured));
+      }
+    }
+  }
+
+  private void send(Kind kind, HttpRequest request, long scheduledAt, boolean measured) {
+    try {
+      HttpResponse<Void> response = httpClient.send(request, BodyHandlers.discarding());
+      long latencyNanos = System.nanoTime() - scheduledAt;
+      if (!measured) {
+        return;
+      }
+      if (response.statusCode() / 100 == 2) {
+        stats.get(kind).recordSuccess(latencyNanos);
+      } else {
+        stats.get(kind).recordError();
+      }
+    } catch (IOException e) {
+      if (measured) {
+        stats.get(kind).recordError();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * リクエストの種類に応じたリクエストを組み立てます。 同じシードであれば同じ順序で同じリクエストを組み立てます。
+   */
+  private HttpRequest buildRequest(Kind kind) {
+    return switch (kind) {
+      case LIST -> get("/students?limit=" + pageSize);
+      case SEARCH -> {
+        int minAge = 18 + random.nextInt(20);
+        yield get("/students?limit=" + pageSize
+            + "&fullName=" + encode(JapaneseNames.surname(random)[0])
+            + "&minAge=" + minAge + "&maxAge=" + (minAge + 10));
+      }
+      case DETAIL -> get("/students/" + studentId(randomStudentDetail()));
+      case UPDATE -> {
+        ObjectNode studentDetail = randomStudentDetail().deepCopy();
+        ((ObjectNode) studentDetail.get("student")).put("remark", "負荷試験 " + ++updateCount);
+        yield HttpRequest.newBuilder(uri("/students/" + studentId(studentDetail)))
+            .timeout(timeout)
+            .header("Content-Type", "application/json")
+            .method("PATCH", BodyPublishers.ofString(studentDetail.toString()))
+            .build();
+      }
+      case TRANSITION -> {
+        ObjectNode body = OBJECT_MAPPER.createObjectNode();
+        ArrayNode ids = body.putArray("studentCourseIds");
+        for (int i = 0; i < TRANSITION_COURSES; i++) {
+          ids.add(studentCourseIds.get(random.nextInt(studentCourseIds.size())));
+        }
+        // 既に進んでいる受講生コース情報は更新されず、処理結果に理由が返ります
+        body.put("status",
+            TRANSITION_STATUSES[random.nextInt(TRANSITION_STATUSES.length)].name());
+        yield HttpRequest.newBuilder(uri("/students/courses/enrollment-status/bulk"))
+            .timeout(timeout)
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString(body.toString()))
+            .build();
+      }
+    };
+  }
+
+  /**
+   * リクエストの種類ごとの件数・エラー件数・スループット・応答時間のパーセンタイルを出力します。
+   */
+  void report() throws IOException {
+    Files.createDirectories(reportDir);
+    try (PrintStream report = new PrintStream(
+        Files.newOutputStream(reportDir.resolve("report.txt")), true, StandardCharsets.UTF_8)) {
+      String header = String.format("%-11s %9s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint", "count",
+          "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+      String conditions = String.format(
+          "rate=%d req/s, warmup=%ds, duration=%ds, mix=%s, virtual-threads=%s%n", rate,
+          warmup.toSeconds(), duration.toSeconds(), mixDefinition, virtualThreads);
+      for (PrintStream out : List.of(System.out, report)) {
+        out.print(conditions);
+        out.print(header);
+      }
+      for (Map.Entry<Kind, EndpointStats> entry : stats.entrySet()) {
+        EndpointStats endpoint = entry.getValue();
+        String line = String.format("%-11s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+            entry.getKey().label(), endpoint.count(), endpoint.errors(),
+            (double) endpoint.count() / duration.toSeconds(),
+            endpoint.percentileMillis(50), endpoint.percentileMillis(90),
+            endpoint.percentileMillis(99), endpoint.percentileMillis(99.9),
+            endpoint.maxMillis());
+        System.out.print(line);
+        report.print(line);
+        try (PrintStream hgrm = new PrintStream(Files.newOutputStream(
+            reportDir.resolve(entry.getKey().label() + ".hgrm")), true, StandardCharsets.UTF_8)) {
+          endpoint.writePercentileDistribution(hgrm);
+        }
+      }
+    }
+    System.out.println("レポートを出力しました: " + reportDir.toAbsolutePath());
+  }
+
+  EndpointStats stats(Kind kind) {
+    return stats.get(kind);
+  }
+
+  private ObjectNode randomStudentDetail() {
+    return studentDetails.get(random.nextInt(studentDetails.size()));
+  }
+
+  private static String studentId(JsonNode studentDetail) {
+    return studentDetail.path("student").path("id").asText();
+  }
+
+  private HttpRequest get(String pathAndQuery) {
+    return HttpRequest.newBuilder(uri(pathAndQuery)).timeout(timeout).GET().build();
+  }
+
+  private URI uri(String pathAndQuery) {
+    return URI.create(baseUrl + API_PATH + pathAndQuery);
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+}
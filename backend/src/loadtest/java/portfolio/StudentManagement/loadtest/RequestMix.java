@@ -0,0 +1,83 @@
+package portfolio.StudentManagement.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 負荷試験で送信するリクエストの種類と、その割合（--mix=list:20,search:30,... 形式）です。
+ */
+final class RequestMix {
+
+  /**
+   * リクエストの種類です。
+   */
+  enum Kind {
+    /**
+     * 受講生詳細の一覧（ページ検索の先頭ページ）
+     */
+    LIST,
+    /**
+     * 氏名と年齢の範囲を指定した受講生詳細のページ検索
+     */
+    SEARCH,
+    /**
+     * 受講生詳細のID検索
+     */
+    DETAIL,
+    /**
+     * 受講生詳細の更新（PATCH）
+     */
+    UPDATE,
+    /**
+     * 申込状況の一括更新
+     */
+    TRANSITION;
+
+    String label() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  static final String DEFAULT_MIX = "list:20,search:30,detail:35,update:10,transition:5";
+
+  private final Map<Kind, Integer> weights = new EnumMap<>(Kind.class);
+  private final int totalWeight;
+
+  RequestMix(String mix) {
+    for (String entry : mix.split(",")) {
+      String[] keyAndWeight = entry.trim().split(":");
+      if (keyAndWeight.length != 2) {
+        throw new IllegalArgumentException("割合はリクエストの種類:重みの形式で指定してください: " + entry);
+      }
+      weights.put(Kind.valueOf(keyAndWeight[0].trim().toUpperCase(Locale.ROOT)),
+          Integer.parseInt(keyAndWeight[1].trim()));
+    }
+    this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+    if (totalWeight <= 0) {
+      throw new IllegalArgumentException("割合の合計は1以上を指定してください: " + mix);
+    }
+  }
+
+  /**
+   * 割合に従ってリクエストの種類を選びます。
+   *
+   * @param random 乱数
+   * @return リクエストの種類
+   */
+  Kind pick(SplittableRandom random) {
+    int value = random.nextInt(totalWeight);
+    for (Map.Entry<Kind, Integer> entry : weights.entrySet()) {
+      value -= entry.getValue();
+      if (value < 0) {
+        return entry.getKey();
+      }
+    }
+    throw new IllegalStateException();
+  }
+
+  Iterable<Kind> kinds() {
+    return weights.keySet();
+  }
+}
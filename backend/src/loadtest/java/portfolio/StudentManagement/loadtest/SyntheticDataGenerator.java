@@ -0,0 +1,245 @@
+package portfolio.StudentManagement.loadtest;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+
+/**
+ * 負荷試験用の受講生・受講生コース情報・申込状況を生成してDBに登録するツールです。
+ * 同じシードと件数を指定すれば同じデータを生成します。 申込状況は基準日時（--reference-date）時点の状態になるよう、仮申込から順に履歴を作成します。
+ * 受講生ごとの受講生コース情報の件数は平均が--courses-per-studentとなるようにばらつかせ、申込状況は受講生コース情報1件あたり平均3〜4件となります。
+ * 既定の登録先はH2のファイルDB（build/loadtest/students）です。 --migrateを指定した場合は、登録前にFlywayでテーブルを作成します。
+ * MySQLに登録する場合は、バッチを複数行のINSERTにまとめるよう接続先にrewriteBatchedStatements=trueを指定してください。
+ *
+ * <pre>
+ * ./gradlew generateData -PloadtestArgs="--students=1000000 --seed=42 --migrate"
+ * ./gradlew generateData -PloadtestArgs="--jdbc-url=jdbc:mysql://localhost:3306/StudentManagement?rewriteBatchedStatements=true --username=root --password=rootroot"
+ * </pre>
+ */
+public class SyntheticDataGenerator {
+
+  static final String DEFAULT_JDBC_URL = "jdbc:h2:file:./build/loadtest/students;MODE=MySQL";
+
+  private static final String[] COURSE_NAMES = {
+      "Javaフルコース", "AWSフルコース", "デザインコース", "Webマーケティングコース", "フロントエンドコース",
+      "Pythonコース", "データサイエンスコース", "映像編集コース", "英会話コース", "Webライティングコース"
+  };
+
+  private static final String[] REMARKS = {
+      "優秀な学生です", "入院のため利用休止中", "転職活動中", "リーダーシップあり", "オンライン受講を希望",
+      "平日夜のみ受講可能", "法人契約"
+  };
+
+  private static final String[] STATUSES = {"仮申込", "本申込", "受講中", "受講終了"};
+
+  private final String jdbcUrl;
+  private final String username;
+  private final String password;
+  private final int studentCount;
+  private final int coursesPerStudent;
+  private final long seed;
+  private final int batchSize;
+  private final LocalDateTime referenceDate;
+
+  private long courseCount;
+  private long statusCount;
+
+  SyntheticDataGenerator(CommandLineOptions options) {
+    this.jdbcUrl = options.getString("jdbc-url", DEFAULT_JDBC_URL);
+    this.username = options.getString("username", "sa");
+    this.password = options.getString("password", "");
+    this.studentCount = options.getInt("students", 1_000_000);
+    this.coursesPerStudent = options.getInt("courses-per-student", 3);
+    this.seed = options.getLong("seed", 42);
+    this.batchSize = options.getInt("batch-size", 1000);
+    this.referenceDate = LocalDateTime.parse(
+        options.getString("reference-date", "2025-04-01T00:00:00"));
+  }
+
+  public static void main(String[] args) throws SQLException {
+    CommandLineOptions options = new CommandLineOptions(args);
+    SyntheticDataGenerator generator = new SyntheticDataGenerator(options);
+    if (options.getBoolean("migrate")) {
+      generator.migrate();
+    }
+    generator.load();
+  }
+
+  /**
+   * Flywayでテーブルを作成します。 空のDBに作成するため、オンラインでのインデックス作成の指定は行いません。
+   */
+  void migrate() {
+    Flyway.configure()
+        .dataSource(jdbcUrl, username, password)
+        .locations("classpath:db/migration")
+        .placeholders(Map.of("online-ddl", ""))
+        .load()
+        .migrate();
+  }
+
+  /**
+   * 受講生を生成し、一定件数（--batch-size）ごとに受講生・受講生コース情報・申込状況の順にバッチで登録してコミットします。
+   */
+  void load() throws SQLException {
+    long started = System.nanoTime();
+    try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+      connection.setAutoCommit(false);
+      if (jdbcUrl.startsWith("jdbc:mysql:")) {
+        // 生成するデータは一意性と参照整合性を満たしているため、登録中の検査を省略します
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("SET unique_checks = 0");
+          statement.execute("SET foreign_key_checks = 0");
+        }
+      }
+
+      try (PreparedStatement students = connection.prepareStatement("""
+          INSERT INTO students (id, full_name, kana, nick_name, email, city, age, gender, remark,
+            is_deleted, deleted_at)
+          VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""");
+          PreparedStatement courses = connection.prepareStatement("""
+              INSERT INTO students_courses (id, student_id, course_name, start_date, end_date,
+                current_status_id, current_status)
+              VALUES (?, ?, ?, ?, ?, ?, ?)""");
+          PreparedStatement statuses = connection.prepareStatement("""
+              INSERT INTO enrollment_statuses (id, student_course_id, status, created_at)
+              VALUES (?, ?, ?, ?)""")) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < studentCount; i++) {
+          addStudent(i, random, students, courses, statuses);
+          if ((i + 1) % batchSize == 0 || i == studentCount - 1) {
+            students.executeBatch();
+            courses.executeBatch();
+            statuses.executeBatch();
+            connection.commit();
+          }
+          if ((i + 1) % 100_000 == 0) {
+            System.out.printf("%,d / %,d 件の受講生を登録しました%n", i + 1, studentCount);
+          }
+        }
+      }
+    }
+    System.out.printf("受講生 %,d 件、受講生コース情報 %,d 件、申込状況 %,d 件を %,d 秒で登録しました%n",
+        studentCount, courseCount, statusCount,
+        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+  }
+
+  /**
+   * 受講生1名と、その受講生コース情報・申込状況をバッチに追加します。 受講生は番号順に基準日時までの3年間に登録したものとし、IDも登録日時の順に並びます。
+   */
+  private void addStudent(int index, SplittableRandom random, PreparedStatement students,
+      PreparedStatement courses, PreparedStatement statuses) throws SQLException {
+    LocalDateTime windowStart = referenceDate.minusYears(3);
+    long windowMillis = Duration.between(windowStart, referenceDate).toMillis();
+    LocalDateTime registeredAt = windowStart.plus(
+        Duration.ofMillis(windowMillis * index / studentCount));
+
+    int genderRoll = random.nextInt(100);
+    String gender = genderRoll < 48 ? "Male" : genderRoll < 96 ? "Female"
+        : genderRoll < 97 ? "NON_BINARY" : "Unspecified";
+    boolean female = gender.equals("Female")
+        || !gender.equals("Male") && random.nextBoolean();
+    String[] surname = JapaneseNames.surname(random);
+    String[] givenName = JapaneseNames.givenName(random, female);
+    boolean deleted = random.nextInt(100) < 2;
+
+    byte[] studentId = uuidV7(registeredAt, random);
+    students.setBytes(1, studentId);
+    students.setString(2, surname[0] + " " + givenName[0]);
+    students.setString(3, surname[1] + " " + givenName[1]);
+    students.setString(4, random.nextInt(100) < 30 ? givenName[1] + "ちゃん" : "");
+    // 番号を含めることで、メールアドレスの一意制約を満たします
+    students.setString(5, givenName[2] + "." + surname[2] + "." + index + "@example.com");
+    students.setString(6, JapaneseNames.city(random));
+    students.setInt(7, 18 + random.nextInt(12) + random.nextInt(20));
+    students.setString(8, gender);
+    students.setString(9, random.nextInt(100) < 20 ? REMARKS[random.nextInt(REMARKS.length)] : "");
+    students.setBoolean(10, deleted);
+    students.setTimestamp(11, deleted
+        ? Timestamp.valueOf(between(registeredAt, referenceDate, random)) : null);
+    students.addBatch();
+
+    int courseCountOfStudent = 1 + random.nextInt(2 * coursesPerStudent - 1);
+    LocalDateTime appliedAt = registeredAt;
+    for (int j = 0; j < courseCountOfStudent; j++) {
+      addCourse(studentId, appliedAt, random, courses, statuses);
+      // 次の受講生コース情報は、基準日時を越えない範囲で後から申し込んだものとします
+      long remainingDays = Duration.between(appliedAt, referenceDate).toDays();
+      appliedAt = appliedAt.plusDays(Math.min(30 + random.nextInt(180), remainingDays / 2));
+    }
+  }
+
+  /**
+   * 受講生コース情報1件と、基準日時までに進んだ申込状況の履歴をバッチに追加します。 開始日・終了日を過ぎても進んでいない受講生コース情報を一部に含めます。
+   */
+  private void addCourse(byte[] studentId, LocalDateTime appliedAt, SplittableRandom random,
+      PreparedStatement courses, PreparedStatement statuses) throws SQLException {
+    LocalDateTime startDate = appliedAt.plusDays(30 + random.nextInt(60)).withHour(9)
+        .withMinute(0).withSecond(0).withNano(0);
+    LocalDateTime endDate = startDate.plusMonths(3 + random.nextInt(10)).withHour(17);
+
+    List<LocalDateTime> history = new ArrayList<>(STATUSES.length);
+    history.add(appliedAt);
+    LocalDateTime confirmedAt = appliedAt.plusDays(3 + random.nextInt(18));
+    if (!confirmedAt.isAfter(referenceDate)
+        && (!startDate.isAfter(referenceDate) || random.nextInt(100) < 80)) {
+      history.add(confirmedAt);
+      if (!startDate.isAfter(referenceDate) && random.nextInt(100) < 95) {
+        history.add(startDate);
+        if (!endDate.isAfter(referenceDate) && random.nextInt(100) < 95) {
+          history.add(endDate);
+        }
+      }
+    }
+
+    byte[] courseId = uuidV7(appliedAt, random);
+    byte[] currentStatusId = null;
+    for (int step = 0; step < history.size(); step++) {
+      currentStatusId = uuidV7(history.get(step), random);
+      statuses.setBytes(1, currentStatusId);
+      statuses.setBytes(2, courseId);
+      statuses.setString(3, STATUSES[step]);
+      statuses.setTimestamp(4, Timestamp.valueOf(history.get(step)));
+      statuses.addBatch();
+    }
+    statusCount += history.size();
+
+    courses.setBytes(1, courseId);
+    courses.setBytes(2, studentId);
+    courses.setString(3, COURSE_NAMES[random.nextInt(COURSE_NAMES.length)]);
+    courses.setTimestamp(4, Timestamp.valueOf(startDate));
+    courses.setTimestamp(5, Timestamp.valueOf(endDate));
+    courses.setBytes(6, currentStatusId);
+    courses.setString(7, STATUSES[history.size() - 1]);
+    courses.addBatch();
+    courseCount++;
+  }
+
+  /**
+   * 指定日時のタイムスタンプと乱数から、UUID（バージョン7）のバイト列を生成します。 並びはUuidBinaryTypeHandlerで変換した場合と同じです。
+   */
+  private static byte[] uuidV7(LocalDateTime timestamp, SplittableRandom random) {
+    long epochMillis = timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+    long mostSigBits = (epochMillis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+    long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return ByteBuffer.allocate(16).putLong(mostSigBits).putLong(leastSigBits).array();
+  }
+
+  private static LocalDateTime between(LocalDateTime from, LocalDateTime to,
+      SplittableRandom random) {
+    long millis = Duration.between(from, to).toMillis();
+    return millis <= 0 ? from : from.plus(Duration.ofMillis(random.nextLong(millis)));
+  }
+}
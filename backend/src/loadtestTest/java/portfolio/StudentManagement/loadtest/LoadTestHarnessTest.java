@@ -0,0 +1,62 @@
+package portfolio.StudentManagement.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import portfolio.StudentManagement.loadtest.RequestMix.Kind;
+
+/**
+ * 少量の合成データを登録したH2のインメモリDBでアプリケーションを起動し、負荷試験ツールを短時間実行するスモークテストです。
+ */
+class LoadTestHarnessTest {
+
+  private static final String JDBC_URL =
+      "jdbc:h2:mem:loadtest-smoke;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+  private static ConfigurableApplicationContext context;
+  private static String baseUrl;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    SyntheticDataGenerator generator = new SyntheticDataGenerator(new CommandLineOptions(
+        new String[]{"--jdbc-url=" + JDBC_URL, "--students=30", "--courses-per-student=2"}));
+    generator.migrate();
+    generator.load();
+
+    context = LoadTestHarness.startApplication(
+        new CommandLineOptions(new String[]{"--jdbc-url=" + JDBC_URL}));
+    baseUrl = "http://localhost:"
+        + ((WebServerApplicationContext) context).getWebServer().getPort();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    if (context != null) {
+      context.close();
+    }
+  }
+
+  @Test
+  void 実行_合成データを登録したDBの場合_全てのリクエストの種類で成功した応答が記録されること()
+      throws Exception {
+    // 準備
+    LoadTestHarness sut = new LoadTestHarness(new CommandLineOptions(new String[]{
+        "--rate=20", "--warmup-seconds=0", "--duration-seconds=3", "--seed=42",
+        "--mix=list:1,search:1,detail:1,update:1,transition:1"}), baseUrl);
+
+    // 実行
+    sut.loadTestData(100);
+    sut.run();
+
+    // 検証
+    for (Kind kind : Kind.values()) {
+      assertThat(sut.stats(kind).count())
+          .as("%sの成功した応答の件数", kind.label())
+          .isPositive();
+    }
+  }
+}
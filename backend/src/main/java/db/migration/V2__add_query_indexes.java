@@ -0,0 +1,79 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * マッパーのクエリが使用するインデックスを追加するマイグレーションです（MapperQueryPlanTestで全てのクエリがインデックスを使用することを確認しています）。
+ * Flyway導入前のDBには手順に従って手動で作成したインデックスが残っている場合があるため、同じ名前のインデックスが既に存在する場合は作成しません。
+ * MySQLではプレースホルダー（online-ddl）にALGORITHM=INPLACE LOCK=NONEを指定し、テーブルをロックせずにインデックスを作成します。 オンラインで作成できない場合は、テーブルをロックせずにエラーとなります。
+ */
+public class V2__add_query_indexes extends BaseJavaMigration {
+
+  private static final List<QueryIndex> INDEXES = List.of(
+      // 受講生の一覧・ページ検索（論理削除されていない受講生を氏名とIDの順に取得）
+      new QueryIndex("idx_students_is_deleted_full_name_id", "students",
+          "is_deleted, full_name, id"),
+      // 受講生IDによる受講生コース情報の検索、受講生詳細の結合
+      new QueryIndex("idx_students_courses_student_id", "students_courses", "student_id"),
+      // 受講生コース情報IDによる最新の申込状況の検索
+      new QueryIndex("idx_enrollment_statuses_student_course_id_created_at",
+          "enrollment_statuses", "student_course_id, created_at"),
+      // 申込状況の全件検索（登録日時の順に取得）
+      new QueryIndex("idx_enrollment_statuses_created_at", "enrollment_statuses", "created_at"));
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    String onlineDdl = context.getConfiguration().getPlaceholders()
+        .getOrDefault("online-ddl", "");
+    try (Statement statement = connection.createStatement()) {
+      for (QueryIndex index : INDEXES) {
+        if (!exists(connection, index)) {
+          statement.execute("CREATE INDEX " + index.name() + " ON " + index.table()
+              + " (" + index.columns() + ") " + onlineDdl);
+        }
+      }
+    }
+  }
+
+  /**
+   * テーブルに同じ名前のインデックスが存在するか確認します。 H2は名前を大文字で保持するため、DBに合わせてテーブル名を変換し、インデックス名は大文字小文字を区別せずに比較します。
+   *
+   * @param connection 接続
+   * @param index      作成するインデックス
+   * @return 同じ名前のインデックスが存在する場合はtrue
+   */
+  private boolean exists(Connection connection, QueryIndex index) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    String table = metaData.storesUpperCaseIdentifiers()
+        ? index.table().toUpperCase(Locale.ROOT) : index.table();
+    try (ResultSet indexInfo = metaData.getIndexInfo(connection.getCatalog(),
+        connection.getSchema(), table, false, false)) {
+      while (indexInfo.next()) {
+        if (index.name().equalsIgnoreCase(indexInfo.getString("INDEX_NAME"))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 作成するインデックスです。
+   *
+   * @param name    インデックス名
+   * @param table   テーブル名
+   * @param columns カンマ区切りのカラム
+   */
+  private record QueryIndex(String name, String table, String columns) {
+
+  }
+}
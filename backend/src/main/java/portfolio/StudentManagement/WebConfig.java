@@ -3,6 +3,7 @@ package portfolio.StudentManagement;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import portfolio.StudentManagement.controller.StudentController;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -18,6 +19,7 @@ public class WebConfig implements WebMvcConfigurer {
         .allowedOriginPatterns("https://*-omi354s-projects.vercel.app")
         .allowedMethods("*")
         .allowedHeaders("*")
+        .exposedHeaders(StudentController.NEXT_CURSOR_HEADER)
         .allowCredentials(true);
   }
 }
\ No newline at end of file
@@ -3,16 +3,25 @@ package portfolio.StudentManagement.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,19 +29,35 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import portfolio.StudentManagement.data.EnrollmentStatus;
 import portfolio.StudentManagement.data.EnrollmentStatus.Status;
 import portfolio.StudentManagement.data.ErrorResponse;
 import portfolio.StudentManagement.data.Student.Gender;
+import portfolio.StudentManagement.domain.EnrollmentStatusTransitionRequest;
+import portfolio.StudentManagement.domain.EnrollmentStatusTransitionResult;
+import portfolio.StudentManagement.domain.StudentBatchResult;
+import portfolio.StudentManagement.domain.StudentCursor;
 import portfolio.StudentManagement.domain.StudentDetail;
+import portfolio.StudentManagement.domain.StudentDetailPage;
+import portfolio.StudentManagement.domain.StudentImportResult;
 import portfolio.StudentManagement.exception.EnrollmentStatusBadRequestException;
+import portfolio.StudentManagement.exception.EnrollmentStatusConflictException;
 import portfolio.StudentManagement.exception.EnrollmentStatusNotFoundException;
 import portfolio.StudentManagement.exception.InvalidRequestException;
 import portfolio.StudentManagement.exception.StudentCourseNotFoundException;
 import portfolio.StudentManagement.exception.StudentNotFoundException;
+import portfolio.StudentManagement.service.StudentBatchService;
+import portfolio.StudentManagement.service.StudentExportService;
+import portfolio.StudentManagement.service.StudentImportService;
 import portfolio.StudentManagement.service.StudentService;
 
 /**
@@ -43,22 +68,48 @@ import portfolio.StudentManagement.service.StudentService;
 @RequestMapping("/api")
 public class StudentController {
 
+  /**
+   * 次のページのカーソルを返却するレスポンスヘッダー名です。
+   */
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  private static final int DEFAULT_PAGE_SIZE = 100;
+  private static final int MAX_PAGE_SIZE = 1000;
+  private static final int MAX_BATCH_SIZE = 5000;
+  private static final String TEXT_CSV_VALUE = "text/csv";
+  private static final String EXPORT_TIMEOUT_INTERCEPTOR_KEY = "studentExportTimeout";
+
   private StudentService service;
+  private StudentBatchService batchService;
+  private StudentImportService importService;
+  private StudentExportService exportService;
+  private Duration exportTimeout;
 
   /**
    * コンストラクタ
    *
-   * @param service 受講生サービス
+   * @param service       受講生サービス
+   * @param batchService  受講生一括登録サービス
+   * @param importService 受講生一括取込サービス
+   * @param exportService 受講生詳細エクスポートサービス
+   * @param exportTimeout 受講生詳細エクスポートの非同期処理のタイムアウト
    */
   @Autowired
-  public StudentController(StudentService service) {
+  public StudentController(StudentService service, StudentBatchService batchService,
+      StudentImportService importService, StudentExportService exportService,
+      @Value("${student-export.timeout:30m}") Duration exportTimeout) {
     this.service = service;
+    this.batchService = batchService;
+    this.importService = importService;
+    this.exportService = exportService;
+    this.exportTimeout = exportTimeout;
   }
 
   /**
    * 受講生詳細検索。クエリパラメータを使用しない場合は全件検索を行います。 statusパラメータとして申込状況を指定すると、該当する申込状況の受講生詳細を検索します。
    * Studentフィールドの項目に対してパラメータとして検索条件を指定すると、該当する受講生詳細を検索します。
-   * 申込状況とStudentフィールドのパラメータを同時に指定することは出来ません。
+   * 申込状況とStudentフィールドのパラメータを同時に指定することは出来ません。 afterまたはlimitを指定した場合は氏名順のページ検索となり、
+   * 続きが存在する場合は次のページのカーソルをX-Next-Cursorヘッダーに設定して返します。
    *
    * @param status   申込状況のステータス（例: "仮申込", "本申込", "受講中", "受講終了"）、非必須
    * @param fullName 受講生氏名、部分一致で検索可能、非必須
@@ -70,6 +121,8 @@ public class StudentController {
    * @param maxAge   検索対象の最大年齢、非必須。0以上の整数で指定。
    * @param gender   受講生性別（例: "Male", "Female", "NON_BINARY", "Unspecified"）、非必須
    * @param remark   受講生備考、部分一致で検索可能、非必須
+   * @param after    前のページのレスポンスで返されたカーソル、非必須
+   * @param limit    1ページあたりの件数、非必須。1以上1000以下の整数で指定。
    * @return 受講生詳細のリスト
    * @throws InvalidRequestException リクエストパラメータに関する例外処理
    */
@@ -78,7 +131,9 @@ public class StudentController {
       description = "受講生詳細の一覧を検索します。クエリパラメータ `status` を指定しない場合、全件検索を行います。"
           + "クエリパラメータ `status` を指定すると、そのステータスに該当する受講生詳細を検索します。"
           + "クエリパラメーターとしてStudentフィールドの項目を指定すると、条件に該当する受講生詳細を検索します。"
-          + "`status`の指定と、Studentフィールドの項目を同時に指定することは出来ません。",
+          + "`status`の指定と、Studentフィールドの項目を同時に指定することは出来ません。"
+          + "`after`または`limit`を指定すると氏名順のページ検索となり、続きが存在する場合は次のページのカーソルを"
+          + "`X-Next-Cursor`ヘッダーで返します。",
       parameters = {
           @Parameter(
               name = "status",
@@ -139,12 +194,29 @@ public class StudentController {
               description = "受講生備考。部分一致で検索可能。",
               required = false,
               schema = @Schema(type = "string")
+          ),
+          @Parameter(
+              name = "after",
+              description = "前のページのレスポンスの`X-Next-Cursor`ヘッダーで返されたカーソル。",
+              required = false,
+              schema = @Schema(type = "string")
+          ),
+          @Parameter(
+              name = "limit",
+              description = "1ページあたりの件数。1以上1000以下の整数を指定します。`after`のみ指定した場合は100件です。",
+              required = false,
+              schema = @Schema(type = "integer", format = "int32", minimum = "1", maximum = "1000")
           )
       },
       responses = {
           @ApiResponse(
               responseCode = "200",
               description = "検索結果としての受講生詳細のリスト",
+              headers = @Header(
+                  name = NEXT_CURSOR_HEADER,
+                  description = "次のページのカーソル。ページ検索で続きが存在する場合のみ設定されます。",
+                  schema = @Schema(type = "string")
+              ),
               content = @Content(mediaType = "application/json",
                   array = @ArraySchema(schema = @Schema(implementation = StudentDetail.class))
               )
@@ -153,7 +225,8 @@ public class StudentController {
               responseCode = "400",
               description = "不正なクエリパラメータ。以下のケースが考えられます:\n"
                   + "1. `status`と他の検索条件が同時に指定されている\n"
-                  + "2. `minAge`と`maxAge`の範囲が逆転している、または負の値が指定されている",
+                  + "2. `minAge`と`maxAge`の範囲が逆転している、または負の値が指定されている\n"
+                  + "3. `after`または`limit`の指定が無効である",
               content = @Content(
                   mediaType = "application/json",
                   schema = @Schema(implementation = ErrorResponse.class)
@@ -162,7 +235,8 @@ public class StudentController {
       }
   )
   @GetMapping("/students")
-  public List<StudentDetail> getStudentList(@RequestParam(required = false) Status status,
+  public ResponseEntity<List<StudentDetail>> getStudentList(
+      @RequestParam(required = false) Status status,
       @RequestParam(required = false) String fullName,
       @RequestParam(required = false) String kana,
       @RequestParam(required = false) String nickName,
@@ -171,17 +245,19 @@ public class StudentController {
       @RequestParam(required = false) Integer minAge,
       @RequestParam(required = false) Integer maxAge,
       @RequestParam(required = false) Gender gender,
-      @RequestParam(required = false) String remark) throws InvalidRequestException {
+      @RequestParam(required = false) String remark,
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer limit) throws InvalidRequestException {
 
     if (Objects.nonNull(status) && (Stream.of(fullName, kana, nickName, email, city, minAge, maxAge,
             gender,
-            remark)
+            remark, after, limit)
         .anyMatch(Objects::nonNull))) {
       throw new InvalidRequestException(
           "申込状況とその他の検索条件を同時に指定することは出来ません");
     }
     if (Objects.nonNull(status)) {
-      return service.getStudentDetailListByStatus(status);
+      return ResponseEntity.ok(service.getStudentDetailListByStatus(status));
     }
 
     if (
@@ -192,8 +268,95 @@ public class StudentController {
       throw new InvalidRequestException(
           "minAgeとmaxAgeの指定が無効です: 範囲が逆、または負の値が指定されています");
     }
-    return service.getStudentDetailList(fullName, kana, nickName, email, city, minAge, maxAge,
-        gender, remark);
+    if (Objects.isNull(after) && Objects.isNull(limit)) {
+      return ResponseEntity.ok(service.getStudentDetailList(fullName, kana, nickName, email, city,
+          minAge, maxAge, gender, remark));
+    }
+
+    if (Objects.nonNull(limit) && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+      throw new InvalidRequestException(
+          "limitの指定が無効です: 1以上" + MAX_PAGE_SIZE + "以下の値を指定してください");
+    }
+    StudentCursor cursor = Objects.nonNull(after) ? StudentCursor.decode(after) : null;
+    int pageSize = Objects.nonNull(limit) ? limit : DEFAULT_PAGE_SIZE;
+
+    StudentDetailPage page = service.getStudentDetailPage(fullName, kana, nickName, email, city,
+        minAge, maxAge, gender, remark, cursor, pageSize);
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+    if (Objects.nonNull(page.getNextCursor())) {
+      response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+    }
+    return response.body(page.getStudentDetailList());
+  }
+
+  /**
+   * 論理削除されていない全ての受講生詳細をエクスポートします。 受講生詳細はDBから1件ずつ読み出しながらレスポンスに書き込むため、全件をメモリに保持しません。
+   * クライアントが切断した場合は、その時点で読み出しを中断します。 件数に応じて時間がかかるため、このリクエストの非同期処理のみタイムアウトをエクスポート用の時間（student-export.timeout）に延ばします。
+   *
+   * @param format     出力形式、csvまたはndjson、非必須（デフォルトはndjson）
+   * @param webRequest 非同期処理のタイムアウトを設定するリクエスト
+   * @return 受講生詳細を書き込むレスポンスボディ
+   */
+  @Operation(
+      summary = "受講生詳細のエクスポート",
+      description = "論理削除されていない全ての受講生詳細をCSVまたはNDJSONで出力します。"
+          + "CSVは1行が受講生1名とその受講生コース情報1件に対応し、受講生一括取込のCSVとしてそのまま使用できます。"
+          + "NDJSONは1行が受講生詳細1件に対応します。",
+      parameters = {
+          @Parameter(
+              name = "format",
+              description = "出力形式（\"csv\"または\"ndjson\"）。指定しない場合はndjsonです。",
+              required = false,
+              schema = @Schema(type = "string", allowableValues = {"csv", "ndjson"})
+          )
+      },
+      responses = {
+          @ApiResponse(
+              responseCode = "200", description = "受講生詳細のCSVまたはNDJSON",
+              content = {
+                  @Content(mediaType = TEXT_CSV_VALUE, schema = @Schema(type = "string")),
+                  @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                      schema = @Schema(implementation = StudentDetail.class))
+              }
+          ),
+          @ApiResponse(
+              responseCode = "400", description = "出力形式の指定が誤っていた際のバリデーションエラー",
+              content = @Content(
+                  mediaType = "application/json",
+                  schema = @Schema(implementation = ErrorResponse.class)
+              )
+          )
+      }
+  )
+  @GetMapping("/students/export")
+  public ResponseEntity<StreamingResponseBody> exportStudents(
+      @RequestParam(defaultValue = "ndjson") @Pattern(regexp = "csv|ndjson") String format,
+      NativeWebRequest webRequest) {
+    boolean csv = format.equals("csv");
+    WebAsyncUtils.getAsyncManager(webRequest)
+        .registerCallableInterceptor(EXPORT_TIMEOUT_INTERCEPTOR_KEY, exportTimeoutInterceptor());
+    StreamingResponseBody body = csv ? exportService::exportCsv : exportService::exportNdjson;
+    return ResponseEntity.ok()
+        .contentType(csv ? MediaType.parseMediaType(TEXT_CSV_VALUE + ";charset=UTF-8")
+            : MediaType.APPLICATION_NDJSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("students." + format).build().toString())
+        .body(body);
+  }
+
+  /**
+   * 非同期処理の開始前に、そのリクエストのタイムアウトをエクスポート用の時間に設定するインターセプターです。
+   * StreamingResponseBodyの非同期処理にはタイムアウトを指定できないため、リクエストごとに登録します。
+   *
+   * @return タイムアウトを設定するインターセプター
+   */
+  private CallableProcessingInterceptor exportTimeoutInterceptor() {
+    return new CallableProcessingInterceptor() {
+      @Override
+      public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        ((AsyncWebRequest) request).setTimeout(exportTimeout.toMillis());
+      }
+    };
   }
 
   /**
@@ -242,21 +405,22 @@ public class StudentController {
   )
   @GetMapping("/students/{id}")
   public StudentDetail getStudent(@PathVariable @Pattern(
-      regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[1-5][0-9a-fA-F]{3}-[89abAB][0-9a-fA-F]{3}-[0-9a-fA-F]{12}$")
+      regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[1-8][0-9a-fA-F]{3}-[89abAB][0-9a-fA-F]{3}-[0-9a-fA-F]{12}$")
   String id)
       throws StudentNotFoundException {
     return service.getStudentDetailById(id);
   }
 
   /**
-   * 受講生詳細を新規登録します。
+   * 受講生詳細を新規登録します。 受講生コース情報は複数指定でき、全件を登録します。
    *
    * @param studentDetail 受講生詳細
    * @return 処理結果
+   * @throws InvalidRequestException 受講生コース情報が指定されていない場合
    */
   @Operation(
       summary = "受講生登録",
-      description = "受講生を登録します",
+      description = "受講生を登録します。受講生コース情報は1件以上指定でき、指定した全ての受講生コース情報と申込状況をまとめて登録します",
       responses = {
           @ApiResponse(
               responseCode = "200", description = "ok",
@@ -283,12 +447,107 @@ public class StudentController {
   )
   @PostMapping("/students")
   public ResponseEntity<StudentDetail> registerStudent(
-      @RequestBody @Valid StudentDetail studentDetail) {
+      @RequestBody @Valid StudentDetail studentDetail) throws InvalidRequestException {
+    if (Objects.isNull(studentDetail.getStudentCourseList())
+        || studentDetail.getStudentCourseList().isEmpty()) {
+      throw new InvalidRequestException("受講生コース情報を1件以上指定してください");
+    }
     StudentDetail registeredStudentDetail = service.registerStudent(studentDetail);
     return ResponseEntity.ok(registeredStudentDetail);
   }
 
 
+  /**
+   * 受講生詳細を一括で新規登録します。 入力値が無効なものやメールアドレスが重複するものは登録せず、残りの受講生詳細の登録を継続します。
+   *
+   * @param studentDetailList 受講生詳細リスト
+   * @return 1件ごとの処理結果
+   * @throws InvalidRequestException 件数が0件または上限を超えている場合の例外処理
+   */
+  @Operation(
+      summary = "受講生一括登録",
+      description = "受講生を一括で登録します。受講生コース情報は全て登録されます。"
+          + "入力値が無効なもの、メールアドレスがリクエスト内または登録済みの受講生と重複するものは登録されず、"
+          + "1件ごとの処理結果にエラーとして返します。それ以外の受講生の登録は継続します。",
+      responses = {
+          @ApiResponse(
+              responseCode = "200", description = "1件ごとの処理結果",
+              content = @Content(
+                  mediaType = "application/json",
+                  schema = @Schema(implementation = StudentBatchResult.class)
+              )
+          ),
+          @ApiResponse(
+              responseCode = "400", description = "受講生詳細が0件、または5000件を超えている場合のエラー",
+              content = @Content(
+                  mediaType = "application/json",
+                  schema = @Schema(implementation = ErrorResponse.class)
+              )
+          )
+      },
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "新規登録したい受講生詳細のリスト（1件以上5000件以下）　※自動付与される項目は受講生登録と同様です",
+          required = true,
+          content = @Content(
+              array = @ArraySchema(schema = @Schema(implementation = StudentDetail.class))
+          )
+      )
+  )
+  @PostMapping("/students/batch")
+  public ResponseEntity<StudentBatchResult> registerStudents(
+      @RequestBody List<StudentDetail> studentDetailList) throws InvalidRequestException {
+    if (studentDetailList.isEmpty() || studentDetailList.size() > MAX_BATCH_SIZE) {
+      throw new InvalidRequestException(
+          "受講生詳細は1件以上" + MAX_BATCH_SIZE + "件以下で指定してください");
+    }
+    return ResponseEntity.ok(batchService.registerStudents(studentDetailList));
+  }
+
+  /**
+   * CSVまたはNDJSONのファイルから受講生を一括で取り込みます。 リクエストボディは全体を保持せず、先頭から読み込みながら一定件数ごとに登録します。
+   *
+   * @param contentType リクエストボディの形式、text/csvまたはapplication/x-ndjson
+   * @param body        リクエストボディの入力ストリーム
+   * @return 取込件数や除外件数、処理速度などの処理結果
+   * @throws IOException リクエストボディの読み込みに失敗した場合
+   */
+  @Operation(
+      summary = "受講生一括取込",
+      description = "CSVまたはNDJSONのファイルから受講生を一括で取り込みます。"
+          + "CSVは1行目をヘッダー行とし、fullName, kana, nickName, email, city, age, gender, courseName, statusの列を読み込みます。"
+          + "1行が受講生1名とその受講生コース情報1件に対応します。"
+          + "NDJSONは1行が受講生詳細1件に対応し、受講生登録と同じ形式で指定します。"
+          + "形式やバリデーションのエラー、メールアドレスの重複がある行は除外し、残りの行の取込を継続します。",
+      responses = {
+          @ApiResponse(
+              responseCode = "200", description = "取込件数や除外件数、処理速度などの処理結果",
+              content = @Content(
+                  mediaType = "application/json",
+                  schema = @Schema(implementation = StudentImportResult.class)
+              )
+          )
+      },
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "取り込むファイル（UTF-8）",
+          required = true,
+          content = {
+              @Content(mediaType = TEXT_CSV_VALUE, schema = @Schema(type = "string")),
+              @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                  schema = @Schema(type = "string"))
+          }
+      )
+  )
+  @PostMapping(value = "/students/import",
+      consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public ResponseEntity<StudentImportResult> importStudents(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body)
+      throws IOException {
+    if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+      return ResponseEntity.ok(importService.importNdjson(body));
+    }
+    return ResponseEntity.ok(importService.importCsv(body));
+  }
+
   /**
    * 受講生詳細を更新します。
    *
@@ -349,7 +608,7 @@ public class StudentController {
   @PatchMapping("/students/{id}")
   public ResponseEntity<String> updateStudent(
       @PathVariable @Pattern(
-          regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[1-5][0-9a-fA-F]{3}-[89abAB][0-9a-fA-F]{3}-[0-9a-fA-F]{12}$")
+          regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[1-8][0-9a-fA-F]{3}-[89abAB][0-9a-fA-F]{3}-[0-9a-fA-F]{12}$")
       String id,
       @RequestBody @Valid StudentDetail studentDetail)
       throws StudentNotFoundException, StudentCourseNotFoundException {
@@ -365,6 +624,7 @@ public class StudentController {
    * @return 処理結果
    * @throws EnrollmentStatusNotFoundException   受講生コースと正しく紐づいていない場合の例外処理
    * @throws EnrollmentStatusBadRequestException 後ろに戻るような更新の場合の例外処理
+   * @throws EnrollmentStatusConflictException   他の処理が先に申込状況を更新していた場合の例外処理
    */
   @Operation(
       summary = "申込状況更新",
@@ -393,6 +653,13 @@ public class StudentController {
                   mediaType = "application/json",
                   schema = @Schema(implementation = ErrorResponse.class)
               )
+          ),
+          @ApiResponse(
+              responseCode = "409", description = "ステータスの確認後に、他の処理（一括更新や自動更新など）が先に申込状況を更新していた場合の例外処理",
+              content = @Content(
+                  mediaType = "application/json",
+                  schema = @Schema(implementation = ErrorResponse.class)
+              )
           )
       },
       requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -405,9 +672,52 @@ public class StudentController {
   @PostMapping("/students/courses/enrollment-status")
   public ResponseEntity<String> updateEnrollmentStatus(
       @RequestBody EnrollmentStatus enrollmentStatus)
-      throws EnrollmentStatusNotFoundException, EnrollmentStatusBadRequestException {
+      throws EnrollmentStatusNotFoundException, EnrollmentStatusBadRequestException,
+      EnrollmentStatusConflictException {
     service.updateEnrollmentStatus(enrollmentStatus);
     return ResponseEntity.ok("ステータスの更新に成功しました");
   }
 
+  /**
+   * 複数の受講生コース情報の申込状況をまとめて更新します。 更新できない受講生コース情報があっても、残りの受講生コース情報の更新を継続します。
+   *
+   * @param request 受講生コースIDのリストと更新後の申込状況
+   * @return 受講生コース情報ごとの処理結果
+   */
+  @Operation(
+      summary = "申込状況一括更新",
+      description = "複数の受講生コース情報の申込状況を、指定したステータスにまとめて更新します。"
+          + "存在しない受講生コースIDや、申込状況を前に戻す・同じステータスにする変更は更新されず、"
+          + "受講生コース情報ごとの処理結果に理由を返します。それ以外の受講生コース情報の更新は継続します。",
+      responses = {
+          @ApiResponse(
+              responseCode = "200", description = "受講生コース情報ごとの処理結果、リクエストと同じ順序",
+              content = @Content(
+                  mediaType = "application/json",
+                  array = @ArraySchema(
+                      schema = @Schema(implementation = EnrollmentStatusTransitionResult.class))
+              )
+          ),
+          @ApiResponse(
+              responseCode = "400", description = "受講生コースIDが0件または1000件を超えている、ステータスが指定されていない場合のバリデーションエラー",
+              content = @Content(
+                  mediaType = "application/json",
+                  schema = @Schema(implementation = ErrorResponse.class)
+              )
+          )
+      },
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "更新したい受講生コースIDのリストと更新後の申込状況",
+          required = true,
+          content = @Content(
+              schema = @Schema(implementation = EnrollmentStatusTransitionRequest.class)
+          )
+      ))
+  @PostMapping("/students/courses/enrollment-status/bulk")
+  public ResponseEntity<List<EnrollmentStatusTransitionResult>> transitionEnrollmentStatuses(
+      @RequestBody @Valid EnrollmentStatusTransitionRequest request) {
+    return ResponseEntity.ok(service.transitionEnrollmentStatuses(request.getStudentCourseIds(),
+        request.getStatus()));
+  }
+
 }
@@ -1,8 +1,9 @@
 package portfolio.StudentManagement.controller.converter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 import portfolio.StudentManagement.data.Student;
 import portfolio.StudentManagement.data.StudentCourse;
@@ -16,7 +17,8 @@ import portfolio.StudentManagement.domain.StudentDetail;
 public class StudentConverter {
 
   /**
-   * 受講生に紐づく受講生コース情報をマッピングします。 受講生コース情報は受講生に対して複数存在するのでループを回して受講生詳細情報を組み立てます。
+   * 受講生に紐づく受講生コース情報をマッピングします。 受講生コース情報は受講生に対して複数存在するため、先に受講生IDごとにまとめてから受講生詳細情報を組み立てます。
+   * 受講生コース情報リストの走査は1回のみで、受講生詳細のリストは受講生リストと同じ順序で返します。
    *
    * @param studentList       受講生一覧（全件）
    * @param studentCourseList 受講生コース情報のリスト（全件）
@@ -24,17 +26,37 @@ public class StudentConverter {
    */
   public List<StudentDetail> getStudentDetailsList(List<Student> studentList,
       List<StudentCourse> studentCourseList) {
-    List<StudentDetail> studentDetailsList = new ArrayList<>();
+    Map<String, List<StudentCourse>> studentCourseMap = groupByStudentId(studentCourseList);
+
+    List<StudentDetail> studentDetailsList = new ArrayList<>(studentList.size());
     studentList.forEach(student -> {
       StudentDetail studentDetail = new StudentDetail();
       studentDetail.setStudent(student);
 
-      List<StudentCourse> convertedStudentCoursesList = studentCourseList.stream()
-          .filter(studentCourse -> student.getId().equals(studentCourse.getStudentId()))
-          .collect(Collectors.toList());
+      List<StudentCourse> convertedStudentCoursesList = new ArrayList<>(
+          studentCourseMap.getOrDefault(student.getId(), List.of()));
       studentDetail.setStudentCourseList(convertedStudentCoursesList);
       studentDetailsList.add(studentDetail);
     });
     return studentDetailsList;
   }
+
+  /**
+   * 受講生コース情報を受講生IDごとにまとめます。 各受講生のコースは元のリストでの順序を保ちます。 受講生IDを持たない受講生コース情報はどの受講生にも紐づかないため除外します。
+   *
+   * @param studentCourseList 受講生コース情報のリスト
+   * @return 受講生IDをキー、受講生コース情報のリストを値とするマップ
+   */
+  private Map<String, List<StudentCourse>> groupByStudentId(
+      List<StudentCourse> studentCourseList) {
+    Map<String, List<StudentCourse>> studentCourseMap = new HashMap<>();
+    for (StudentCourse studentCourse : studentCourseList) {
+      if (studentCourse.getStudentId() == null) {
+        continue;
+      }
+      studentCourseMap.computeIfAbsent(studentCourse.getStudentId(), key -> new ArrayList<>())
+          .add(studentCourse);
+    }
+    return studentCourseMap;
+  }
 }
@@ -33,6 +33,15 @@ public class EnrollmentStatus {
   public enum Status {
     仮申込, 本申込, 受講中, 受講終了;
 
+    /**
+     * このステータスから指定したステータスに変更できるか判定します。 申込状況は不可逆であるため、後ろのステータスへの変更のみ許可します。
+     *
+     * @param next 変更後のステータス
+     * @return 変更できる場合はtrue、同じステータスまたは前に戻る変更の場合はfalse
+     */
+    public boolean canTransitionTo(Status next) {
+      return ordinal() < next.ordinal();
+    }
   }
 
   @Override
@@ -0,0 +1,22 @@
+package portfolio.StudentManagement.data;
+
+import java.util.UUID;
+
+/**
+ * 受講生・受講生コース情報・申込状況のIDを生成する処理です。 使用する生成処理は{@link IdGenerators}で切り替えます。
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+  /**
+   * ランダムなUUID（バージョン4）を生成する処理です。
+   */
+  IdGenerator RANDOM_UUID = () -> UUID.randomUUID().toString();
+
+  /**
+   * 新しいIDを生成します。
+   *
+   * @return UUIDの文字列表現
+   */
+  String nextId();
+}
@@ -0,0 +1,33 @@
+package portfolio.StudentManagement.data;
+
+import java.util.Objects;
+
+/**
+ * IDの生成処理を保持するクラスです。 既定では時刻順に並ぶUUID（バージョン7）を生成します。
+ * 受講生ビルダー・受講生コースビルダー・各サービスは、ここで保持する生成処理でIDを付与します。
+ */
+public final class IdGenerators {
+
+  private static volatile IdGenerator generator = new UuidV7Generator();
+
+  private IdGenerators() {
+  }
+
+  /**
+   * 現在の生成処理で新しいIDを生成します。
+   *
+   * @return UUIDの文字列表現
+   */
+  public static String nextId() {
+    return generator.nextId();
+  }
+
+  /**
+   * 以降のIDの生成に使用する生成処理を切り替えます。 ベンチマークでUUIDのバージョンを比較する場合などに使用します。
+   *
+   * @param idGenerator 生成処理
+   */
+  public static void use(IdGenerator idGenerator) {
+    generator = Objects.requireNonNull(idGenerator);
+  }
+}
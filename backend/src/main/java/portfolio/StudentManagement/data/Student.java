@@ -6,7 +6,6 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import java.util.Objects;
-import java.util.UUID;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.validator.constraints.Range;
@@ -16,7 +15,7 @@ import org.hibernate.validator.constraints.Range;
 @Getter
 public class Student {
 
-  @Schema(description = "ID、UUIDを自動付与", example = "5998fd5d-a2cd-11ef-b71f-6845f15f510c")
+  @Schema(description = "ID、UUID（バージョン7）を自動付与", example = "5998fd5d-a2cd-11ef-b71f-6845f15f510c")
   private String id;
 
   @Schema(description = "氏名", example = "山田 太郎")
@@ -60,12 +59,12 @@ public class Student {
   }
 
   /**
-   * 受講生のコンストラクターです。 IDのみUUIDを自動付与し、それ以外のフィールドはStudentBuilder経由でインスタンス生成を行います。
+   * 受講生のコンストラクターです。 IDのみUUID（バージョン7）を自動付与し、それ以外のフィールドはStudentBuilder経由でインスタンス生成を行います。
    *
    * @param builder 受講生ビルダー
    */
   private Student(StudentBuilder builder) {
-    this.id = UUID.randomUUID().toString();
+    this.id = IdGenerators.nextId();
     this.fullName = builder.fullName;
     this.kana = builder.kana;
     this.nickName = builder.nickName;
@@ -5,7 +5,6 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 import java.util.Objects;
-import java.util.UUID;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -14,7 +13,7 @@ import lombok.NoArgsConstructor;
 @Getter
 public class StudentCourse {
 
-  @Schema(description = "ID、UUIDを自動付与", example = "78af6312-a2cd-11ef-b71f-6845f15f510c")
+  @Schema(description = "ID、UUID（バージョン7）を自動付与", example = "78af6312-a2cd-11ef-b71f-6845f15f510c")
   private String id;
 
   @Schema(description = "受講生ID、外部キー", example = "5998fd5d-a2cd-11ef-b71f-6845f15f510c")
@@ -35,12 +34,12 @@ public class StudentCourse {
   private EnrollmentStatus enrollmentStatus;
 
   /**
-   * 受講生コース情報のコンストラクターです。 UUIDを自動生成し、それ以外のフィールドについては受講生コースビルダーから情報を受け取ります。
+   * 受講生コース情報のコンストラクターです。 UUID（バージョン7）を自動生成し、それ以外のフィールドについては受講生コースビルダーから情報を受け取ります。
    *
    * @param builder 受講生コースビルダー
    */
   public StudentCourse(StudentCourseBuilder builder) {
-    this.id = UUID.randomUUID().toString();
+    this.id = IdGenerators.nextId();
     this.studentId = builder.studentId;
     this.courseName = builder.courseName;
     this.startDate = builder.startDate;
@@ -0,0 +1,84 @@
+package portfolio.StudentManagement.data;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 時刻順に並ぶUUID（RFC 9562のバージョン7）を生成する処理です。 先頭48ビットをミリ秒単位のUNIX時刻とするため、
+ * 続けて登録したレコードのIDは主キーのインデックス上で隣り合い、ランダムなUUIDのようにページ分割が散らばることはありません。
+ * 時刻に続く42ビットはスレッドごとのカウンターとし、同じミリ秒内に生成したIDもスレッド内では生成順に並びます。
+ * カウンターはミリ秒が変わるごとに乱数で初期化し、桁あふれした場合は時刻を1ミリ秒進めます。 時刻が戻った場合も、前回の時刻を使い続けて順序を保ちます。
+ * 乱数はThreadLocalRandomから取得するため、SecureRandomのようにスレッド間で競合しません。 その代わり、IDは推測が困難であることを前提としない用途に使用してください。
+ */
+public class UuidV7Generator implements IdGenerator {
+
+  private static final int COUNTER_BITS = 42;
+  private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+  private static final int COUNTER_LOW_BITS = 30;
+  private static final long COUNTER_LOW_MASK = (1L << COUNTER_LOW_BITS) - 1;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+
+  private final LongSupplier clock;
+  private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+  /**
+   * コンストラクタ。 時刻にはシステムのUNIX時刻を使用します。
+   */
+  public UuidV7Generator() {
+    this(System::currentTimeMillis);
+  }
+
+  /**
+   * 時刻を指定するコンストラクタです。
+   *
+   * @param clock UNIX時刻（ミリ秒）を返す処理
+   */
+  UuidV7Generator(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public String nextId() {
+    return nextUuid().toString();
+  }
+
+  /**
+   * 新しいUUIDを生成します。
+   *
+   * @return バージョン7のUUID
+   */
+  public UUID nextUuid() {
+    State current = state.get();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long now = clock.getAsLong();
+    if (now > current.millis) {
+      current.millis = now;
+      current.counter = randomCounter(random);
+    } else if (current.counter < COUNTER_MAX) {
+      current.counter++;
+    } else {
+      current.millis++;
+      current.counter = randomCounter(random);
+    }
+
+    long mostSigBits = (current.millis << 16) | VERSION | (current.counter >>> COUNTER_LOW_BITS);
+    long leastSigBits = VARIANT | ((current.counter & COUNTER_LOW_MASK) << 32)
+        | (random.nextInt() & 0xFFFFFFFFL);
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  /**
+   * カウンターの初期値です。 同じミリ秒内に十分な数を生成できるよう、最上位ビットは0にします。
+   */
+  private static long randomCounter(ThreadLocalRandom random) {
+    return random.nextLong() & (COUNTER_MAX >>> 1);
+  }
+
+  private static class State {
+
+    private long millis = -1;
+    private long counter;
+  }
+}
@@ -0,0 +1,36 @@
+package portfolio.StudentManagement.datasource;
+
+/**
+ * 処理中のリクエストで、読み取り専用のトランザクションもプライマリで処理するかどうかを保持します。
+ * 直前に更新を行ったセッションからの読み取りがレプリカの反映遅れで古い値を返さないよう、ReadYourWritesFilterがリクエストごとに設定します。
+ */
+public final class ReadYourWrites {
+
+  private static final ThreadLocal<Boolean> STICK_TO_PRIMARY = new ThreadLocal<>();
+
+  private ReadYourWrites() {
+  }
+
+  /**
+   * 処理中のリクエストの読み取りを全てプライマリで処理するようにします。
+   */
+  public static void stickToPrimary() {
+    STICK_TO_PRIMARY.set(Boolean.TRUE);
+  }
+
+  /**
+   * 処理中のリクエストの読み取りをプライマリで処理するかどうかを返します。
+   *
+   * @return プライマリで処理する場合はtrue
+   */
+  public static boolean isStickingToPrimary() {
+    return Boolean.TRUE.equals(STICK_TO_PRIMARY.get());
+  }
+
+  /**
+   * 設定を破棄します。 スレッドは他のリクエストで再利用されるため、リクエストの処理が終わったら必ず呼び出してください。
+   */
+  public static void clear() {
+    STICK_TO_PRIMARY.remove();
+  }
+}
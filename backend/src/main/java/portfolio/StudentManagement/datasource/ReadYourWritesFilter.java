@@ -0,0 +1,85 @@
+package portfolio.StudentManagement.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 更新を行ったセッションからの読み取りを、一定時間プライマリで処理させるフィルターです。
+ * 更新系のリクエスト（GET, HEAD, OPTIONS以外）を受けた場合、プライマリで処理する期限をCookieに設定し、期限内のリクエストはReadYourWritesでプライマリに固定します。
+ * 期限はレプリカの反映遅れより長い時間を指定してください。
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  static final String COOKIE_NAME = "read-primary-until";
+
+  private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+  private final Duration stickyWindow;
+  private final Clock clock;
+
+  /**
+   * コンストラクタ
+   *
+   * @param stickyWindow 更新後に読み取りをプライマリで処理する時間
+   * @param clock        現在時刻の取得元
+   */
+  public ReadYourWritesFilter(Duration stickyWindow, Clock clock) {
+    this.stickyWindow = stickyWindow;
+    this.clock = clock;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    long now = clock.millis();
+    if (!SAFE_METHODS.contains(request.getMethod())) {
+      // レスポンスの書き込み後はCookieを追加できないため、処理の前に設定します
+      Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + stickyWindow.toMillis()));
+      cookie.setMaxAge((int) Math.max(1, stickyWindow.toSeconds()));
+      cookie.setPath("/");
+      cookie.setHttpOnly(true);
+      response.addCookie(cookie);
+      ReadYourWrites.stickToPrimary();
+    } else if (isWithinStickyWindow(request, now)) {
+      ReadYourWrites.stickToPrimary();
+    }
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ReadYourWrites.clear();
+    }
+  }
+
+  /**
+   * リクエストのCookieに設定された期限内かどうかを判定します。 期限が数値として読み取れない場合は期限外とします。
+   *
+   * @param request リクエスト
+   * @param now     現在時刻（エポックミリ秒）
+   * @return 期限内の場合はtrue
+   */
+  private boolean isWithinStickyWindow(HttpServletRequest request, long now) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return false;
+    }
+    for (Cookie cookie : cookies) {
+      if (COOKIE_NAME.equals(cookie.getName())) {
+        try {
+          return Long.parseLong(cookie.getValue()) > now;
+        } catch (NumberFormatException e) {
+          return false;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,69 @@
+package portfolio.StudentManagement.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Clock;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * レプリカの接続先（replica-datasource.url）を指定した場合に、読み取り専用のトランザクションをレプリカに振り分けるデータソースを構成します。
+ * プライマリはspring.datasource.*、レプリカはreplica-datasource.*の設定でそれぞれ接続プールを作成します。 接続先を指定しない場合は構成せず、全てプライマリで処理します。
+ */
+@Configuration
+@ConditionalOnProperty("replica-datasource.url")
+public class ReplicaDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("replica-datasource.hikari")
+  public HikariDataSource replicaDataSource(DataSourceProperties properties,
+      @Value("${replica-datasource.url}") String url,
+      @Value("${replica-datasource.username:${spring.datasource.username:}}") String username,
+      @Value("${replica-datasource.password:${spring.datasource.password:}}") String password) {
+    HikariDataSource dataSource = DataSourceBuilder.create()
+        .type(HikariDataSource.class)
+        .driverClassName(properties.determineDriverClassName())
+        .url(url)
+        .username(username)
+        .password(password)
+        .build();
+    dataSource.setPoolName("replica");
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  /**
+   * MyBatis・Flyway・トランザクションマネージャーが使用するデータソースです。
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica) {
+    return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+  }
+
+  @Bean
+  public ReadYourWritesFilter readYourWritesFilter(
+      @Value("${replica-datasource.sticky-window:5s}") Duration stickyWindow) {
+    return new ReadYourWritesFilter(stickyWindow, Clock.systemUTC());
+  }
+}
@@ -0,0 +1,42 @@
+package portfolio.StudentManagement.datasource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 読み取り専用のトランザクション（@Transactional(readOnly = true)）をレプリカに、それ以外をプライマリに振り分けるデータソースです。
+ * 直前に更新を行ったセッションからのリクエスト（ReadYourWrites）は、読み取り専用のトランザクションもプライマリで処理します。
+ * トランザクションの読み取り専用の設定は接続の取得後に反映されるため、LazyConnectionDataSourceProxyで包み、最初のクエリの実行時に接続を取得してください。
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  /**
+   * 振り分け先です。
+   */
+  enum Route {
+    PRIMARY, REPLICA
+  }
+
+  /**
+   * コンストラクタ
+   *
+   * @param primary 更新と、読み取り専用でないトランザクションを処理するデータソース
+   * @param replica 読み取り専用のトランザクションを処理するデータソース
+   */
+  public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        && !ReadYourWrites.isStickingToPrimary()) {
+      return Route.REPLICA;
+    }
+    return Route.PRIMARY;
+  }
+}
@@ -0,0 +1,31 @@
+package portfolio.StudentManagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+
+/**
+ * 申込状況の一括更新のリクエストです。 指定した受講生コース情報の申込状況を、全て同じステータスに更新します。
+ */
+@Schema(description = "申込状況の一括更新")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentStatusTransitionRequest {
+
+  @Schema(description = "受講生コースIDのリスト（1件以上1000件以下）",
+      example = "[\"78af6312-a2cd-11ef-b71f-6845f15f510c\"]")
+  @NotEmpty
+  @Size(max = 1000)
+  private List<String> studentCourseIds;
+
+  @Schema(description = "更新後の申込状況", example = "受講中")
+  @NotNull
+  private Status status;
+}
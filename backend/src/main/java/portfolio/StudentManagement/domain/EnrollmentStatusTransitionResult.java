@@ -0,0 +1,52 @@
+package portfolio.StudentManagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+
+/**
+ * 申込状況の一括更新における受講生コース情報ごとの処理結果です。
+ */
+@Schema(description = "申込状況の一括更新の受講生コース情報ごとの処理結果")
+@Getter
+@AllArgsConstructor
+public class EnrollmentStatusTransitionResult {
+
+  @Schema(description = "受講生コースID", example = "78af6312-a2cd-11ef-b71f-6845f15f510c")
+  private String studentCourseId;
+
+  @Schema(description = "更新されたかどうか", example = "true")
+  private boolean accepted;
+
+  @Schema(description = "更新前の申込状況、受講生コース情報が存在しない場合はnull", example = "本申込")
+  private Status previousStatus;
+
+  @Schema(description = "更新されなかった理由、更新された場合はnull", example = "ステータスを前に戻すことは出来ません。現在のステータス: 受講終了")
+  private String error;
+
+  /**
+   * 更新された処理結果を生成します。
+   *
+   * @param studentCourseId 受講生コースID
+   * @param previousStatus  更新前の申込状況
+   * @return 処理結果
+   */
+  public static EnrollmentStatusTransitionResult accepted(String studentCourseId,
+      Status previousStatus) {
+    return new EnrollmentStatusTransitionResult(studentCourseId, true, previousStatus, null);
+  }
+
+  /**
+   * 更新されなかった処理結果を生成します。
+   *
+   * @param studentCourseId 受講生コースID
+   * @param previousStatus  現在の申込状況、受講生コース情報が存在しない場合はnull
+   * @param error           更新されなかった理由
+   * @return 処理結果
+   */
+  public static EnrollmentStatusTransitionResult rejected(String studentCourseId,
+      Status previousStatus, String error) {
+    return new EnrollmentStatusTransitionResult(studentCourseId, false, previousStatus, error);
+  }
+}
@@ -0,0 +1,48 @@
+package portfolio.StudentManagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 受講生一括登録における1件ごとの処理結果です。 登録に成功した場合は登録された受講生詳細を、失敗した場合はエラーメッセージを保持します。
+ */
+@Schema(description = "受講生一括登録の1件ごとの処理結果")
+@Getter
+@AllArgsConstructor
+public class StudentBatchItemResult {
+
+  @Schema(description = "リクエストボディの配列内での位置（0始まり）", example = "0")
+  private int index;
+
+  @Schema(description = "登録に成功したかどうか", example = "true")
+  private boolean success;
+
+  @Schema(description = "登録された受講生詳細、登録に失敗した場合はnull")
+  private StudentDetail studentDetail;
+
+  @Schema(description = "登録に失敗した理由、登録に成功した場合はnull", example = "既に登録されているメールアドレスです")
+  private String error;
+
+  /**
+   * 登録に成功した処理結果を生成します。
+   *
+   * @param index         リクエスト内での位置
+   * @param studentDetail 登録された受講生詳細
+   * @return 処理結果
+   */
+  public static StudentBatchItemResult success(int index, StudentDetail studentDetail) {
+    return new StudentBatchItemResult(index, true, studentDetail, null);
+  }
+
+  /**
+   * 登録に失敗した処理結果を生成します。
+   *
+   * @param index リクエスト内での位置
+   * @param error 失敗した理由
+   * @return 処理結果
+   */
+  public static StudentBatchItemResult failure(int index, String error) {
+    return new StudentBatchItemResult(index, false, null, error);
+  }
+}
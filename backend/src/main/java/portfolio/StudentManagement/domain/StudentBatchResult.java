@@ -0,0 +1,33 @@
+package portfolio.StudentManagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 受講生一括登録の処理結果です。 成功件数と失敗件数、リクエストと同じ順序に並べた1件ごとの処理結果を保持します。
+ */
+@Schema(description = "受講生一括登録の処理結果")
+@Getter
+public class StudentBatchResult {
+
+  @Schema(description = "登録に成功した件数", example = "1998")
+  private final int succeededCount;
+
+  @Schema(description = "登録に失敗した件数", example = "2")
+  private final int failedCount;
+
+  @Schema(description = "1件ごとの処理結果、リクエストボディと同じ順序")
+  private final List<StudentBatchItemResult> results;
+
+  /**
+   * コンストラクタ。成功件数と失敗件数は処理結果から集計します。
+   *
+   * @param results 1件ごとの処理結果
+   */
+  public StudentBatchResult(List<StudentBatchItemResult> results) {
+    this.results = results;
+    this.succeededCount = (int) results.stream().filter(StudentBatchItemResult::isSuccess).count();
+    this.failedCount = results.size() - succeededCount;
+  }
+}
@@ -0,0 +1,63 @@
+package portfolio.StudentManagement.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.exception.InvalidRequestException;
+
+/**
+ * 受講生一覧のキーセットページネーションで使用するカーソルです。 並び順のキーである氏名と、同名の受講生を区別するためのIDを保持します。
+ * クライアントとは中身を意識させない不透明な文字列としてやり取りします。
+ */
+@Getter
+@AllArgsConstructor
+public class StudentCursor {
+
+  private static final String DELIMITER = "\u0000";
+
+  private String fullName;
+  private String id;
+
+  /**
+   * 受講生を元に、その受講生の次から取得を再開するためのカーソルを生成します。
+   *
+   * @param student ページの最後の受講生
+   * @return カーソル
+   */
+  public static StudentCursor from(Student student) {
+    return new StudentCursor(student.getFullName(), student.getId());
+  }
+
+  /**
+   * カーソルをクライアントに返却するための文字列に変換します。
+   *
+   * @return URLセーフなBase64文字列
+   */
+  public String encode() {
+    String raw = fullName + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * クライアントから受け取った文字列をカーソルに復元します。
+   *
+   * @param cursor encode()で生成された文字列
+   * @return カーソル
+   * @throws InvalidRequestException 文字列がカーソルとして解釈できない場合の例外処理
+   */
+  public static StudentCursor decode(String cursor) throws InvalidRequestException {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int index = raw.lastIndexOf(DELIMITER);
+      if (index < 0 || index == raw.length() - 1) {
+        throw new InvalidRequestException("afterの指定が無効です");
+      }
+      return new StudentCursor(raw.substring(0, index), raw.substring(index + 1));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException("afterの指定が無効です");
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package portfolio.StudentManagement.domain;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 受講生詳細の一覧を1ページ分保持します。 次のページが存在する場合は、続きを取得するためのカーソルを保持します。
+ */
+@Getter
+@AllArgsConstructor
+public class StudentDetailPage {
+
+  private List<StudentDetail> studentDetailList;
+  private String nextCursor;
+}
@@ -0,0 +1,64 @@
+package portfolio.StudentManagement.domain;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.data.Student.Gender;
+import portfolio.StudentManagement.data.StudentCourse;
+
+/**
+ * CSVによる受講生詳細エクスポートの1行です。 1行が受講生1名と、その受講生コース情報1件に対応します。
+ * 受講生の列名は一括取込のCSVと同じため、エクスポートしたCSVはそのまま取り込めます。
+ */
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"id", "fullName", "kana", "nickName", "email", "city", "age", "gender",
+    "remark", "courseId", "courseName", "startDate", "endDate", "status"})
+public class StudentExportRow {
+
+  private String id;
+  private String fullName;
+  private String kana;
+  private String nickName;
+  private String email;
+  private String city;
+  private int age;
+  private Gender gender;
+  private String remark;
+  private String courseId;
+  private String courseName;
+  private LocalDateTime startDate;
+  private LocalDateTime endDate;
+  private Status status;
+
+  /**
+   * 受講生詳細を、受講生コース情報1件ごとの行に変換します。 受講生コース情報が無い場合は、受講生の列のみの1行とします。
+   *
+   * @param studentDetail 受講生詳細
+   * @return 行のリスト
+   */
+  public static List<StudentExportRow> of(StudentDetail studentDetail) {
+    Student student = studentDetail.getStudent();
+    List<StudentCourse> studentCourseList = studentDetail.getStudentCourseList();
+    if (studentCourseList == null || studentCourseList.isEmpty()) {
+      return List.of(of(student, null));
+    }
+    return studentCourseList.stream().map(course -> of(student, course)).toList();
+  }
+
+  private static StudentExportRow of(Student student, StudentCourse course) {
+    return new StudentExportRow(student.getId(), student.getFullName(), student.getKana(),
+        student.getNickName(), student.getEmail(), student.getCity(), student.getAge(),
+        student.getGender(), student.getRemark(),
+        course == null ? null : course.getId(),
+        course == null ? null : course.getCourseName(),
+        course == null ? null : course.getStartDate(),
+        course == null ? null : course.getEndDate(),
+        course == null || course.getEnrollmentStatus() == null ? null
+            : course.getEnrollmentStatus().getStatus());
+  }
+}
@@ -0,0 +1,20 @@
+package portfolio.StudentManagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 受講生一括取込で取り込めなかった行とその理由です。
+ */
+@Schema(description = "受講生一括取込で取り込めなかった行")
+@Getter
+@AllArgsConstructor
+public class StudentImportError {
+
+  @Schema(description = "行番号、CSVはヘッダー行を除いた1始まり、NDJSONはファイルの1始まり", example = "42")
+  private long row;
+
+  @Schema(description = "取り込めなかった理由", example = "既に登録されているメールアドレスです")
+  private String error;
+}
@@ -0,0 +1,33 @@
+package portfolio.StudentManagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 受講生一括取込の処理結果です。 取込件数と除外件数、処理速度と、取り込めなかった行を先頭から上限件数まで保持します。
+ */
+@Schema(description = "受講生一括取込の処理結果")
+@Getter
+@AllArgsConstructor
+public class StudentImportResult {
+
+  @Schema(description = "読み込んだ行数", example = "100000")
+  private long totalRows;
+
+  @Schema(description = "登録した行数", example = "99990")
+  private long importedCount;
+
+  @Schema(description = "形式やバリデーション、メールアドレスの重複により除外した行数", example = "10")
+  private long rejectedCount;
+
+  @Schema(description = "処理時間（ミリ秒）", example = "25000")
+  private long elapsedMillis;
+
+  @Schema(description = "1秒あたりの処理行数", example = "4000.0")
+  private double rowsPerSecond;
+
+  @Schema(description = "取り込めなかった行、先頭から100件まで")
+  private List<StudentImportError> errors;
+}
@@ -0,0 +1,51 @@
+package portfolio.StudentManagement.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import portfolio.StudentManagement.data.EnrollmentStatus;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.data.Student.Gender;
+import portfolio.StudentManagement.data.StudentCourse;
+
+/**
+ * CSVによる受講生一括取込の1行です。 1行が受講生1名と、その受講生コース情報1件に対応します。 列はヘッダー行の列名で対応付けるため、順不同です。
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StudentImportRow {
+
+  private String fullName;
+  private String kana;
+  private String nickName;
+  private String email;
+  private String city;
+  private int age;
+  private Gender gender;
+  private String courseName;
+  private Status status;
+
+  /**
+   * 受講生詳細に変換します。 フリガナ、ニックネーム、性別が空欄の場合は受講生登録と同様のデフォルト値とします。
+   *
+   * @return 受講生詳細
+   */
+  public StudentDetail toStudentDetail() {
+    Student student = new Student.StudentBuilder(fullName, email, city, age)
+        .kana(Objects.requireNonNullElse(kana, ""))
+        .nickName(Objects.requireNonNullElse(nickName, ""))
+        .gender(Objects.requireNonNullElse(gender, Gender.Unspecified))
+        .build();
+    StudentCourse studentCourse = new StudentCourse.StudentCourseBuilder(student.getId(),
+        courseName)
+        .enrollmentStatus(EnrollmentStatus.builder().status(status).build())
+        .build();
+    return new StudentDetail(student, List.of(studentCourse));
+  }
+}
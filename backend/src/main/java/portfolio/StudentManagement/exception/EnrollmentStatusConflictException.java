@@ -0,0 +1,8 @@
+package portfolio.StudentManagement.exception;
+
+public class EnrollmentStatusConflictException extends Exception {
+
+  public EnrollmentStatusConflictException() {
+    super("他の処理が先に申込状況を更新したため、更新されませんでした");
+  }
+}
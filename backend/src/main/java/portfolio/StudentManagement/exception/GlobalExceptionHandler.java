@@ -45,6 +45,13 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
   }
 
+  @ExceptionHandler(EnrollmentStatusConflictException.class)
+  public ResponseEntity<ErrorResponse> handleEnrollmentStatusConflictException(
+      EnrollmentStatusConflictException ex) {
+    ErrorResponse errorResponse = new ErrorResponse("EnrollmentStatus Conflict", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+  }
+
   @ExceptionHandler(InvalidRequestException.class)
   public ResponseEntity<ErrorResponse> handleInvalidRequestException(
       InvalidRequestException ex) {
@@ -0,0 +1,25 @@
+package portfolio.StudentManagement.repository;
+
+import java.util.Properties;
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MyBatisのdatabaseIdの設定です。 接続先のDBの製品名からdatabaseIdを判定し、databaseIdを指定したクエリ（受講生詳細のエクスポートなど）をDBに応じて切り替えます。
+ * databaseIdを指定していないクエリは、どのDBでも使用します。
+ */
+@Configuration
+public class DatabaseIdConfig {
+
+  @Bean
+  public DatabaseIdProvider databaseIdProvider() {
+    Properties properties = new Properties();
+    properties.setProperty("MySQL", "mysql");
+    properties.setProperty("H2", "h2");
+    VendorDatabaseIdProvider databaseIdProvider = new VendorDatabaseIdProvider();
+    databaseIdProvider.setProperties(properties);
+    return databaseIdProvider;
+  }
+}
@@ -2,6 +2,7 @@ package portfolio.StudentManagement.repository;
 
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import portfolio.StudentManagement.data.EnrollmentStatus;
 
 /**
@@ -17,6 +18,14 @@ public interface EnrollmentStatusRepository {
    */
   List<EnrollmentStatus> selectAllEnrollmentStatus();
 
+  /**
+   * 受講生コース情報IDに紐づく最新の申込状況を検索します
+   *
+   * @param studentCourseId 受講生コース情報ID
+   * @return 最新の申込状況、紐づく申込状況がない場合はnull
+   */
+  EnrollmentStatus selectLatestEnrollmentStatus(String studentCourseId);
+
   /**
    * 申込状況の新規登録を行います
    *
@@ -24,4 +33,22 @@ public interface EnrollmentStatusRepository {
    */
   void createEnrollmentStatus(EnrollmentStatus enrollmentStatus);
 
+  /**
+   * 複数の申込状況を1回のINSERTでまとめて新規登録します
+   *
+   * @param enrollmentStatuses 申込状況リスト、空でないこと
+   */
+  void createEnrollmentStatuses(
+      @Param("enrollmentStatuses") List<EnrollmentStatus> enrollmentStatuses);
+
+  /**
+   * 一括登録した申込状況のうち、受講生コース情報の現在の申込状況として参照されなかったものを削除します
+   * 現在の申込状況の条件付き一括更新で、他の処理が先に更新していた受講生コース情報の申込状況を取り消すために使用します
+   *
+   * @param enrollmentStatuses 一括登録した申込状況リスト、空でないこと
+   * @return 削除した件数
+   */
+  int deleteUnreferencedEnrollmentStatuses(
+      @Param("enrollmentStatuses") List<EnrollmentStatus> enrollmentStatuses);
+
 }
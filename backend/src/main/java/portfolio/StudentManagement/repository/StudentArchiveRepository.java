@@ -0,0 +1,72 @@
+package portfolio.StudentManagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 論理削除した受講生を、受講生コース情報・申込状況の履歴とあわせてアーカイブテーブルに移すリポジトリです。
+ * 受講生の検索から移す行の削除までを同じトランザクションで実行してください。
+ */
+@Mapper
+public interface StudentArchiveRepository {
+
+  /**
+   * アーカイブ対象の受講生IDを、論理削除日時の古い順に指定件数まで検索します。 検索した受講生は、トランザクションが完了するまで他の更新を待たせます。
+   *
+   * @param deletedBefore この日時以前に論理削除された受講生を対象とします
+   * @param limit         取得件数
+   * @return 受講生IDリスト
+   */
+  List<String> selectStudentIdsToArchive(@Param("deletedBefore") LocalDateTime deletedBefore,
+      @Param("limit") int limit);
+
+  /**
+   * 受講生をアーカイブテーブルに複製します。
+   *
+   * @param ids 受講生IDリスト、空でないこと
+   * @return 複製した件数
+   */
+  int archiveStudents(@Param("ids") List<String> ids);
+
+  /**
+   * 受講生に紐づく受講生コース情報をアーカイブテーブルに複製します。
+   *
+   * @param ids 受講生IDリスト、空でないこと
+   * @return 複製した件数
+   */
+  int archiveStudentCourses(@Param("ids") List<String> ids);
+
+  /**
+   * 受講生に紐づく申込状況の履歴をアーカイブテーブルに複製します。
+   *
+   * @param ids 受講生IDリスト、空でないこと
+   * @return 複製した件数
+   */
+  int archiveEnrollmentStatuses(@Param("ids") List<String> ids);
+
+  /**
+   * 受講生に紐づく申込状況の履歴を削除します。
+   *
+   * @param ids 受講生IDリスト、空でないこと
+   * @return 削除した件数
+   */
+  int deleteEnrollmentStatusesByStudentIds(@Param("ids") List<String> ids);
+
+  /**
+   * 受講生に紐づく受講生コース情報を削除します。
+   *
+   * @param ids 受講生IDリスト、空でないこと
+   * @return 削除した件数
+   */
+  int deleteStudentCoursesByStudentIds(@Param("ids") List<String> ids);
+
+  /**
+   * 受講生を削除します。
+   *
+   * @param ids 受講生IDリスト、空でないこと
+   * @return 削除した件数
+   */
+  int deleteStudentsByIds(@Param("ids") List<String> ids);
+}
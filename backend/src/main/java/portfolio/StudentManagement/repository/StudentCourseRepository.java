@@ -1,7 +1,11 @@
 package portfolio.StudentManagement.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import portfolio.StudentManagement.data.EnrollmentStatus;
 import portfolio.StudentManagement.data.EnrollmentStatus.Status;
 import portfolio.StudentManagement.data.StudentCourse;
 
@@ -13,6 +17,7 @@ public interface StudentCourseRepository {
 
   /**
    * 受講生コース情報の全件検索を行います。各コースの申込状況については最新のものを取得し、受講生コース情報のフィールドに含めて返します。
+   * 最新の申込状況は受講生コーステーブルのcurrent_status_idで保持しているため、申込状況の履歴全体を集計することはありません。
    *
    * @return 受講生コース一覧（全件）
    */
@@ -27,6 +32,23 @@ public interface StudentCourseRepository {
    */
   List<StudentCourse> selectCourseListByStudentId(String studentId);
 
+  /**
+   * 受講生コース情報の検索を行います。複数の受講生IDを指定し、いずれかの受講生に紐づく受講生コース情報をまとめて検索します。
+   * コースの申込状況については最新のものを取得し、受講生コース情報のフィールドに含めて返します。
+   *
+   * @param studentIds 受講生IDのリスト（空でないこと）
+   * @return 受講生IDに紐づく受講生コース情報
+   */
+  List<StudentCourse> selectCourseListByStudentIds(@Param("studentIds") List<String> studentIds);
+
+  /**
+   * 受講生コース情報の複数ID検索を行います。渡されたIDのいずれかに該当する受講生コース情報を、現在の申込状況を含めて返します。返却順は保証しません。
+   *
+   * @param ids 受講生コース情報IDリスト、空でないこと
+   * @return 受講生コース情報のリスト
+   */
+  List<StudentCourse> selectCourseListByIds(@Param("ids") Collection<String> ids);
+
   /**
    * 受講生コース情報の申込状況検索を行います。申込状況を指定し、該当の申込状況に合致するレコードを返します。
    * 申込状況については最新のものを取得し、受講生コース情報のフィールドに含めて返します。
@@ -37,16 +59,82 @@ public interface StudentCourseRepository {
   List<StudentCourse> selectCourseListWithLatestStatus(Status status);
 
   /**
-   * 受講生コース情報の新規登録を行います。
+   * 開始日を過ぎた本申込の受講生コース情報を、開始日の古い順に指定件数まで検索します。
+   * 受講中に進めた受講生コース情報は検索対象から外れるため、進めるたびに検索し直すことで先頭から順に処理できます。
+   *
+   * @param dueBy 基準日時、開始日がこの日時以前のものを検索します
+   * @param limit 取得件数の上限
+   * @return 受講中に進める受講生コース情報のリスト
+   */
+  List<StudentCourse> selectCoursesToStart(@Param("dueBy") LocalDateTime dueBy,
+      @Param("limit") int limit);
+
+  /**
+   * 終了日を過ぎた受講中の受講生コース情報を、終了日の古い順に指定件数まで検索します。
+   * 受講終了に進めた受講生コース情報は検索対象から外れるため、進めるたびに検索し直すことで先頭から順に処理できます。
+   *
+   * @param dueBy 基準日時、終了日がこの日時以前のものを検索します
+   * @param limit 取得件数の上限
+   * @return 受講終了に進める受講生コース情報のリスト
+   */
+  List<StudentCourse> selectCoursesToFinish(@Param("dueBy") LocalDateTime dueBy,
+      @Param("limit") int limit);
+
+  /**
+   * 受講生コース情報IDに紐づく受講生IDを検索します。
+   *
+   * @param studentCourseId 受講生コース情報ID
+   * @return 受講生ID、該当する受講生コース情報が存在しない場合はnull
+   */
+  String selectStudentIdByCourseId(String studentCourseId);
+
+  /**
+   * 受講生コース情報の新規登録を行います。受講生コース情報に含まれる申込状況を現在の申込状況として登録します。
    *
    * @param studentCourse 受講生コース情報
    */
   void createStudentCourse(StudentCourse studentCourse);
 
+  /**
+   * 複数の受講生コース情報を1回のINSERTでまとめて新規登録します。受講生コース情報に含まれる申込状況を現在の申込状況として登録します。
+   *
+   * @param studentCourses 受講生コース情報のリスト、空でないこと
+   */
+  void createStudentCourses(@Param("studentCourses") List<StudentCourse> studentCourses);
+
   /**
    * 受講生コースIDに紐づくコース名の更新を行います。
    *
    * @param studentCourse 受講生コース情報
    */
   void updateStudentCourse(StudentCourse studentCourse);
+
+  /**
+   * 受講生コース情報の現在の申込状況を更新します。申込状況の新規登録と同じトランザクションで呼び出します。
+   *
+   * @param enrollmentStatus 新たに登録された申込状況
+   */
+  void updateCurrentStatus(EnrollmentStatus enrollmentStatus);
+
+  /**
+   * 複数の受講生コース情報の現在の申込状況を1回の更新でまとめて更新します。 更新後の値は登録済みの申込状況を参照するため、
+   * 申込状況の一括登録の後に同じトランザクションで呼び出します。
+   *
+   * @param enrollmentStatuses 新たに登録された申込状況のリスト、受講生コース情報ごとに1件まで、空でないこと
+   */
+  void updateCurrentStatuses(
+      @Param("enrollmentStatuses") List<EnrollmentStatus> enrollmentStatuses);
+
+  /**
+   * 現在の申込状況が想定したステータスのままの受講生コース情報のみ、現在の申込状況をまとめて更新します。
+   * 複数のノードが同じ受講生コース情報を同時に更新しようとした場合も、先に更新したノードの申込状況のみが反映されます。
+   * 申込状況の一括登録の後に同じトランザクションで呼び出します。
+   *
+   * @param enrollmentStatuses 新たに登録された申込状況のリスト、受講生コース情報ごとに1件まで、空でないこと
+   * @param expectedStatus     更新前の想定のステータス
+   * @return 更新した受講生コース情報の件数
+   */
+  int compareAndUpdateCurrentStatuses(
+      @Param("enrollmentStatuses") List<EnrollmentStatus> enrollmentStatuses,
+      @Param("expectedStatus") Status expectedStatus);
 }
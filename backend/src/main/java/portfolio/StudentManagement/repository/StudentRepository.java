@@ -1,10 +1,14 @@
 package portfolio.StudentManagement.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import portfolio.StudentManagement.data.Student;
 import portfolio.StudentManagement.data.Student.Gender;
+import portfolio.StudentManagement.domain.StudentCursor;
+import portfolio.StudentManagement.domain.StudentDetail;
 
 /**
  * 受講生テーブル情報を扱うリポジトリです。
@@ -32,6 +36,62 @@ public interface StudentRepository {
       @Param("city") String city, @Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge,
       @Param("gender") Gender gender, @Param("remark") String remark);
 
+  /**
+   * 受講生詳細の検索を行います。検索条件はselectStudentsと同様です。
+   * 検索条件に合致した受講生に紐づく受講生コース情報と最新の申込状況を1回のクエリで結合し、受講生ごとにまとめた受講生詳細を返します。
+   *
+   * @param fullName 氏名
+   * @param kana     フリガナ
+   * @param nickName ニックネーム
+   * @param email    メールアドレス
+   * @param city     地域
+   * @param minAge   下限年齢
+   * @param maxAge   上限年齢
+   * @param gender   性別
+   * @param remark   備考
+   * @param ids      全文検索インデックスで絞り込んだ候補の受講生ID、絞り込まない場合はnull
+   * @return 受講生詳細一覧
+   */
+  List<StudentDetail> selectStudentDetails(@Param("fullName") String fullName,
+      @Param("kana") String kana, @Param("nickName") String nickName,
+      @Param("email") String email, @Param("city") String city,
+      @Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge,
+      @Param("gender") Gender gender, @Param("remark") String remark,
+      @Param("ids") Collection<String> ids);
+
+  /**
+   * 論理削除されていない全ての受講生詳細を、受講生ID順に1件ずつ読み出します。 受講生コース情報と最新の申込状況は同じクエリで結合します。
+   * 結果はDBから少しずつ取得し、読み終えた受講生詳細は保持しないため、件数に関わらず使用するメモリは一定です。 トランザクション内で読み終える必要があります。
+   *
+   * @return 受講生詳細のカーソル
+   */
+  Cursor<StudentDetail> selectStudentDetailCursor();
+
+  /**
+   * 受講生のページ検索を行います。検索条件はselectStudentsと同様です。 氏名、IDの順に並べ、カーソルより後ろの受講生を指定件数まで返します。
+   * カーソルの位置から読み進めるため、ページが深くなっても読み飛ばす行は発生しません。
+   *
+   * @param fullName 氏名
+   * @param kana     フリガナ
+   * @param nickName ニックネーム
+   * @param email    メールアドレス
+   * @param city     地域
+   * @param minAge   下限年齢
+   * @param maxAge   上限年齢
+   * @param gender   性別
+   * @param remark   備考
+   * @param ids      全文検索インデックスで絞り込んだ候補の受講生ID、絞り込まない場合はnull
+   * @param after    前のページの最後の受講生を指すカーソル、先頭ページの場合はnull
+   * @param limit    取得件数
+   * @return 受講生一覧
+   */
+  List<Student> selectStudentPage(@Param("fullName") String fullName, @Param("kana") String kana,
+      @Param("nickName") String nickName, @Param("email") String email,
+      @Param("city") String city, @Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge,
+      @Param("gender") Gender gender, @Param("remark") String remark,
+      @Param("ids") Collection<String> ids,
+      @Param("after") StudentCursor after, @Param("limit") int limit);
+
   /**
    * 受講生のID検索を行います。
    *
@@ -40,6 +100,39 @@ public interface StudentRepository {
    */
   Student selectStudentById(String id);
 
+  /**
+   * 受講生詳細のID検索を行います。受講生と紐づく受講生コース情報、最新の申込状況を1回のクエリで取得します。
+   *
+   * @param id 受講生ID
+   * @return 受講生詳細、該当する受講生が存在しない場合はnull
+   */
+  StudentDetail selectStudentDetailById(String id);
+
+  /**
+   * アーカイブ済みの受講生詳細のID検索を行います。 論理削除から一定期間が経過し、アーカイブテーブルに移した受講生が対象です。
+   *
+   * @param id 受講生ID
+   * @return 受講生詳細、該当する受講生がアーカイブされていない場合はnull
+   */
+  StudentDetail selectArchivedStudentDetailById(String id);
+
+  /**
+   * 受講生の複数ID検索を行います。 渡されたIDのいずれかに該当する受講生を返します。返却順は保証しません。
+   * なお、論理削除されたレコードは対象外とします。
+   *
+   * @param ids 受講生IDリスト、空でないこと
+   * @return 受講生一覧
+   */
+  List<Student> selectStudentsByIds(@Param("ids") List<String> ids);
+
+  /**
+   * 渡されたメールアドレスのうち、既に登録されているものを返します。 メールアドレスは一意であるため、論理削除されたレコードも対象とします。
+   *
+   * @param emails メールアドレスリスト、空でないこと
+   * @return 登録済みのメールアドレス一覧
+   */
+  List<String> selectExistingEmails(@Param("emails") Collection<String> emails);
+
   /**
    * 受講生の新規登録を行います。
    *
@@ -48,7 +141,7 @@ public interface StudentRepository {
   void createStudent(Student student);
 
   /**
-   * 受講生の更新を行います
+   * 受講生の更新を行います。 論理削除した場合は論理削除日時を記録し、論理削除を取り消した場合は論理削除日時を消去します。
    *
    * @param student 受講生
    */
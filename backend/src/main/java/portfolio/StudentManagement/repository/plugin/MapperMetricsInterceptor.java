@@ -0,0 +1,142 @@
+package portfolio.StudentManagement.repository.plugin;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+/**
+ * マッパーのステートメントごとに、実行時間・件数・エラー件数をメトリクスとして記録するMyBatisのプラグインです。
+ * 実行時間はmybatis.statement、検索件数または更新件数はmybatis.statement.rows、エラー件数はmybatis.statement.errorsとして、
+ * ステートメントID（statement）とSQLの種類（type）をタグに付けて公開します。 カーソルで取得するステートメントは、カーソルを開くまでの時間のみとなるため対象外です。
+ * バッチ実行（ExecutorType.BATCH）の更新は呼び出し時点ではキューに追加されるだけのため記録せず、まとめて送信したときの実行時間をmybatis.batch.flush、
+ * ステートメントごとの更新件数をmybatis.batch.rowsとして記録します。
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "flushStatements", args = {})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+  static final String STATEMENT_METRIC = "mybatis.statement";
+  static final String ROWS_METRIC = "mybatis.statement.rows";
+  static final String ERRORS_METRIC = "mybatis.statement.errors";
+  static final String BATCH_FLUSH_METRIC = "mybatis.batch.flush";
+  static final String BATCH_ROWS_METRIC = "mybatis.batch.rows";
+
+  private final MeterRegistry meterRegistry;
+
+  public MapperMetricsInterceptor(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    // flushStatementsのみ引数がありません
+    if (invocation.getArgs().length == 0) {
+      return interceptFlush(invocation);
+    }
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    Tags tags = statementTags(mappedStatement);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "SUCCESS";
+    boolean queued = false;
+    try {
+      Object result = invocation.proceed();
+      queued = Integer.valueOf(BatchExecutor.BATCH_UPDATE_RETURN_VALUE).equals(result);
+      if (!queued) {
+        DistributionSummary.builder(ROWS_METRIC)
+            .tags(tags)
+            .register(meterRegistry)
+            .record(countRows(result));
+      }
+      return result;
+    } catch (Throwable e) {
+      outcome = "ERROR";
+      // リフレクションで呼び出しているため、ステートメントが投げた例外を取り出してタグに付けます
+      Throwable cause = ExceptionUtil.unwrapThrowable(e);
+      meterRegistry.counter(ERRORS_METRIC,
+          tags.and("exception", cause.getClass().getSimpleName())).increment();
+      throw cause;
+    } finally {
+      if (!queued) {
+        sample.stop(Timer.builder(STATEMENT_METRIC)
+            .tags(tags)
+            .tag("outcome", outcome)
+            .register(meterRegistry));
+      }
+    }
+  }
+
+  /**
+   * バッチ実行でキューに追加された更新をまとめて送信する時間と、ステートメントごとの更新件数を記録します。 送信する更新がない場合は記録しません。
+   *
+   * @param invocation flushStatementsの呼び出し
+   * @return ステートメントごとのバッチ実行の結果
+   */
+  private Object interceptFlush(Invocation invocation) throws Throwable {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "SUCCESS";
+    boolean flushed = true;
+    try {
+      @SuppressWarnings("unchecked")
+      List<BatchResult> batchResults = (List<BatchResult>) invocation.proceed();
+      flushed = !batchResults.isEmpty();
+      for (BatchResult batchResult : batchResults) {
+        DistributionSummary.builder(BATCH_ROWS_METRIC)
+            .tags(statementTags(batchResult.getMappedStatement()))
+            .register(meterRegistry)
+            // 件数を返さないドライバーでは負の値（SUCCESS_NO_INFO）となるため除外します
+            .record(Arrays.stream(batchResult.getUpdateCounts()).filter(count -> count > 0).sum());
+      }
+      return batchResults;
+    } catch (Throwable e) {
+      outcome = "ERROR";
+      throw ExceptionUtil.unwrapThrowable(e);
+    } finally {
+      if (flushed) {
+        sample.stop(meterRegistry.timer(BATCH_FLUSH_METRIC, "outcome", outcome));
+      }
+    }
+  }
+
+  private static Tags statementTags(MappedStatement mappedStatement) {
+    return Tags.of("statement", mappedStatement.getId(),
+        "type", mappedStatement.getSqlCommandType().name());
+  }
+
+  /**
+   * ステートメントの戻り値から件数を求めます。 検索の場合は取得した件数、更新の場合は更新件数です。
+   *
+   * @param result ステートメントの戻り値
+   * @return 件数
+   */
+  private static int countRows(Object result) {
+    if (result instanceof Collection<?> collection) {
+      return collection.size();
+    }
+    if (result instanceof Integer count) {
+      return count;
+    }
+    return 0;
+  }
+}
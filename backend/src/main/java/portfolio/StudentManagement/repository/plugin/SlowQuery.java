@@ -0,0 +1,73 @@
+package portfolio.StudentManagement.repository.plugin;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 実行時間がしきい値を超えたSQLの形ごとの記録です。 同じ形のSQLが再び遅くなった場合は、件数と直近の実行内容を更新した記録に置き換えます。
+ * 実行計画は最初に遅くなった際のパラメータで取得したものを保持します。 失敗したステートメントも実行時間がしきい値を超えた場合は記録し、直近の結果（SUCCESSまたはERROR）を保持します。
+ */
+@Getter
+@AllArgsConstructor
+public class SlowQuery {
+
+  private String statementId;
+  private String sql;
+  private long count;
+  private long maxElapsedMillis;
+  private LocalDateTime firstOccurredAt;
+  private LocalDateTime lastOccurredAt;
+  private long lastElapsedMillis;
+  private int lastRows;
+  private String lastOutcome;
+  private Map<String, Object> lastParameters;
+  private List<Map<String, Object>> explain;
+
+  /**
+   * 最初に遅くなった際の記録を生成します。
+   *
+   * @param statementId   ステートメントID
+   * @param sql           生成されたSQL
+   * @param parameters    マスク済みのパラメータ
+   * @param rows          取得件数または更新件数、失敗した場合は0
+   * @param outcome       実行結果（SUCCESSまたはERROR）
+   * @param elapsedMillis 実行時間（ミリ秒）
+   * @param occurredAt    実行日時
+   * @return 記録
+   */
+  static SlowQuery first(String statementId, String sql, Map<String, Object> parameters,
+      int rows, String outcome, long elapsedMillis, LocalDateTime occurredAt) {
+    return new SlowQuery(statementId, sql, 1, elapsedMillis, occurredAt, occurredAt,
+        elapsedMillis, rows, outcome, parameters, null);
+  }
+
+  /**
+   * 再び遅くなった際の実行内容を反映した記録を生成します。
+   *
+   * @param parameters    マスク済みのパラメータ
+   * @param rows          取得件数または更新件数、失敗した場合は0
+   * @param outcome       実行結果（SUCCESSまたはERROR）
+   * @param elapsedMillis 実行時間（ミリ秒）
+   * @param occurredAt    実行日時
+   * @return 記録
+   */
+  SlowQuery withOccurrence(Map<String, Object> parameters, int rows, String outcome,
+      long elapsedMillis, LocalDateTime occurredAt) {
+    return new SlowQuery(statementId, sql, count + 1, Math.max(maxElapsedMillis, elapsedMillis),
+        firstOccurredAt, occurredAt, elapsedMillis, rows, outcome, parameters, explain);
+  }
+
+  /**
+   * 実行計画を付けた記録を生成します。
+   *
+   * @param explain EXPLAINの結果の行リスト
+   * @return 記録
+   */
+  SlowQuery withExplain(List<Map<String, Object>> explain) {
+    return new SlowQuery(statementId, sql, count, maxElapsedMillis, firstOccurredAt,
+        lastOccurredAt, lastElapsedMillis, lastRows, lastOutcome, lastParameters, explain);
+  }
+}
@@ -0,0 +1,203 @@
+package portfolio.StudentManagement.repository.plugin;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 実行時間がしきい値（slow-query.threshold）を超えたステートメントを記録するMyBatisのプラグインです。
+ * 生成されたSQL・マスクしたパラメータ・件数・実行時間をログに出力し、SlowQueryLogに保持します。 その形のSQLが初めて遅くなった場合は、同じ接続・同じパラメータでEXPLAINを実行して実行計画も保持します。
+ * 失敗したステートメントも実行時間がしきい値を超えた場合は、実行結果（outcome）をERRORとして記録します（タイムアウトやロック待ちで失敗したSQLも対象とするため）。
+ * バッチ実行（ExecutorType.BATCH）の更新は呼び出し時点ではキューに追加されるだけのため記録しません。
+ * パラメータは受講生の個人情報を含むため、ID（UUID）・数値・真偽値・列挙型・日時以外の値は文字数のみを出力します。
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class})
+})
+public class SlowQueryInterceptor implements Interceptor {
+
+  private static final Logger log = LoggerFactory.getLogger(SlowQueryInterceptor.class);
+
+  private static final Pattern UUID_PATTERN = Pattern.compile(
+      "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+  private final SlowQueryLog slowQueryLog;
+  private final long thresholdNanos;
+
+  public SlowQueryInterceptor(SlowQueryLog slowQueryLog,
+      @Value("${slow-query.threshold:500ms}") Duration threshold) {
+    this.slowQueryLog = slowQueryLog;
+    this.thresholdNanos = threshold.toNanos();
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    long start = System.nanoTime();
+    Object result = null;
+    Throwable failure = null;
+    try {
+      result = invocation.proceed();
+      return result;
+    } catch (Throwable e) {
+      failure = ExceptionUtil.unwrapThrowable(e);
+      throw failure;
+    } finally {
+      long elapsedNanos = System.nanoTime() - start;
+      if (elapsedNanos >= thresholdNanos
+          && !Integer.valueOf(BatchExecutor.BATCH_UPDATE_RETURN_VALUE).equals(result)) {
+        try {
+          recordSlowQuery(invocation, result, failure,
+              TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        } catch (RuntimeException e) {
+          // 記録に失敗しても、ステートメントの結果（戻り値または例外）はそのまま返します
+          log.warn("遅いSQLの記録に失敗しました", e);
+        }
+      }
+    }
+  }
+
+  private void recordSlowQuery(Invocation invocation, Object result, Throwable failure,
+      long elapsedMillis) {
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    Object parameter = invocation.getArgs()[1];
+    BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+    Map<String, Object> parameters = redactedParameters(mappedStatement.getConfiguration(),
+        parameter, boundSql);
+    int rows = countRows(result);
+    String outcome = failure == null ? "SUCCESS" : "ERROR";
+
+    // 例外のメッセージは個人情報（重複したメールアドレスなど）を含みうるため、例外の型のみを出力します
+    log.warn("遅いSQLを検出しました statement={} outcome={} exception={} elapsed={}ms rows={}"
+            + " sql={} parameters={}", mappedStatement.getId(), outcome,
+        failure == null ? null : failure.getClass().getSimpleName(), elapsedMillis, rows,
+        boundSql.getSql(), parameters);
+    if (slowQueryLog.record(mappedStatement.getId(), boundSql.getSql(), parameters, rows,
+        outcome, elapsedMillis)) {
+      slowQueryLog.attachExplain(mappedStatement.getId(), boundSql.getSql(),
+          explain((Executor) invocation.getTarget(), mappedStatement, parameter, boundSql));
+    }
+  }
+
+  /**
+   * SQLに設定したパラメータを、プレースホルダーの順にマスクして取り出します。
+   */
+  private static Map<String, Object> redactedParameters(Configuration configuration,
+      Object parameter, BoundSql boundSql) {
+    MetaObject metaObject = parameter == null ? null : configuration.newMetaObject(parameter);
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      if (parameterMapping.getMode() == ParameterMode.OUT) {
+        continue;
+      }
+      String property = parameterMapping.getProperty();
+      Object value;
+      if (boundSql.hasAdditionalParameter(property)) {
+        value = boundSql.getAdditionalParameter(property);
+      } else if (parameter == null) {
+        value = null;
+      } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+        value = parameter;
+      } else {
+        value = metaObject.getValue(property);
+      }
+      parameters.put(property, redact(value));
+    }
+    return parameters;
+  }
+
+  /**
+   * 個人情報を含みうる値をマスクします。
+   *
+   * @param value パラメータの値
+   * @return ID・数値・真偽値・列挙型・日時の場合はその値、文字列の場合は文字数、それ以外の場合は型名
+   */
+  static Object redact(Object value) {
+    if (value == null || value instanceof Number || value instanceof Boolean
+        || value instanceof Enum<?>) {
+      return value;
+    }
+    if (value instanceof TemporalAccessor) {
+      return value.toString();
+    }
+    if (value instanceof CharSequence text) {
+      return UUID_PATTERN.matcher(text).matches() ? text.toString()
+          : "***(" + text.length() + "文字)";
+    }
+    return "***(" + value.getClass().getSimpleName() + ")";
+  }
+
+  /**
+   * ステートメントと同じ接続・同じパラメータでEXPLAINを実行します。 実行に失敗した場合は、失敗した理由を1行の結果として返します。
+   */
+  private static List<Map<String, Object>> explain(Executor executor,
+      MappedStatement mappedStatement, Object parameter, BoundSql boundSql) {
+    List<Map<String, Object>> plan = new ArrayList<>();
+    try {
+      // 接続はトランザクションが管理しているため、ここでは閉じません
+      Connection connection = executor.getTransaction().getConnection();
+      try (PreparedStatement statement = connection.prepareStatement(
+          "EXPLAIN " + boundSql.getSql())) {
+        mappedStatement.getConfiguration()
+            .newParameterHandler(mappedStatement, parameter, boundSql)
+            .setParameters(statement);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          ResultSetMetaData metaData = resultSet.getMetaData();
+          while (resultSet.next()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+              row.put(metaData.getColumnLabel(column), resultSet.getObject(column));
+            }
+            plan.add(row);
+          }
+        }
+      }
+    } catch (SQLException e) {
+      return List.of(Map.of("error", String.valueOf(e.getMessage())));
+    }
+    return plan;
+  }
+
+  private static int countRows(Object result) {
+    if (result instanceof Collection<?> collection) {
+      return collection.size();
+    }
+    if (result instanceof Integer count) {
+      return count;
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,99 @@
+package portfolio.StudentManagement.repository.plugin;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 実行時間がしきい値を超えたSQLを、形（ステートメントIDと空白・IN句の要素数を揃えたSQL）ごとに保持します。
+ * 保持した内容は管理用のエンドポイント（/actuator/slowqueries）から、最大実行時間の長い順に参照できます。
+ * 保持する形の数には上限があり、上限に達した後に初めて遅くなった形は保持しません。
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryLog {
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+  private final ConcurrentMap<String, SlowQuery> slowQueries = new ConcurrentHashMap<>();
+  private final int maximumShapes;
+
+  public SlowQueryLog(@Value("${slow-query.maximum-shapes:500}") int maximumShapes) {
+    this.maximumShapes = maximumShapes;
+  }
+
+  /**
+   * 遅くなったSQLを記録します。
+   *
+   * @param statementId   ステートメントID
+   * @param sql           生成されたSQL
+   * @param parameters    マスク済みのパラメータ
+   * @param rows          取得件数または更新件数、失敗した場合は0
+   * @param outcome       実行結果（SUCCESSまたはERROR）
+   * @param elapsedMillis 実行時間（ミリ秒）
+   * @return その形のSQLが初めて遅くなった場合はtrue
+   */
+  boolean record(String statementId, String sql, Map<String, Object> parameters, int rows,
+      String outcome, long elapsedMillis) {
+    String shape = shapeOf(statementId, sql);
+    if (!slowQueries.containsKey(shape) && slowQueries.size() >= maximumShapes) {
+      return false;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    AtomicBoolean first = new AtomicBoolean();
+    slowQueries.compute(shape, (key, current) -> {
+      if (current == null) {
+        first.set(true);
+        return SlowQuery.first(statementId, normalize(sql), parameters, rows, outcome,
+            elapsedMillis, now);
+      }
+      return current.withOccurrence(parameters, rows, outcome, elapsedMillis, now);
+    });
+    return first.get();
+  }
+
+  /**
+   * 記録済みのSQLに実行計画を付けます。
+   *
+   * @param statementId ステートメントID
+   * @param sql         生成されたSQL
+   * @param explain     EXPLAINの結果の行リスト
+   */
+  void attachExplain(String statementId, String sql, List<Map<String, Object>> explain) {
+    slowQueries.computeIfPresent(shapeOf(statementId, sql),
+        (key, current) -> current.withExplain(explain));
+  }
+
+  /**
+   * 記録済みのSQLを、最大実行時間の長い順に返します。
+   *
+   * @return 遅くなったSQLの記録リスト
+   */
+  @ReadOperation
+  public List<SlowQuery> slowQueries() {
+    return slowQueries.values().stream()
+        .sorted(Comparator.comparingLong(SlowQuery::getMaxElapsedMillis).reversed())
+        .toList();
+  }
+
+  /**
+   * SQLの形を求めます。 IN句の要素数のみが異なるSQLは同じ形として扱います。
+   */
+  private static String shapeOf(String statementId, String sql) {
+    return statementId + "|" + PLACEHOLDER_LIST.matcher(normalize(sql)).replaceAll("(?...)");
+  }
+
+  private static String normalize(String sql) {
+    return WHITESPACE.matcher(sql).replaceAll(" ").trim();
+  }
+}
@@ -0,0 +1,85 @@
+package portfolio.StudentManagement.repository.typehandler;
+
+import java.nio.ByteBuffer;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.MappedTypes;
+
+/**
+ * 文字列のUUIDと、BINARY(16)のカラムに保存する16バイトを相互に変換するTypeHandlerです。 バイト列はUUIDの上位ビットから順に並べるため、
+ * MySQLのUUID_TO_BIN（swap_flagなし）と同じ値になり、時刻順のUUID（バージョン7）はバイト列の順序でも時刻順に並びます。
+ * パラメーターにはjdbcType=BINARYを指定した場合に使用し、検索結果にはカラムの型がBINARYの場合に使用します。
+ * UUIDの形式でない文字列のパラメーターは、どのIDとも一致しない空のバイト列として扱います。 VARCHARで保存していた場合と同様に、該当なしとなります。
+ */
+@MappedTypes(String.class)
+@MappedJdbcTypes(JdbcType.BINARY)
+public class UuidBinaryTypeHandler extends BaseTypeHandler<String> {
+
+  private static final int UUID_BYTES = 16;
+  private static final byte[] NO_MATCH = new byte[0];
+  private static final Pattern UUID_PATTERN = Pattern.compile(
+      "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType)
+      throws SQLException {
+    ps.setBytes(i, UUID_PATTERN.matcher(parameter).matches() ? toBytes(parameter) : NO_MATCH);
+  }
+
+  @Override
+  public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return toUuidString(rs.getBytes(columnName));
+  }
+
+  @Override
+  public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return toUuidString(rs.getBytes(columnIndex));
+  }
+
+  @Override
+  public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return toUuidString(cs.getBytes(columnIndex));
+  }
+
+  /**
+   * 文字列のUUIDを16バイトに変換します。
+   *
+   * @param uuid UUIDの文字列表現
+   * @return 16バイトのバイト列
+   * @throws IllegalArgumentException UUIDの形式が誤っている場合
+   */
+  public static byte[] toBytes(String uuid) {
+    if (!UUID_PATTERN.matcher(uuid).matches()) {
+      throw new IllegalArgumentException("UUIDの形式が誤っています: " + uuid);
+    }
+    UUID value = UUID.fromString(uuid);
+    return ByteBuffer.allocate(UUID_BYTES)
+        .putLong(value.getMostSignificantBits())
+        .putLong(value.getLeastSignificantBits())
+        .array();
+  }
+
+  /**
+   * 16バイトのバイト列を文字列のUUIDに変換します。
+   *
+   * @param bytes 16バイトのバイト列、またはnull
+   * @return UUIDの文字列表現、バイト列がnullの場合はnull
+   */
+  public static String toUuidString(byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    if (bytes.length != UUID_BYTES) {
+      throw new IllegalArgumentException("UUIDのバイト列は16バイトである必要があります: " + bytes.length);
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong()).toString();
+  }
+}
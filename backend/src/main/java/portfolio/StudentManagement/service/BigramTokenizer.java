@@ -0,0 +1,108 @@
+package portfolio.StudentManagement.service;
+
+import java.io.IOException;
+import java.text.Normalizer;
+import java.util.Locale;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+
+/**
+ * 受講生検索インデックス用のトークナイザーです。 文字種や単語の区切りに関わらず、正規化した文字列の1文字ずつ（ユニグラム）と隣り合う2文字ずつ（バイグラム）をトークンとして出力します。
+ * バイグラムは先頭の文字と同じ位置に出力するため、検索語のバイグラムを連続する位置で照合すれば部分一致を判定できます。
+ */
+final class BigramTokenizer extends Tokenizer {
+
+  private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
+  private final OffsetAttribute offsetAttribute = addAttribute(OffsetAttribute.class);
+  private final PositionIncrementAttribute positionIncrementAttribute = addAttribute(
+      PositionIncrementAttribute.class);
+
+  private int[] codePoints;
+  private int index;
+  private boolean bigramPending;
+
+  /**
+   * 検索時と登録時で表記を揃えるための正規化を行います。 全角・半角の統一、英字の小文字化、濁点・半濁点やアクセント記号の除去、カタカナのひらがなへの変換を行います。
+   * MySQLの照合順序で同一視される表記を同じトークンにするためのもので、最終的な一致判定はDBのLIKE検索で行います。
+   *
+   * @param text 文字列
+   * @return 正規化した文字列
+   */
+  static String normalize(String text) {
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    normalized = Normalizer.normalize(normalized, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+    StringBuilder builder = new StringBuilder(normalized.length());
+    normalized.codePoints()
+        .map(codePoint -> codePoint >= 'ァ' && codePoint <= 'ヶ' ? codePoint - ('ァ' - 'ぁ')
+            : codePoint)
+        .forEach(builder::appendCodePoint);
+    return builder.toString();
+  }
+
+  /**
+   * 正規化済みの文字列から、指定位置の文字で始まる指定文字数のトークンを作成します。
+   *
+   * @param codePoints 正規化済みの文字列のコードポイント
+   * @param start      開始位置
+   * @param length     文字数（1または2）
+   * @return トークン
+   */
+  static String gram(int[] codePoints, int start, int length) {
+    return new String(codePoints, start, length);
+  }
+
+  @Override
+  public boolean incrementToken() throws IOException {
+    clearAttributes();
+    if (codePoints == null) {
+      codePoints = normalize(readAll()).codePoints().toArray();
+    }
+
+    if (bigramPending) {
+      // 直前のユニグラムと同じ位置にバイグラムを出力します
+      bigramPending = false;
+      setToken(index - 1, 2, 0);
+      return true;
+    }
+    if (index >= codePoints.length) {
+      return false;
+    }
+    setToken(index, 1, 1);
+    index++;
+    bigramPending = index < codePoints.length;
+    return true;
+  }
+
+  @Override
+  public void end() throws IOException {
+    super.end();
+    int finalOffset = correctOffset(codePoints == null ? 0 : codePoints.length);
+    offsetAttribute.setOffset(finalOffset, finalOffset);
+  }
+
+  @Override
+  public void reset() throws IOException {
+    super.reset();
+    codePoints = null;
+    index = 0;
+    bigramPending = false;
+  }
+
+  private void setToken(int start, int length, int positionIncrement) {
+    termAttribute.setEmpty().append(gram(codePoints, start, length));
+    offsetAttribute.setOffset(correctOffset(start), correctOffset(start + length));
+    positionIncrementAttribute.setPositionIncrement(positionIncrement);
+  }
+
+  private String readAll() throws IOException {
+    StringBuilder builder = new StringBuilder();
+    char[] buffer = new char[256];
+    int length;
+    while ((length = input.read(buffer)) != -1) {
+      builder.append(buffer, 0, length);
+    }
+    return builder.toString();
+  }
+}
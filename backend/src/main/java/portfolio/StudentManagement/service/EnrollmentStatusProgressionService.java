@@ -0,0 +1,214 @@
+package portfolio.StudentManagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import portfolio.StudentManagement.data.EnrollmentStatus;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.IdGenerators;
+import portfolio.StudentManagement.data.StudentCourse;
+import portfolio.StudentManagement.repository.EnrollmentStatusRepository;
+import portfolio.StudentManagement.repository.StudentCourseRepository;
+
+/**
+ * 受講生コース情報の開始日・終了日に応じて、申込状況を自動で進めるサービスです。 開始日を過ぎた本申込の受講生コース情報を受講中に、
+ * 終了日を過ぎた受講中の受講生コース情報を受講終了に、定期実行で進めます。 受講生コース情報はインデックスを使って一定件数ずつ検索し、件数ごとにトランザクションを分けて更新するため、 テーブルを長時間ロックすることはありません。
+ * 現在の申込状況は更新前のステータスを条件に更新するため、複数のノードで同時に実行しても同じ受講生コース情報が二重に進められることはありません。
+ * 処理件数と、開始日・終了日から実際に進めるまでの遅れはメトリクス（course.progression.*）として公開します。 遅れは申込状況を進めた受講生コース情報のみを記録します。
+ */
+@Service
+public class EnrollmentStatusProgressionService {
+
+  static final String ADVANCED_METRIC = "course.progression.advanced";
+  static final String CONFLICTS_METRIC = "course.progression.conflicts";
+  static final String LAG_METRIC = "course.progression.lag";
+  static final String RUN_METRIC = "course.progression.run";
+
+  private StudentCourseRepository studentCourseRepository;
+  private EnrollmentStatusRepository enrollmentStatusRepository;
+  private StudentDetailCache studentDetailCache;
+  private TransactionTemplate transactionTemplate;
+  private MeterRegistry meterRegistry;
+  private Clock clock;
+  private int chunkSize;
+  private List<Progression> progressions;
+
+  /**
+   * コンストラクタ
+   *
+   * @param studentCourseRepository    受講生コースリポジトリ
+   * @param enrollmentStatusRepository 申込状況リポジトリ
+   * @param studentDetailCache         受講生詳細キャッシュ
+   * @param transactionManager         トランザクションマネージャー
+   * @param meterRegistry              メトリクスの登録先
+   * @param chunkSize                  1つのトランザクションで進める受講生コース情報の件数
+   */
+  @Autowired
+  public EnrollmentStatusProgressionService(StudentCourseRepository studentCourseRepository,
+      EnrollmentStatusRepository enrollmentStatusRepository, StudentDetailCache studentDetailCache,
+      PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+      @Value("${course-progression.chunk-size:500}") int chunkSize) {
+    this(studentCourseRepository, enrollmentStatusRepository, studentDetailCache,
+        new TransactionTemplate(transactionManager), meterRegistry, Clock.systemDefaultZone(),
+        chunkSize);
+  }
+
+  EnrollmentStatusProgressionService(StudentCourseRepository studentCourseRepository,
+      EnrollmentStatusRepository enrollmentStatusRepository, StudentDetailCache studentDetailCache,
+      TransactionTemplate transactionTemplate, MeterRegistry meterRegistry, Clock clock,
+      int chunkSize) {
+    this.studentCourseRepository = studentCourseRepository;
+    this.enrollmentStatusRepository = enrollmentStatusRepository;
+    this.studentDetailCache = studentDetailCache;
+    this.transactionTemplate = transactionTemplate;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+    this.chunkSize = chunkSize;
+    this.progressions = List.of(
+        new Progression(Status.本申込, Status.受講中,
+            studentCourseRepository::selectCoursesToStart, StudentCourse::getStartDate),
+        new Progression(Status.受講中, Status.受講終了,
+            studentCourseRepository::selectCoursesToFinish, StudentCourse::getEndDate));
+  }
+
+  /**
+   * 開始日・終了日を過ぎた受講生コース情報の申込状況を進めます。 実行日時はプロパティ（course-progression.cron）で指定し、"-"を指定した場合は実行しません。
+   * 開始日と終了日の両方を過ぎた本申込の受講生コース情報は、受講中を経て受講終了まで進めます。
+   *
+   * @return 申込状況を進めた受講生コース情報の件数
+   */
+  @Scheduled(cron = "${course-progression.cron:0 0 5 * * *}")
+  public int progressEnrollmentStatuses() {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "failure";
+    try {
+      LocalDateTime now = LocalDateTime.now(clock);
+      int advancedCount = 0;
+      for (Progression progression : progressions) {
+        advancedCount += progress(progression, now);
+      }
+      outcome = "success";
+      return advancedCount;
+    } finally {
+      sample.stop(meterRegistry.timer(RUN_METRIC, "outcome", outcome));
+    }
+  }
+
+  /**
+   * 1つのステータスについて、期日を過ぎた受講生コース情報がなくなるまで一定件数ずつ進めます。
+   *
+   * @param progression 進めるステータスの組み合わせ
+   * @param now         基準日時
+   * @return 申込状況を進めた受講生コース情報の件数
+   */
+  private int progress(Progression progression, LocalDateTime now) {
+    Counter advanced = meterRegistry.counter(ADVANCED_METRIC, "status", progression.to().name());
+    Counter conflicts = meterRegistry.counter(CONFLICTS_METRIC, "status", progression.to().name());
+    Timer lag = meterRegistry.timer(LAG_METRIC, "status", progression.to().name());
+
+    int advancedCount = 0;
+    while (true) {
+      List<StudentCourse> dueCourses = progression.selector().apply(now, chunkSize);
+      if (dueCourses.isEmpty()) {
+        return advancedCount;
+      }
+      List<StudentCourse> advancedCourses = transactionTemplate.execute(
+          status -> advanceChunk(dueCourses, progression, now));
+      advancedCount += advancedCourses.size();
+      advanced.increment(advancedCourses.size());
+      conflicts.increment(dueCourses.size() - advancedCourses.size());
+      advancedCourses.forEach(course -> lag.record(
+          Duration.between(progression.dueDate().apply(course), now)));
+      if (dueCourses.size() < chunkSize) {
+        return advancedCount;
+      }
+    }
+  }
+
+  /**
+   * 受講生コース情報の申込状況を1つのトランザクションで進めます。 他のノードが先に進めていた受講生コース情報については、登録した申込状況を取り消します。
+   * 更新件数が足りない場合のみ受講生コース情報を再検索し、登録した申込状況を参照しているものを進めた受講生コース情報とします。
+   *
+   * @param dueCourses  期日を過ぎた受講生コース情報のリスト
+   * @param progression 進めるステータスの組み合わせ
+   * @param now         基準日時
+   * @return 申込状況を進めた受講生コース情報のリスト
+   */
+  private List<StudentCourse> advanceChunk(List<StudentCourse> dueCourses,
+      Progression progression, LocalDateTime now) {
+    List<EnrollmentStatus> newEnrollmentStatuses = new ArrayList<>(dueCourses.size());
+    Set<String> studentIds = new HashSet<>();
+    for (StudentCourse course : dueCourses) {
+      newEnrollmentStatuses.add(EnrollmentStatus.builder()
+          .id(IdGenerators.nextId())
+          .studentCourseId(course.getId())
+          .status(progression.to())
+          .createdAt(now)
+          .build());
+      studentIds.add(course.getStudentId());
+    }
+
+    enrollmentStatusRepository.createEnrollmentStatuses(newEnrollmentStatuses);
+    int updatedCount = studentCourseRepository.compareAndUpdateCurrentStatuses(
+        newEnrollmentStatuses, progression.from());
+    List<StudentCourse> advancedCourses = dueCourses;
+    if (updatedCount < newEnrollmentStatuses.size()) {
+      advancedCourses = selectAdvancedCourses(dueCourses, newEnrollmentStatuses);
+      enrollmentStatusRepository.deleteUnreferencedEnrollmentStatuses(newEnrollmentStatuses);
+    }
+    studentIds.forEach(studentDetailCache::invalidate);
+    return advancedCourses;
+  }
+
+  /**
+   * 受講生コース情報を再検索し、現在の申込状況として登録した申込状況を参照しているもののみを返します。
+   *
+   * @param dueCourses            期日を過ぎた受講生コース情報のリスト
+   * @param newEnrollmentStatuses 登録した申込状況のリスト
+   * @return 申込状況を進めた受講生コース情報のリスト
+   */
+  private List<StudentCourse> selectAdvancedCourses(List<StudentCourse> dueCourses,
+      List<EnrollmentStatus> newEnrollmentStatuses) {
+    Set<String> newStatusIds = newEnrollmentStatuses.stream()
+        .map(EnrollmentStatus::getId)
+        .collect(Collectors.toSet());
+    Set<String> advancedIds = studentCourseRepository.selectCourseListByIds(
+            dueCourses.stream().map(StudentCourse::getId).collect(Collectors.toSet())).stream()
+        .filter(course -> newStatusIds.contains(course.getEnrollmentStatus().getId()))
+        .map(StudentCourse::getId)
+        .collect(Collectors.toSet());
+    return dueCourses.stream()
+        .filter(course -> advancedIds.contains(course.getId()))
+        .toList();
+  }
+
+  /**
+   * 期日を過ぎた受講生コース情報の申込状況を、あるステータスから次のステータスへ進める組み合わせです。
+   *
+   * @param from     進める前のステータス
+   * @param to       進めた後のステータス
+   * @param selector 基準日時と件数の上限から、期日を過ぎた受講生コース情報を検索する処理
+   * @param dueDate  受講生コース情報の期日
+   */
+  private record Progression(Status from, Status to,
+                             BiFunction<LocalDateTime, Integer, List<StudentCourse>> selector,
+                             Function<StudentCourse, LocalDateTime> dueDate) {
+
+  }
+}
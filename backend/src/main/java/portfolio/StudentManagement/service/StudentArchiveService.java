@@ -0,0 +1,102 @@
+package portfolio.StudentManagement.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import portfolio.StudentManagement.repository.StudentArchiveRepository;
+
+/**
+ * 論理削除から一定期間が経過した受講生を、受講生コース情報・申込状況の履歴とあわせてアーカイブテーブルに移すサービスです。
+ * 論理削除した受講生が稼働中のテーブルとインデックスに残り続けないよう、定期実行で移します。 受講生は一定件数ずつ検索し、件数ごとにトランザクションを分けて移すため、
+ * テーブルを長時間ロックすることはありません。 アーカイブした受講生の件数はメトリクス（student.archive.archived）として公開します。
+ */
+@Service
+public class StudentArchiveService {
+
+  static final String ARCHIVED_METRIC = "student.archive.archived";
+
+  private StudentArchiveRepository studentArchiveRepository;
+  private TransactionTemplate transactionTemplate;
+  private MeterRegistry meterRegistry;
+  private Clock clock;
+  private Duration retention;
+  private int chunkSize;
+
+  /**
+   * コンストラクタ
+   *
+   * @param studentArchiveRepository 受講生アーカイブリポジトリ
+   * @param transactionManager       トランザクションマネージャー
+   * @param meterRegistry            メトリクスの登録先
+   * @param retention                論理削除からアーカイブするまでの期間
+   * @param chunkSize                1つのトランザクションで移す受講生の件数
+   */
+  @Autowired
+  public StudentArchiveService(StudentArchiveRepository studentArchiveRepository,
+      PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+      @Value("${student-archive.retention:30d}") Duration retention,
+      @Value("${student-archive.chunk-size:500}") int chunkSize) {
+    this(studentArchiveRepository, new TransactionTemplate(transactionManager), meterRegistry,
+        Clock.systemDefaultZone(), retention, chunkSize);
+  }
+
+  StudentArchiveService(StudentArchiveRepository studentArchiveRepository,
+      TransactionTemplate transactionTemplate, MeterRegistry meterRegistry, Clock clock,
+      Duration retention, int chunkSize) {
+    this.studentArchiveRepository = studentArchiveRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+    this.retention = retention;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * 論理削除から一定期間が経過した受講生をアーカイブテーブルに移します。 実行日時はプロパティ（student-archive.cron）で指定し、"-"を指定した場合は実行しません。
+   *
+   * @return アーカイブした受講生の件数
+   */
+  @Scheduled(cron = "${student-archive.cron:0 30 4 * * *}")
+  public int archiveDeletedStudents() {
+    LocalDateTime deletedBefore = LocalDateTime.now(clock).minus(retention);
+    int archivedCount = 0;
+    while (true) {
+      int chunkCount = transactionTemplate.execute(status -> archiveChunk(deletedBefore));
+      archivedCount += chunkCount;
+      meterRegistry.counter(ARCHIVED_METRIC).increment(chunkCount);
+      if (chunkCount < chunkSize) {
+        return archivedCount;
+      }
+    }
+  }
+
+  /**
+   * アーカイブ対象の受講生を一定件数だけ、1つのトランザクションで移します。 削除は外部キーで参照している側から順に行います。
+   *
+   * @param deletedBefore この日時以前に論理削除された受講生を対象とします
+   * @return アーカイブした受講生の件数
+   */
+  private int archiveChunk(LocalDateTime deletedBefore) {
+    List<String> studentIds = studentArchiveRepository
+        .selectStudentIdsToArchive(deletedBefore, chunkSize);
+    if (studentIds.isEmpty()) {
+      return 0;
+    }
+
+    studentArchiveRepository.archiveStudents(studentIds);
+    studentArchiveRepository.archiveStudentCourses(studentIds);
+    studentArchiveRepository.archiveEnrollmentStatuses(studentIds);
+    studentArchiveRepository.deleteEnrollmentStatusesByStudentIds(studentIds);
+    studentArchiveRepository.deleteStudentCoursesByStudentIds(studentIds);
+    studentArchiveRepository.deleteStudentsByIds(studentIds);
+    return studentIds.size();
+  }
+}
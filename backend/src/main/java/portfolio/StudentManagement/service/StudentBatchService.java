@@ -0,0 +1,256 @@
+package portfolio.StudentManagement.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.data.StudentCourse;
+import portfolio.StudentManagement.domain.StudentBatchItemResult;
+import portfolio.StudentManagement.domain.StudentBatchResult;
+import portfolio.StudentManagement.domain.StudentDetail;
+import portfolio.StudentManagement.repository.EnrollmentStatusRepository;
+import portfolio.StudentManagement.repository.StudentCourseRepository;
+import portfolio.StudentManagement.repository.StudentRepository;
+
+/**
+ * 受講生詳細の一括登録を行うサービスです。 INSERTをJDBCのバッチ実行でまとめて送信し、一定件数ごとにトランザクションを分けて登録します。
+ * メールアドレスの重複などで登録できない受講生詳細があっても、その受講生詳細のみを失敗として扱い、残りの登録は継続します。
+ */
+@Service
+public class StudentBatchService {
+
+  /**
+   * 1つのトランザクションで登録する受講生詳細の件数です。
+   */
+  static final int CHUNK_SIZE = 500;
+
+  static final String DUPLICATE_EMAIL_IN_REQUEST = "リクエスト内でメールアドレスが重複しています";
+  static final String DUPLICATE_EMAIL = "既に登録されているメールアドレスです";
+  static final String MISSING_STUDENT_COURSE = "受講生と、申込状況を含む受講生コース情報が1件以上必要です";
+  static final String REGISTRATION_FAILED = "登録に失敗しました";
+
+  private SqlSessionTemplate batchSqlSession;
+  private TransactionTemplate transactionTemplate;
+  private StudentRepository studentRepository;
+  private Validator validator;
+  private StudentSearchIndex studentSearchIndex;
+
+  /**
+   * コンストラクタ。 通常の検索や登録とはExecutorTypeが異なるため、バッチ実行用のSqlSessionTemplateをこのサービス専用に生成します。
+   *
+   * @param sqlSessionFactory  SqlSessionFactory
+   * @param transactionManager トランザクションマネージャー
+   * @param studentRepository  受講生リポジトリ
+   * @param validator          バリデーター
+   * @param studentSearchIndex 受講生の全文検索インデックス
+   */
+  @Autowired
+  public StudentBatchService(SqlSessionFactory sqlSessionFactory,
+      PlatformTransactionManager transactionManager, StudentRepository studentRepository,
+      Validator validator, StudentSearchIndex studentSearchIndex) {
+    this(new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH),
+        new TransactionTemplate(transactionManager), studentRepository, validator,
+        studentSearchIndex);
+  }
+
+  StudentBatchService(SqlSessionTemplate batchSqlSession, TransactionTemplate transactionTemplate,
+      StudentRepository studentRepository, Validator validator,
+      StudentSearchIndex studentSearchIndex) {
+    this.batchSqlSession = batchSqlSession;
+    this.transactionTemplate = transactionTemplate;
+    this.studentRepository = studentRepository;
+    this.validator = validator;
+    this.studentSearchIndex = studentSearchIndex;
+  }
+
+  /**
+   * 受講生詳細を一括で登録します。 各受講生詳細に紐づく受講生コース情報は全て登録し、それぞれの申込状況を最初の申込状況として登録します。 IDなどのデフォルト値は1件ずつの登録と同様に設定します。
+   * 入力値が無効なもの、メールアドレスがリクエスト内または登録済みの受講生と重複するものは登録せず、失敗として処理結果に含めます。
+   * チャンク単位の登録に失敗した場合は、そのチャンクのみ1件ずつ登録し直し、失敗した受講生詳細を特定します。
+   *
+   * @param studentDetailList 受講生詳細リスト
+   * @return リクエストと同じ順序に並べた処理結果
+   */
+  public StudentBatchResult registerStudents(List<StudentDetail> studentDetailList) {
+    StudentBatchItemResult[] results = new StudentBatchItemResult[studentDetailList.size()];
+    Map<Integer, StudentDetail> validDetails = new HashMap<>();
+    Set<String> requestedEmails = new HashSet<>();
+    for (int i = 0; i < studentDetailList.size(); i++) {
+      StudentDetail studentDetail = studentDetailList.get(i);
+      String error = validate(studentDetail);
+      if (Objects.isNull(error) && !requestedEmails.add(studentDetail.getStudent().getEmail())) {
+        error = DUPLICATE_EMAIL_IN_REQUEST;
+      }
+      if (Objects.nonNull(error)) {
+        results[i] = StudentBatchItemResult.failure(i, error);
+      } else {
+        validDetails.put(i, studentDetail);
+      }
+    }
+
+    Set<String> existingEmails = selectExistingEmails(requestedEmails);
+    List<Integer> chunk = new ArrayList<>(CHUNK_SIZE);
+    Map<Integer, StudentDetail> newDetails = new HashMap<>();
+    for (int i = 0; i < studentDetailList.size(); i++) {
+      StudentDetail studentDetail = validDetails.get(i);
+      if (Objects.isNull(studentDetail)) {
+        continue;
+      }
+      if (existingEmails.contains(studentDetail.getStudent().getEmail())) {
+        results[i] = StudentBatchItemResult.failure(i, DUPLICATE_EMAIL);
+        continue;
+      }
+      newDetails.put(i, newStudentDetail(studentDetail));
+      chunk.add(i);
+      if (chunk.size() == CHUNK_SIZE) {
+        registerChunk(chunk, newDetails, results);
+        chunk.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      registerChunk(chunk, newDetails, results);
+    }
+    return new StudentBatchResult(Arrays.asList(results));
+  }
+
+  /**
+   * 受講生詳細の入力値を検証します。
+   *
+   * @param studentDetail 受講生詳細
+   * @return 入力値が無効な場合はその理由、有効な場合はnull
+   */
+  private String validate(StudentDetail studentDetail) {
+    if (Objects.isNull(studentDetail) || Objects.isNull(studentDetail.getStudent())
+        || Objects.isNull(studentDetail.getStudentCourseList())
+        || studentDetail.getStudentCourseList().isEmpty()
+        || studentDetail.getStudentCourseList().stream()
+        .anyMatch(course -> Objects.isNull(course) || Objects.isNull(course.getEnrollmentStatus()))) {
+      return MISSING_STUDENT_COURSE;
+    }
+    Set<ConstraintViolation<StudentDetail>> violations = validator.validate(studentDetail);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+
+  /**
+   * リクエストに含まれるメールアドレスのうち、既に登録されているものを検索します。 IN句が長くなりすぎないよう分割して検索します。
+   *
+   * @param emails リクエストに含まれるメールアドレス
+   * @return 登録済みのメールアドレス
+   */
+  private Set<String> selectExistingEmails(Set<String> emails) {
+    List<String> emailList = List.copyOf(emails);
+    Set<String> existingEmails = new HashSet<>();
+    for (int from = 0; from < emailList.size(); from += StudentService.STUDENT_ID_CHUNK_SIZE) {
+      int to = Math.min(from + StudentService.STUDENT_ID_CHUNK_SIZE, emailList.size());
+      existingEmails.addAll(studentRepository.selectExistingEmails(emailList.subList(from, to)));
+    }
+    return existingEmails;
+  }
+
+  /**
+   * 1件ずつの登録と同様にデフォルト値を設定した、新規登録する受講生詳細を生成します。
+   *
+   * @param studentDetail リクエストとして受け取った受講生詳細
+   * @return 新規登録する受講生詳細
+   */
+  private StudentDetail newStudentDetail(StudentDetail studentDetail) {
+    Student newStudent = StudentService.newStudent(studentDetail.getStudent());
+    List<StudentCourse> newStudentCourseList = studentDetail.getStudentCourseList().stream()
+        .map(course -> StudentService.newStudentCourse(newStudent.getId(), course))
+        .toList();
+    return new StudentDetail(newStudent, newStudentCourseList);
+  }
+
+  /**
+   * チャンク内の受講生詳細を1つのトランザクションで登録します。 失敗した場合はロールバックし、1件ずつ登録し直します。
+   *
+   * @param chunk      登録する受講生詳細のリクエスト内での位置
+   * @param newDetails リクエスト内での位置ごとの新規登録する受講生詳細
+   * @param results    処理結果の格納先
+   */
+  private void registerChunk(List<Integer> chunk, Map<Integer, StudentDetail> newDetails,
+      StudentBatchItemResult[] results) {
+    List<StudentDetail> studentDetails = chunk.stream().map(newDetails::get).toList();
+    try {
+      insert(studentDetails);
+      for (int index : chunk) {
+        results[index] = StudentBatchItemResult.success(index, newDetails.get(index));
+      }
+    } catch (DataAccessException e) {
+      for (int index : chunk) {
+        results[index] = registerOne(index, newDetails.get(index));
+      }
+    }
+  }
+
+  /**
+   * 受講生詳細を1件だけのトランザクションで登録します。
+   *
+   * @param index         リクエスト内での位置
+   * @param studentDetail 新規登録する受講生詳細
+   * @return 処理結果
+   */
+  private StudentBatchItemResult registerOne(int index, StudentDetail studentDetail) {
+    try {
+      insert(List.of(studentDetail));
+      return StudentBatchItemResult.success(index, studentDetail);
+    } catch (DuplicateKeyException e) {
+      return StudentBatchItemResult.failure(index, DUPLICATE_EMAIL);
+    } catch (DataAccessException e) {
+      return StudentBatchItemResult.failure(index, REGISTRATION_FAILED);
+    }
+  }
+
+  /**
+   * 受講生情報、受講生コース情報、申込状況の順にINSERTをまとめて実行し、トランザクションをコミットします。
+   * 同じSQLが連続するよう種類ごとにまとめて発行するため、それぞれ1回のバッチ実行で送信されます。
+   *
+   * @param studentDetails 新規登録する受講生詳細
+   */
+  private void insert(List<StudentDetail> studentDetails) {
+    transactionTemplate.executeWithoutResult(status -> {
+      StudentRepository batchStudentRepository =
+          batchSqlSession.getMapper(StudentRepository.class);
+      StudentCourseRepository batchStudentCourseRepository =
+          batchSqlSession.getMapper(StudentCourseRepository.class);
+      EnrollmentStatusRepository batchEnrollmentStatusRepository =
+          batchSqlSession.getMapper(EnrollmentStatusRepository.class);
+
+      studentDetails.forEach(
+          studentDetail -> batchStudentRepository.createStudent(studentDetail.getStudent()));
+      studentDetails.stream()
+          .flatMap(studentDetail -> studentDetail.getStudentCourseList().stream())
+          .forEach(batchStudentCourseRepository::createStudentCourse);
+      studentDetails.stream()
+          .flatMap(studentDetail -> studentDetail.getStudentCourseList().stream())
+          .forEach(course -> batchEnrollmentStatusRepository.createEnrollmentStatus(
+              course.getEnrollmentStatus()));
+      batchSqlSession.flushStatements();
+      studentDetails.forEach(
+          studentDetail -> studentSearchIndex.update(studentDetail.getStudent()));
+    });
+  }
+}
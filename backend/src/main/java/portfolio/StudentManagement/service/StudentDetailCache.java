@@ -0,0 +1,106 @@
+package portfolio.StudentManagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import portfolio.StudentManagement.domain.StudentDetail;
+
+/**
+ * 受講生IDをキーに受講生詳細を保持するキャッシュです。 件数の上限を超えた場合はW-TinyLFUで追い出し、登録から一定時間が経過したものは破棄します。
+ * 受講生情報・受講生コース情報・申込状況を更新した場合は、トランザクションの完了後に該当の受講生を破棄します。
+ * ヒット率や追い出し件数はメトリクス（cache.gets, cache.evictions など、name=studentDetail）として公開します。
+ */
+@Component
+public class StudentDetailCache {
+
+  static final String CACHE_NAME = "studentDetail";
+
+  private final Cache<String, StudentDetail> cache;
+
+  /**
+   * 破棄が行われるたびに進めるカウンターです。 DBからの読み込み中に破棄が行われた場合に、読み込んだ古い受講生詳細を保持しないために使用します。
+   */
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  @Autowired
+  public StudentDetailCache(
+      @Value("${student-detail-cache.maximum-size:10000}") long maximumSize,
+      @Value("${student-detail-cache.expire-after-write:10m}") Duration expireAfterWrite,
+      MeterRegistry meterRegistry) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWrite)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /**
+   * 受講生詳細を取得します。キャッシュにない場合は引数の処理でDBから読み込み、キャッシュに保持します。 該当する受講生が存在せず読み込み結果がnullの場合は保持しません。
+   * 返却する受講生詳細は他の呼び出し元と共有されるため、変更しないでください。
+   *
+   * @param id     受講生ID
+   * @param loader 受講生IDから受講生詳細を読み込む処理
+   * @return 受講生詳細、該当する受講生が存在しない場合はnull
+   */
+  public StudentDetail get(String id, Function<String, StudentDetail> loader) {
+    StudentDetail cached = cache.getIfPresent(id);
+    if (cached != null) {
+      return cached;
+    }
+
+    long countBeforeLoad = invalidationCount.get();
+    StudentDetail loaded = loader.apply(id);
+    if (loaded == null) {
+      return null;
+    }
+    cache.put(id, loaded);
+    // 読み込み中に破棄が行われていた場合、読み込んだ内容が古い可能性があるため保持しません
+    if (invalidationCount.get() != countBeforeLoad) {
+      cache.invalidate(id);
+    }
+    return loaded;
+  }
+
+  /**
+   * 受講生詳細を破棄します。 トランザクション内で呼び出された場合は、更新内容が確定した後に破棄します。 確定前に破棄すると、その間に読み込まれた更新前の内容が保持されてしまうためです。
+   *
+   * @param id 受講生ID
+   */
+  public void invalidate(String id) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          invalidateNow(id);
+        }
+      });
+    } else {
+      invalidateNow(id);
+    }
+  }
+
+  /**
+   * キャッシュの統計情報を返します。
+   *
+   * @return ヒット数、ミス数、追い出し件数などの統計情報
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  private void invalidateNow(String id) {
+    invalidationCount.incrementAndGet();
+    cache.invalidate(id);
+  }
+}
@@ -0,0 +1,92 @@
+package portfolio.StudentManagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import portfolio.StudentManagement.domain.StudentDetail;
+import portfolio.StudentManagement.domain.StudentExportRow;
+import portfolio.StudentManagement.repository.StudentRepository;
+
+/**
+ * 受講生詳細をCSVまたはNDJSONとしてエクスポートするサービスです。 受講生詳細はカーソルで1件ずつ読み出して出力先に書き込むため、
+ * 受講生の件数に関わらず使用するメモリは一定です。 出力先への書き込みに失敗した場合（クライアントの切断など）は読み出しを中断します。
+ */
+@Service
+public class StudentExportService {
+
+  private StudentRepository studentRepository;
+  private ObjectWriter csvWriter;
+  private ObjectWriter ndjsonWriter;
+
+  /**
+   * コンストラクタ
+   *
+   * @param studentRepository 受講生リポジトリ
+   * @param objectMapper      受講生詳細をNDJSONの各行に変換するObjectMapper
+   */
+  @Autowired
+  public StudentExportService(StudentRepository studentRepository, ObjectMapper objectMapper) {
+    this.studentRepository = studentRepository;
+    CsvMapper csvMapper = CsvMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    this.csvWriter = csvMapper.writer(csvMapper.schemaFor(StudentExportRow.class).withHeader());
+    this.ndjsonWriter = objectMapper.writerFor(StudentDetail.class).withRootValueSeparator("\n");
+  }
+
+  /**
+   * 論理削除されていない全ての受講生詳細をCSVとして書き込みます。 1行が受講生1名と、その受講生コース情報1件に対応します。
+   *
+   * @param out 出力先
+   * @throws IOException 出力先への書き込みに失敗した場合、または書き込み中のスレッドが割り込まれた場合
+   */
+  @Transactional(readOnly = true)
+  public void exportCsv(OutputStream out) throws IOException {
+    try (Cursor<StudentDetail> cursor = studentRepository.selectStudentDetailCursor();
+        SequenceWriter writer = csvWriter.writeValues(out)) {
+      for (StudentDetail studentDetail : cursor) {
+        checkInterrupted();
+        writer.writeAll(StudentExportRow.of(studentDetail));
+      }
+    }
+  }
+
+  /**
+   * 論理削除されていない全ての受講生詳細をNDJSONとして書き込みます。 1行が受講生詳細1件に対応します。
+   *
+   * @param out 出力先
+   * @throws IOException 出力先への書き込みに失敗した場合、または書き込み中のスレッドが割り込まれた場合
+   */
+  @Transactional(readOnly = true)
+  public void exportNdjson(OutputStream out) throws IOException {
+    try (Cursor<StudentDetail> cursor = studentRepository.selectStudentDetailCursor();
+        SequenceWriter writer = ndjsonWriter.writeValues(out)) {
+      for (StudentDetail studentDetail : cursor) {
+        checkInterrupted();
+        writer.write(studentDetail);
+      }
+    }
+  }
+
+  /**
+   * 書き込み中のスレッドが割り込まれていた場合（リクエストの取り消しなど）、読み出しを中断します。
+   *
+   * @throws InterruptedIOException スレッドが割り込まれていた場合
+   */
+  private void checkInterrupted() throws InterruptedIOException {
+    if (Thread.currentThread().isInterrupted()) {
+      throw new InterruptedIOException("受講生詳細のエクスポートが中断されました");
+    }
+  }
+}
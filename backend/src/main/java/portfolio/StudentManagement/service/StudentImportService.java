@@ -0,0 +1,179 @@
+package portfolio.StudentManagement.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import portfolio.StudentManagement.domain.StudentBatchItemResult;
+import portfolio.StudentManagement.domain.StudentDetail;
+import portfolio.StudentManagement.domain.StudentImportError;
+import portfolio.StudentManagement.domain.StudentImportResult;
+import portfolio.StudentManagement.domain.StudentImportRow;
+
+/**
+ * CSVまたはNDJSONのファイルから受講生を一括で取り込むサービスです。 ファイルは先頭から1行ずつ読み込み、一括登録のチャンク分だけ溜まるごとに登録するため、
+ * ファイルの大きさに関わらず保持する行はチャンク1つ分に収まります。 取り込めなかった行は件数を数え、行番号と理由は先頭から上限件数まで保持します。
+ */
+@Service
+public class StudentImportService {
+
+  /**
+   * 処理結果に含める、取り込めなかった行の上限です。
+   */
+  static final int MAX_REPORTED_ERRORS = 100;
+
+  static final String INVALID_ROW = "行の形式が誤っています";
+  static final String UNREADABLE_REST = "ファイルの形式が誤っているため、以降の行を読み込めませんでした";
+
+  private StudentBatchService batchService;
+  private ObjectReader csvReader;
+  private ObjectReader ndjsonReader;
+
+  /**
+   * コンストラクタ
+   *
+   * @param batchService 受講生一括登録サービス
+   * @param objectMapper NDJSONの各行を受講生詳細に変換するObjectMapper
+   */
+  @Autowired
+  public StudentImportService(StudentBatchService batchService, ObjectMapper objectMapper) {
+    this.batchService = batchService;
+    CsvMapper csvMapper = CsvMapper.builder()
+        .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+        .enable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+        .build();
+    this.csvReader = csvMapper.readerFor(StudentImportRow.class)
+        .with(CsvSchema.emptySchema().withHeader());
+    this.ndjsonReader = objectMapper.readerFor(StudentDetail.class);
+  }
+
+  /**
+   * CSVから受講生を取り込みます。 1行目はヘッダー行とし、fullName, kana, nickName, email, city, age, gender, courseName,
+   * statusの列を読み込みます。 1行が受講生1名と、その受講生コース情報1件に対応します。
+   *
+   * @param csv CSVの入力ストリーム（UTF-8）
+   * @return 処理結果
+   * @throws IOException 入力ストリームの読み込みに失敗した場合
+   */
+  public StudentImportResult importCsv(InputStream csv) throws IOException {
+    ImportProgress progress = new ImportProgress();
+    try (MappingIterator<StudentImportRow> rows = csvReader.readValues(csv)) {
+      long row = 0;
+      while (true) {
+        row++;
+        try {
+          if (!rows.hasNextValue()) {
+            break;
+          }
+          progress.accept(row, rows.nextValue().toStudentDetail());
+        } catch (JsonParseException e) {
+          progress.reject(row, UNREADABLE_REST);
+          break;
+        } catch (JsonProcessingException | RuntimeJsonMappingException e) {
+          progress.reject(row, INVALID_ROW);
+        }
+      }
+    }
+    return progress.finish();
+  }
+
+  /**
+   * NDJSONから受講生を取り込みます。 1行が受講生詳細1件のJSONに対応し、受講生コース情報は全て登録します。空行は読み飛ばします。
+   *
+   * @param ndjson NDJSONの入力ストリーム（UTF-8）
+   * @return 処理結果
+   * @throws IOException 入力ストリームの読み込みに失敗した場合
+   */
+  public StudentImportResult importNdjson(InputStream ndjson) throws IOException {
+    ImportProgress progress = new ImportProgress();
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+      long row = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        row++;
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          progress.accept(row, ndjsonReader.readValue(line));
+        } catch (JsonProcessingException e) {
+          progress.reject(row, INVALID_ROW);
+        }
+      }
+    }
+    return progress.finish();
+  }
+
+  /**
+   * 1回の取込の進捗です。 読み込んだ受講生詳細をチャンク1つ分まで溜めて一括登録し、件数と取り込めなかった行を集計します。
+   */
+  private class ImportProgress {
+
+    private final long startedAt = System.nanoTime();
+    private List<StudentDetail> chunk = new ArrayList<>(StudentBatchService.CHUNK_SIZE);
+    private List<Long> chunkRows = new ArrayList<>(StudentBatchService.CHUNK_SIZE);
+    private final List<StudentImportError> errors = new ArrayList<>();
+    private long totalRows;
+    private long importedCount;
+    private long rejectedCount;
+
+    void accept(long row, StudentDetail studentDetail) {
+      totalRows++;
+      chunk.add(studentDetail);
+      chunkRows.add(row);
+      if (chunk.size() == StudentBatchService.CHUNK_SIZE) {
+        flush();
+      }
+    }
+
+    void reject(long row, String error) {
+      totalRows++;
+      addError(row, error);
+    }
+
+    private void addError(long row, String error) {
+      rejectedCount++;
+      if (errors.size() < MAX_REPORTED_ERRORS) {
+        errors.add(new StudentImportError(row, error));
+      }
+    }
+
+    StudentImportResult finish() {
+      if (!chunk.isEmpty()) {
+        flush();
+      }
+      long elapsedNanos = System.nanoTime() - startedAt;
+      double rowsPerSecond = elapsedNanos > 0 ? totalRows * 1_000_000_000.0 / elapsedNanos : 0;
+      return new StudentImportResult(totalRows, importedCount, rejectedCount,
+          elapsedNanos / 1_000_000, rowsPerSecond, errors);
+    }
+
+    private void flush() {
+      for (StudentBatchItemResult result : batchService.registerStudents(chunk).getResults()) {
+        if (result.isSuccess()) {
+          importedCount++;
+        } else {
+          addError(chunkRows.get(result.getIndex()), result.getError());
+        }
+      }
+      chunk = new ArrayList<>(StudentBatchService.CHUNK_SIZE);
+      chunkRows = new ArrayList<>(StudentBatchService.CHUNK_SIZE);
+    }
+  }
+}
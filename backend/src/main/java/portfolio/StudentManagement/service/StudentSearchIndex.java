@@ -0,0 +1,294 @@
+package portfolio.StudentManagement.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.domain.StudentCursor;
+import portfolio.StudentManagement.repository.StudentRepository;
+
+/**
+ * 受講生の部分一致検索に使用するメモリ上の全文検索インデックスです。 氏名、フリガナ、ニックネーム、メールアドレス、地域、備考をバイグラムで索引付けし、検索条件に合致しうる受講生IDを返します。
+ * 起動時にDBから再構築し、以降は受講生の登録・更新が確定した時点で反映します。 返却する受講生IDは候補であり、最終的な一致判定はDBのLIKE検索で行います。
+ * 候補はIN句による絞り込みに使用するため、DBのLIKE検索に一致する受講生を漏れなく含むと言える場合のみ返します。 他のプロセス（別のアプリケーションや直接のSQL）からの更新はインデックスに反映されないため、
+ * このアプリケーションが受講生を更新する唯一のプロセスである場合（student-search-index.sole-writer=true）のみインデックスを構築します。
+ */
+@Component
+public class StudentSearchIndex {
+
+  /**
+   * 候補の受講生IDの上限です。これを超える場合はIN句が長くなりすぎるため、インデックスを使用せずDBのみで検索します。
+   */
+  static final int MAX_CANDIDATES = 1000;
+
+  /**
+   * 再構築時に1回の問い合わせで読み込む受講生の件数です。 全件をメモリに保持しないよう、氏名・ID順のキーセットページネーションで読み込みます。
+   */
+  static final int REBUILD_BATCH_SIZE = 1000;
+
+  private static final String ID = "id";
+  private static final String FULL_NAME = "fullName";
+  private static final String KANA = "kana";
+  private static final String NICK_NAME = "nickName";
+  private static final String EMAIL = "email";
+  private static final String CITY = "city";
+  private static final String REMARK = "remark";
+
+  private final StudentRepository studentRepository;
+  private final boolean soleWriter;
+  private final IndexWriter indexWriter;
+  private final SearcherManager searcherManager;
+  /**
+   * 再構築と更新を直列化するロックです。 再構築中はDBを検索するため、仮想スレッドがキャリアスレッドを占有しないようsynchronizedではなくReentrantLockを使用します。
+   */
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private volatile boolean ready;
+
+  /**
+   * コンストラクタ。
+   *
+   * @param studentRepository 受講生リポジトリ
+   * @param soleWriter        このアプリケーションが受講生を更新する唯一のプロセスである場合はtrue、falseの場合はインデックスを使用しません
+   */
+  @Autowired
+  public StudentSearchIndex(StudentRepository studentRepository,
+      @Value("${student-search-index.sole-writer:false}") boolean soleWriter) {
+    this.studentRepository = studentRepository;
+    this.soleWriter = soleWriter;
+    Analyzer analyzer = new Analyzer() {
+      @Override
+      protected TokenStreamComponents createComponents(String fieldName) {
+        return new TokenStreamComponents(new BigramTokenizer());
+      }
+    };
+    try {
+      this.indexWriter = new IndexWriter(new ByteBuffersDirectory(),
+          new IndexWriterConfig(analyzer));
+      this.searcherManager = new SearcherManager(indexWriter, null);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * DBに登録されている削除されていない受講生からインデックスを再構築します。 アプリケーションの起動完了時に実行され、完了するまでは検索にインデックスを使用しません。
+   * 受講生は一定件数（REBUILD_BATCH_SIZE）ずつ読み込んでインデックスに追加します。 再構築中の登録・更新は再構築の完了後に反映します。
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    if (!soleWriter) {
+      return;
+    }
+    writeLock.lock();
+    try {
+      indexWriter.deleteAll();
+      StudentCursor after = null;
+      List<Student> studentList;
+      do {
+        studentList = studentRepository.selectStudentPage(null, null, null, null, null, null,
+            null, null, null, null, after, REBUILD_BATCH_SIZE);
+        for (Student student : studentList) {
+          indexWriter.addDocument(toDocument(student));
+        }
+        if (!studentList.isEmpty()) {
+          after = StudentCursor.from(studentList.getLast());
+        }
+      } while (studentList.size() == REBUILD_BATCH_SIZE);
+      searcherManager.maybeRefreshBlocking();
+      ready = true;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * 受講生の登録・更新内容をインデックスに反映します。 トランザクション内で呼び出された場合は、コミットされた後に反映します。 削除フラグが立っている受講生はインデックスから除外します。
+   *
+   * @param student 登録・更新後の受講生
+   */
+  public void update(Student student) {
+    if (!soleWriter) {
+      return;
+    }
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          updateNow(student);
+        }
+      });
+    } else {
+      updateNow(student);
+    }
+  }
+
+  /**
+   * 部分一致の検索条件に合致しうる受講生IDを検索します。 指定された検索条件はすべて満たす必要があります。
+   * 部分一致の検索条件が指定されていない場合、インデックスの構築前の場合、候補が上限を超える場合、候補に漏れがないと言えない検索語が含まれる場合はnullを返し、DBのみでの検索を促します。
+   *
+   * @param fullName 氏名
+   * @param kana     フリガナ
+   * @param nickName ニックネーム
+   * @param email    メールアドレス
+   * @param city     地域
+   * @param remark   備考
+   * @return 候補の受講生ID、インデックスを使用しない場合はnull
+   */
+  public Set<String> searchCandidateIds(String fullName, String kana, String nickName,
+      String email, String city, String remark) {
+    if (!ready) {
+      return null;
+    }
+
+    Map<String, String> conditions = new LinkedHashMap<>();
+    conditions.put(FULL_NAME, fullName);
+    conditions.put(KANA, kana);
+    conditions.put(NICK_NAME, nickName);
+    conditions.put(EMAIL, email);
+    conditions.put(CITY, city);
+    conditions.put(REMARK, remark);
+
+    BooleanQuery.Builder builder = new BooleanQuery.Builder();
+    boolean hasCondition = false;
+    for (Map.Entry<String, String> condition : conditions.entrySet()) {
+      if (!isExactlySearchable(condition.getValue())) {
+        return null;
+      }
+      Query query = toQuery(condition.getKey(), condition.getValue());
+      if (query != null) {
+        builder.add(query, Occur.FILTER);
+        hasCondition = true;
+      }
+    }
+    if (!hasCondition) {
+      return null;
+    }
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        TopDocs topDocs = searcher.search(builder.build(), MAX_CANDIDATES + 1);
+        if (topDocs.scoreDocs.length > MAX_CANDIDATES) {
+          return null;
+        }
+        Set<String> candidateIds = new HashSet<>();
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+          candidateIds.add(searcher.storedFields().document(scoreDoc.doc).get(ID));
+        }
+        return candidateIds;
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void updateNow(Student student) {
+    writeLock.lock();
+    try {
+      Term idTerm = new Term(ID, student.getId());
+      if (Boolean.TRUE.equals(student.getIsDeleted())) {
+        indexWriter.deleteDocuments(idTerm);
+      } else {
+        indexWriter.updateDocument(idTerm, toDocument(student));
+      }
+      searcherManager.maybeRefreshBlocking();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * 検索語について、DBのLIKE検索に一致する受講生がインデックスの候補に必ず含まれるか判定します。
+   * LIKEのワイルドカード（%、_）やエスケープ文字、照合順序（_ci）が大文字・小文字や全角・半角、かなの大小・濁点を同一視する文字はインデックスの正規化と一致する保証がないため、
+   * 漢字と半角スペースのみからなる検索語に限ります。
+   *
+   * @param value 検索語
+   * @return 候補に漏れがない場合、または検索語が指定されていない場合はtrue
+   */
+  static boolean isExactlySearchable(String value) {
+    if (value == null) {
+      return true;
+    }
+    return value.codePoints()
+        .allMatch(codePoint -> codePoint == ' ' || Character.isIdeographic(codePoint));
+  }
+
+  /**
+   * 検索語を検索クエリに変換します。1文字の場合はその文字を含むもの、2文字以上の場合は検索語のバイグラムが同じ順序で連続して現れるものを検索します。
+   *
+   * @param field 項目名
+   * @param value 検索語
+   * @return 検索クエリ、検索語が空の場合はnull
+   */
+  private static Query toQuery(String field, String value) {
+    if (value == null || value.isEmpty()) {
+      return null;
+    }
+    int[] codePoints = BigramTokenizer.normalize(value).codePoints().toArray();
+    if (codePoints.length == 0) {
+      return null;
+    }
+    if (codePoints.length == 1) {
+      return new TermQuery(new Term(field, BigramTokenizer.gram(codePoints, 0, 1)));
+    }
+    PhraseQuery.Builder builder = new PhraseQuery.Builder();
+    for (int i = 0; i < codePoints.length - 1; i++) {
+      builder.add(new Term(field, BigramTokenizer.gram(codePoints, i, 2)), i);
+    }
+    return builder.build();
+  }
+
+  private static Document toDocument(Student student) {
+    Document document = new Document();
+    document.add(new StringField(ID, student.getId(), Field.Store.YES));
+    addTextField(document, FULL_NAME, student.getFullName());
+    addTextField(document, KANA, student.getKana());
+    addTextField(document, NICK_NAME, student.getNickName());
+    addTextField(document, EMAIL, student.getEmail());
+    addTextField(document, CITY, student.getCity());
+    addTextField(document, REMARK, student.getRemark());
+    return document;
+  }
+
+  private static void addTextField(Document document, String field, String value) {
+    if (value != null) {
+      document.add(new TextField(field, value, Field.Store.NO));
+    }
+  }
+}
@@ -1,9 +1,15 @@
 package portfolio.StudentManagement.service;
 
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -11,11 +17,16 @@ import org.springframework.transaction.annotation.Transactional;
 import portfolio.StudentManagement.controller.converter.StudentConverter;
 import portfolio.StudentManagement.data.EnrollmentStatus;
 import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.IdGenerators;
 import portfolio.StudentManagement.data.Student;
 import portfolio.StudentManagement.data.Student.Gender;
 import portfolio.StudentManagement.data.StudentCourse;
+import portfolio.StudentManagement.domain.EnrollmentStatusTransitionResult;
+import portfolio.StudentManagement.domain.StudentCursor;
 import portfolio.StudentManagement.domain.StudentDetail;
+import portfolio.StudentManagement.domain.StudentDetailPage;
 import portfolio.StudentManagement.exception.EnrollmentStatusBadRequestException;
+import portfolio.StudentManagement.exception.EnrollmentStatusConflictException;
 import portfolio.StudentManagement.exception.EnrollmentStatusNotFoundException;
 import portfolio.StudentManagement.exception.StudentCourseNotFoundException;
 import portfolio.StudentManagement.exception.StudentNotFoundException;
@@ -25,91 +36,202 @@ import portfolio.StudentManagement.repository.StudentRepository;
 
 /**
  * 受講生情報を取り扱うサービスです。 受講生の検索や登録・更新処理を行います。
+ * 各メソッドの処理時間はメトリクス（student.service、methodタグにメソッド名）として公開します。
  */
 @Service
+@Timed(StudentService.TIMER_METRIC)
 public class StudentService {
 
+  /**
+   * 受講生の複数ID検索で1回の問い合わせに含めるIDの上限です。IN句が長くなりすぎないよう、これを超える場合は分割して検索します。
+   */
+  static final int STUDENT_ID_CHUNK_SIZE = 1000;
+
+  static final String TIMER_METRIC = "student.service";
+
   private StudentRepository studentRepository;
   private StudentCourseRepository studentCourseRepository;
   private EnrollmentStatusRepository enrollmentStatusRepository;
   private StudentConverter converter;
+  private StudentDetailCache studentDetailCache;
+  private StudentSearchIndex studentSearchIndex;
 
   @Autowired
   public StudentService(StudentRepository studentRepository,
       StudentCourseRepository studentCourseRepository,
       EnrollmentStatusRepository enrollmentStatusRepository,
-      StudentConverter converter) {
+      StudentConverter converter, StudentDetailCache studentDetailCache,
+      StudentSearchIndex studentSearchIndex) {
     this.studentRepository = studentRepository;
     this.studentCourseRepository = studentCourseRepository;
     this.enrollmentStatusRepository = enrollmentStatusRepository;
     this.converter = converter;
+    this.studentDetailCache = studentDetailCache;
+    this.studentSearchIndex = studentSearchIndex;
   }
 
   /**
    * 受講生詳細の検索を行います。
    * クエリパラメータとして受け取った値がある場合、クエリにマッチする受講生とそれに紐づく受講生コースリストを含んだ受講生リストを返します。クエリパラメータが全てnullの場合、全件を返します。
-   * なお、論理削除されたレコードは対象外とします。
+   * なお、論理削除されたレコードは対象外とします。 受講生コース情報は検索条件に合致した受講生の分のみを同じクエリで取得します。
+   * 部分一致の検索条件がある場合は、全文検索インデックスが候補を漏れなく返せる場合のみ、先に候補の受講生IDで絞り込みます。 それ以外の場合は絞り込まずにDBで検索します。 レプリカを構成している場合はレプリカで検索します。
    *
    * @return 受講生詳細リスト
    */
+  @Transactional(readOnly = true)
   public List<StudentDetail> getStudentDetailList(String fullName, String kana,
       String nickName, String email,
       String city, Integer minAge, Integer maxAge,
       Gender gender, String remark) {
-    List<Student> studentList = studentRepository.selectStudents(fullName, kana, nickName, email,
-        city, minAge, maxAge, gender, remark);
-    List<StudentCourse> studentCourseList = studentCourseRepository.selectAllCourseList();
+    Set<String> candidateIds = narrowCandidateIds(fullName, kana, nickName, email, city, remark);
+    return studentRepository.selectStudentDetails(fullName, kana, nickName, email,
+        city, minAge, maxAge, gender, remark, candidateIds);
+  }
 
-    return converter.getStudentDetailsList(studentList, studentCourseList);
+  /**
+   * 全文検索インデックスで候補の受講生IDを絞り込みます。 インデックスは候補に漏れがないと言えない場合（他プロセスからの更新がありうる、ワイルドカードや照合順序による同一視を含む検索語など）はnullを返すため、候補はそのままIN句の条件として使用できます。
+   * 候補がない場合はIN句を組み立てられないため、nullを返してDBのみで検索します。
+   *
+   * @return 候補の受講生IDのセット、絞り込まない場合はnull
+   */
+  private Set<String> narrowCandidateIds(String fullName, String kana, String nickName,
+      String email, String city, String remark) {
+    Set<String> candidateIds = studentSearchIndex.searchCandidateIds(fullName, kana, nickName,
+        email, city, remark);
+    return candidateIds == null || candidateIds.isEmpty() ? null : candidateIds;
   }
 
   /**
-   * 受講生検索です。 IDに紐づく任意の受講生の情報を取得したあと、その受講生に紐づく受講生コース情報を取得して設定します。
+   * 受講生詳細のページ検索を行います。検索条件はgetStudentDetailListと同様です。
+   * 氏名、IDの順に並べた受講生をカーソルの後ろから指定件数分取得し、そのページの受講生に紐づく受講生コース情報のみを取得して組み立てます。
+   * 指定件数より1件多く取得し、続きが存在する場合のみ次のページのカーソルを設定します。
+   *
+   * @param after 前のページの最後の受講生を指すカーソル、先頭ページの場合はnull
+   * @param limit 1ページあたりの件数
+   * @return 受講生詳細のページ
+   */
+  @Transactional(readOnly = true)
+  public StudentDetailPage getStudentDetailPage(String fullName, String kana,
+      String nickName, String email,
+      String city, Integer minAge, Integer maxAge,
+      Gender gender, String remark, StudentCursor after, int limit) {
+    Set<String> candidateIds = narrowCandidateIds(fullName, kana, nickName, email, city, remark);
+    List<Student> fetchedStudentList = studentRepository.selectStudentPage(fullName, kana,
+        nickName, email, city, minAge, maxAge, gender, remark, candidateIds, after, limit + 1);
+
+    boolean hasNext = fetchedStudentList.size() > limit;
+    List<Student> studentList = hasNext ? fetchedStudentList.subList(0, limit)
+        : fetchedStudentList;
+    if (studentList.isEmpty()) {
+      return new StudentDetailPage(List.of(), null);
+    }
+
+    List<String> studentIdList = studentList.stream().map(Student::getId).toList();
+    List<StudentCourse> studentCourseList = studentCourseRepository
+        .selectCourseListByStudentIds(studentIdList);
+
+    String nextCursor = hasNext ? StudentCursor.from(studentList.getLast()).encode() : null;
+    return new StudentDetailPage(converter.getStudentDetailsList(studentList, studentCourseList),
+        nextCursor);
+  }
+
+  /**
+   * 受講生検索です。 IDに紐づく任意の受講生の情報と、その受講生に紐づく受講生コース情報をまとめて取得します。
+   * 稼働中のテーブルに該当する受講生がいない場合のみ、アーカイブ済みの受講生から検索します。 取得した受講生詳細はキャッシュし、更新処理が行われるまで再利用します。
+   * レプリカの反映遅れで古い受講生詳細をキャッシュしないよう、レプリカを構成している場合もプライマリで検索します。
    *
    * @param id 受講生ID
    * @return 受講生詳細（受講生と受講コース情報）
    */
   public StudentDetail getStudentDetailById(String id) throws StudentNotFoundException {
-    Student student = studentRepository.selectStudentById(id);
+    StudentDetail studentDetail = studentDetailCache.get(id, this::selectStudentDetailById);
     // 指定したID該当する受講生が存在しない場合、エラーを発生させます
-    if (student == null) {
+    if (studentDetail == null) {
       throw new StudentNotFoundException();
     }
+    return studentDetail;
+  }
 
-    List<StudentCourse> studentCourseList = studentCourseRepository.selectCourseListByStudentId(id);
-    return new StudentDetail(student, studentCourseList);
+  /**
+   * 受講生詳細をDBから読み込みます。 アーカイブ済みの受講生は稼働中のテーブルにいないため、見つからない場合のみアーカイブテーブルを検索します。
+   *
+   * @param id 受講生ID
+   * @return 受講生詳細、該当する受講生が存在しない場合はnull
+   */
+  private StudentDetail selectStudentDetailById(String id) {
+    StudentDetail studentDetail = studentRepository.selectStudentDetailById(id);
+    return studentDetail != null
+        ? studentDetail
+        : studentRepository.selectArchivedStudentDetailById(id);
   }
 
   /**
    * 申込状況を指定して受講生詳細を検索します。引数に受け取った申込状況に合致する受講生コース情報リストを取得し、受講生コース情報に紐づく受講生を取得します。
+   * 受講生IDは重複を除いたうえでまとめて検索するため、コース件数に関わらず問い合わせ回数はIDの件数をチャンクサイズで割った回数に収まります。
    *
    * @param status 申込状況のステータス
    * @return 受講生詳細
    */
+  @Transactional(readOnly = true)
   public List<StudentDetail> getStudentDetailListByStatus(Status status) {
     List<StudentCourse> studentCourseList = studentCourseRepository
         .selectCourseListWithLatestStatus(status);
-    List<Student> studentList = studentCourseList.stream()
-        .map(studentCourse -> studentRepository.selectStudentById(studentCourse.getStudentId()))
-        .filter(student -> !student.getIsDeleted())
+    // 受講生コース情報に現れた順序を保ったまま受講生IDの重複を除きます
+    List<String> studentIdList = studentCourseList.stream()
+        .map(StudentCourse::getStudentId)
+        .distinct()
+        .toList();
+
+    Map<String, Student> studentMap = new HashMap<>();
+    for (int from = 0; from < studentIdList.size(); from += STUDENT_ID_CHUNK_SIZE) {
+      List<String> chunk = studentIdList.subList(from,
+          Math.min(from + STUDENT_ID_CHUNK_SIZE, studentIdList.size()));
+      studentRepository.selectStudentsByIds(chunk)
+          .forEach(student -> studentMap.put(student.getId(), student));
+    }
+
+    // 論理削除された受講生は検索結果に含まれないため、ここで除外されます
+    List<Student> studentList = studentIdList.stream()
+        .map(studentMap::get)
+        .filter(Objects::nonNull)
         .toList();
     return converter.getStudentDetailsList(studentList, studentCourseList);
   }
 
   /**
-   * 受講生情報と受講生コース情報と申込状況をそれぞれ登録します。 登録前に受講生情報については、デフォルト値としてUUIDをランダム, 備考を空欄、キャンセルフラグをfalseに設定します。
-   * 登録前に受講生コース情報については、デフォルト値としてUUIDをランダム、受講生IDを同時に作成される受講生情報のID、受講開始日をレコード登録日時、受講修了予定日を受講開始日から１年後に設定します。
-   * 登録前に申込状況については、デフォルト値としてUUIDをランダム、受講生コースIDを同時に作成される受講生コース情報のID、作成日を登録日時に設定します。
+   * 受講生情報と受講生コース情報と申込状況をそれぞれ登録します。 受講生コース情報はリクエストに含まれる全件を登録し、受講生コース情報と申込状況はそれぞれ1回のINSERTでまとめて登録します。
+   * 登録前に受講生情報については、デフォルト値としてIDを時刻順のUUID（バージョン7）, 備考を空欄、キャンセルフラグをfalseに設定します。
+   * 登録前に受講生コース情報については、デフォルト値としてIDを時刻順のUUID（バージョン7）、受講生IDを同時に作成される受講生情報のID、受講開始日をレコード登録日時、受講修了予定日を受講開始日から１年後に設定します。
+   * 登録前に申込状況については、デフォルト値としてIDを時刻順のUUID（バージョン7）、受講生コースIDを同時に作成される受講生コース情報のID、作成日を登録日時に設定します。
    *
-   * @param studentDetail 受講生詳細
-   * @return 新規登録された受講生詳細
+   * @param studentDetail 受講生詳細、受講生コース情報を1件以上含むこと
+   * @return 新規登録された受講生詳細（登録した全ての受講生コース情報を含む）
    */
   @Transactional
   public StudentDetail registerStudent(StudentDetail studentDetail) {
-    Student receivedStudent = studentDetail.getStudent();
-    StudentCourse receivedStudentCourse = studentDetail.getStudentCourseList().getFirst();
-    EnrollmentStatus receivedEnrollmentStatus = receivedStudentCourse.getEnrollmentStatus();
+    Student newStudent = newStudent(studentDetail.getStudent());
+    List<StudentCourse> newStudentCourseList = studentDetail.getStudentCourseList().stream()
+        .map(studentCourse -> newStudentCourse(newStudent.getId(), studentCourse))
+        .toList();
+    List<EnrollmentStatus> newEnrollmentStatusList = newStudentCourseList.stream()
+        .map(StudentCourse::getEnrollmentStatus)
+        .toList();
 
+    studentRepository.createStudent(newStudent);
+    studentCourseRepository.createStudentCourses(newStudentCourseList);
+    enrollmentStatusRepository.createEnrollmentStatuses(newEnrollmentStatusList);
+    studentDetailCache.invalidate(newStudent.getId());
+    studentSearchIndex.update(newStudent);
+    return new StudentDetail(newStudent, newStudentCourseList);
+  }
+
+  /**
+   * リクエストとして受け取った受講生情報から、新規登録する受講生情報を生成します。IDは時刻順のUUID（バージョン7）を付与します。
+   *
+   * @param receivedStudent リクエストとして受け取った受講生情報
+   * @return 新規登録する受講生情報
+   */
+  static Student newStudent(Student receivedStudent) {
     String fullName = receivedStudent.getFullName();
     String kana = receivedStudent.getKana();
     String nickName = receivedStudent.getNickName();
@@ -117,28 +239,32 @@ public class StudentService {
     String city = receivedStudent.getCity();
     int age = receivedStudent.getAge();
     Gender gender = receivedStudent.getGender();
-    Student newStudent = new Student.StudentBuilder(fullName, email, city, age)
+    return new Student.StudentBuilder(fullName, email, city, age)
         .kana(kana).nickName(nickName).gender(gender).build();
+  }
 
-    String courseId = UUID.randomUUID().toString();
-    Status status = receivedEnrollmentStatus.getStatus();
+  /**
+   * リクエストとして受け取った受講生コース情報から、新規登録する受講生コース情報と最初の申込状況を生成します。
+   * 受講生コースIDと申込状況IDは時刻順のUUID（バージョン7）を付与し、申込状況の作成日時は現在日時とします。
+   *
+   * @param studentId             受講生ID
+   * @param receivedStudentCourse リクエストとして受け取った受講生コース情報
+   * @return 申込状況を保持した、新規登録する受講生コース情報
+   */
+  static StudentCourse newStudentCourse(String studentId, StudentCourse receivedStudentCourse) {
+    String courseId = IdGenerators.nextId();
+    Status status = receivedStudentCourse.getEnrollmentStatus().getStatus();
 
     EnrollmentStatus newEnrollmentStatus = EnrollmentStatus.builder()
-        .id(UUID.randomUUID().toString())
+        .id(IdGenerators.nextId())
         .studentCourseId(courseId)
         .createdAt(LocalDateTime.now()).status(status)
         .build();
 
-    String studentId = newStudent.getId();
     String courseName = receivedStudentCourse.getCourseName();
-    StudentCourse newStudentCourse = new StudentCourse
+    return new StudentCourse
         .StudentCourseBuilder(studentId, courseName).enrollmentStatus(newEnrollmentStatus)
         .buildWithId(courseId);
-
-    studentRepository.createStudent(newStudent);
-    studentCourseRepository.createStudentCourse(newStudentCourse);
-    enrollmentStatusRepository.createEnrollmentStatus(newEnrollmentStatus);
-    return new StudentDetail(newStudent, List.of(newStudentCourse));
   }
 
   /**
@@ -168,79 +294,179 @@ public class StudentService {
     // リクエストとして受け取った受講生情報・受講生コース情報とDBに登録されている受講生・受講生コース情報に差異がある場合に更新処理を実行します
     updateStudentIfModified(receivedStudent, currentStudent);
     updateStudentCourseIfModified(receivedStudentCourseList, currentStudentCourseList);
+    studentDetailCache.invalidate(studentId);
   }
 
 
   /**
    * 申込状況を更新します。後ろに戻るようなステータス更新や適切に受講生コース情報に紐づいていない場合にはエラーを投げます。
    * 分析に使用できるよう、受け取った申込状況オブジェクトを元に新しい申込状況オブジェクトを生成して新規登録します。
+   * 同じトランザクションで受講生コース情報の現在の申込状況も、検証時点のステータスのままの場合のみ更新し、完了後に受講生詳細のキャッシュを破棄します。
+   * 検証後に他の処理（申込状況の一括更新や自動更新など）が先に更新していた場合は、登録した申込状況を取り消してエラーを投げます。
    *
    * @param receivedEnrollmentStatus 更新希望の申込状況オブジェクト
    * @throws EnrollmentStatusNotFoundException   　更新対象の申込状況に紐づく受講生コース情報がない場合に投げられるエラー
    * @throws EnrollmentStatusBadRequestException 　申込状況が後ろに戻るような場合に投げられるエラー
+   * @throws EnrollmentStatusConflictException   　検証後に他の処理が先に申込状況を更新していた場合に投げられるエラー
    */
+  @Transactional
   public void updateEnrollmentStatus(EnrollmentStatus receivedEnrollmentStatus)
-      throws EnrollmentStatusNotFoundException, EnrollmentStatusBadRequestException {
+      throws EnrollmentStatusNotFoundException, EnrollmentStatusBadRequestException,
+      EnrollmentStatusConflictException {
 
     String receivedStudentCourseId = receivedEnrollmentStatus.getStudentCourseId();
     Status receivedStatus = receivedEnrollmentStatus.getStatus();
 
-    verifyEnrollmentStatus(receivedEnrollmentStatus);
+    StudentCourse currentCourse = verifyEnrollmentStatus(receivedEnrollmentStatus);
 
     EnrollmentStatus newEnrollmentStatus = EnrollmentStatus.builder()
-        .id(UUID.randomUUID().toString()).studentCourseId(receivedStudentCourseId)
+        .id(IdGenerators.nextId()).studentCourseId(receivedStudentCourseId)
         .status(receivedStatus)
         .createdAt(LocalDateTime.now())
         .build();
 
+    List<EnrollmentStatus> newEnrollmentStatuses = List.of(newEnrollmentStatus);
     enrollmentStatusRepository.createEnrollmentStatus(newEnrollmentStatus);
+    if (!compareAndUpdateCurrentStatuses(newEnrollmentStatuses,
+        Map.of(receivedStudentCourseId, currentCourse)).isEmpty()) {
+      // 検査例外ではトランザクションがロールバックされないため、登録した申込状況を取り消します
+      enrollmentStatusRepository.deleteUnreferencedEnrollmentStatuses(newEnrollmentStatuses);
+      throw new EnrollmentStatusConflictException();
+    }
+    studentDetailCache.invalidate(currentCourse.getStudentId());
+  }
+
+  /**
+   * 複数の受講生コース情報の申込状況をまとめて更新します。 現在の申込状況は1回の検索でまとめて取得し、申込状況を前に戻す変更や同じステータスへの変更、
+   * 存在しない受講生コースID、リクエスト内で重複した受講生コースIDは更新せずに結果に含めます。 更新できるものは、申込状況の登録を1回のSQLでまとめて実行し、
+   * 現在の申込状況は検索時点のステータスのままの場合のみ更新します。 検索後に他の処理が先に更新していた受講生コース情報は、登録した申込状況を取り消して更新されなかったものとして結果に含めます。
+   *
+   * @param studentCourseIds 受講生コースIDのリスト
+   * @param status           更新後の申込状況
+   * @return リクエストと同じ順序に並べた受講生コース情報ごとの処理結果
+   */
+  @Transactional
+  public List<EnrollmentStatusTransitionResult> transitionEnrollmentStatuses(
+      List<String> studentCourseIds, Status status) {
+    Map<String, StudentCourse> currentCourses = studentCourseRepository
+        .selectCourseListByIds(new HashSet<>(studentCourseIds)).stream()
+        .collect(Collectors.toMap(StudentCourse::getId, course -> course));
+
+    LocalDateTime now = LocalDateTime.now();
+    Set<String> requestedIds = new HashSet<>();
+    Set<String> studentIds = new HashSet<>();
+    List<EnrollmentStatus> newEnrollmentStatuses = new ArrayList<>();
+    List<EnrollmentStatusTransitionResult> results = new ArrayList<>();
+    for (String studentCourseId : studentCourseIds) {
+      StudentCourse currentCourse = currentCourses.get(studentCourseId);
+      if (currentCourse == null) {
+        results.add(EnrollmentStatusTransitionResult.rejected(studentCourseId, null,
+            new EnrollmentStatusNotFoundException().getMessage()));
+        continue;
+      }
+      Status currentStatus = currentCourse.getEnrollmentStatus().getStatus();
+      if (!requestedIds.add(studentCourseId)) {
+        results.add(EnrollmentStatusTransitionResult.rejected(studentCourseId, currentStatus,
+            "リクエスト内で受講生コースIDが重複しています"));
+      } else if (!currentStatus.canTransitionTo(status)) {
+        results.add(EnrollmentStatusTransitionResult.rejected(studentCourseId, currentStatus,
+            "ステータスを前に戻すことは出来ません。現在のステータス: " + currentStatus));
+      } else {
+        newEnrollmentStatuses.add(EnrollmentStatus.builder()
+            .id(IdGenerators.nextId()).studentCourseId(studentCourseId)
+            .status(status)
+            .createdAt(now)
+            .build());
+        studentIds.add(currentCourse.getStudentId());
+        results.add(EnrollmentStatusTransitionResult.accepted(studentCourseId, currentStatus));
+      }
+    }
+
+    if (!newEnrollmentStatuses.isEmpty()) {
+      enrollmentStatusRepository.createEnrollmentStatuses(newEnrollmentStatuses);
+      Set<String> conflictedIds = compareAndUpdateCurrentStatuses(newEnrollmentStatuses,
+          currentCourses);
+      if (!conflictedIds.isEmpty()) {
+        enrollmentStatusRepository.deleteUnreferencedEnrollmentStatuses(newEnrollmentStatuses);
+        results.replaceAll(result ->
+            result.isAccepted() && conflictedIds.contains(result.getStudentCourseId())
+                ? EnrollmentStatusTransitionResult.rejected(result.getStudentCourseId(),
+                result.getPreviousStatus(), "他の処理が先に申込状況を更新したため、更新されませんでした")
+                : result);
+      }
+      studentIds.forEach(studentDetailCache::invalidate);
+    }
+    return results;
+  }
+
+  /**
+   * 現在の申込状況が検索時点のステータスのままの受講生コース情報のみ、現在の申込状況を更新します。 条件付きの更新は検索時点のステータスごとにまとめて実行し、
+   * 更新件数が足りない場合のみ受講生コース情報を再検索して、登録した申込状況を参照していないもの（削除されたものを含む）を他の処理と競合したものとして返します。
+   *
+   * @param newEnrollmentStatuses 登録した申込状況のリスト
+   * @param currentCourses        受講生コースIDごとの検索時点の受講生コース情報
+   * @return 他の処理と競合して更新されなかった受講生コースIDのセット
+   */
+  private Set<String> compareAndUpdateCurrentStatuses(List<EnrollmentStatus> newEnrollmentStatuses,
+      Map<String, StudentCourse> currentCourses) {
+    Map<Status, List<EnrollmentStatus>> statusesByExpected = newEnrollmentStatuses.stream()
+        .collect(Collectors.groupingBy(enrollmentStatus -> currentCourses
+                .get(enrollmentStatus.getStudentCourseId()).getEnrollmentStatus().getStatus(),
+            () -> new EnumMap<>(Status.class), Collectors.toList()));
+    int updatedCount = 0;
+    for (Map.Entry<Status, List<EnrollmentStatus>> entry : statusesByExpected.entrySet()) {
+      updatedCount += studentCourseRepository.compareAndUpdateCurrentStatuses(entry.getValue(),
+          entry.getKey());
+    }
+    if (updatedCount == newEnrollmentStatuses.size()) {
+      return Set.of();
+    }
+
+    Set<String> newStatusIds = newEnrollmentStatuses.stream()
+        .map(EnrollmentStatus::getId)
+        .collect(Collectors.toSet());
+    Set<String> conflictedIds = newEnrollmentStatuses.stream()
+        .map(EnrollmentStatus::getStudentCourseId)
+        .collect(Collectors.toCollection(HashSet::new));
+    studentCourseRepository.selectCourseListByIds(new HashSet<>(conflictedIds)).stream()
+        .filter(course -> newStatusIds.contains(course.getEnrollmentStatus().getId()))
+        .forEach(course -> conflictedIds.remove(course.getId()));
+    return conflictedIds;
   }
 
   /**
    * 更新希望の申込状況が更新可能か検証します。 与えられた申込状況に紐づく受講生コース情報がない場合にはエラーを投げます。
-   * また、申込状況は不可逆であるため、後ろに戻るような変更が渡された場合エラーを投げます。 検証に通った場合には、何も返さず、このメソッドの後続の処理が実行できます。
+   * また、申込状況は不可逆であるため、後ろに戻るような変更が渡された場合エラーを投げます。 現在のステータスは、申込状況の一括更新と同じく受講生コース情報が参照する現在の申込状況から取得します。
    *
    * @param receivedEnrollmentStatus 更新対象の申込状況オブジェクト
+   * @return 検証時点の受講生コース情報（現在の申込状況を含む）
    * @throws EnrollmentStatusNotFoundException   更新対象の申込状況に紐づく受講生コース情報がない場合に投げられるエラー
    * @throws EnrollmentStatusBadRequestException 申込状況が後ろに戻るような場合に投げられるエラー
    */
-  private void verifyEnrollmentStatus(EnrollmentStatus receivedEnrollmentStatus)
+  private StudentCourse verifyEnrollmentStatus(EnrollmentStatus receivedEnrollmentStatus)
       throws EnrollmentStatusNotFoundException, EnrollmentStatusBadRequestException {
 
     // 引数のEnrollmentStatusオブジェクトから受講生コース情報IDとステータスを取得
     String receivedStudentCourseId = receivedEnrollmentStatus.getStudentCourseId();
     Status receivedStatus = receivedEnrollmentStatus.getStatus();
 
-    // 全申込状況から受講生コース情報IDにマッチするものをリスト化
-    List<EnrollmentStatus> matchingEnrollmentStatuses = enrollmentStatusRepository.selectAllEnrollmentStatus()
-        .stream()
-        .filter(enrollmentStatus -> enrollmentStatus.getStudentCourseId()
-            .equals(receivedStudentCourseId))
-        .toList();
+    // 受講生コース情報IDに紐づく受講生コース情報を、現在の申込状況とあわせて取得
+    List<StudentCourse> currentCourses = receivedStudentCourseId == null ? List.of()
+        : studentCourseRepository.selectCourseListByIds(Set.of(receivedStudentCourseId));
 
-    // リストが空だった場合＝受講生コース情報IDに紐づく申込状況がない場合にエラーを投げる
-    if (matchingEnrollmentStatuses.isEmpty()) {
+    // 取得できなかった場合＝受講生コース情報IDに紐づく受講生コース情報がない場合にエラーを投げる
+    if (currentCourses.isEmpty()) {
       throw new EnrollmentStatusNotFoundException();
     }
 
-    // ステータスの不可逆チェックのためのマップを作成
-    Status currentStatus = matchingEnrollmentStatuses.getLast().getStatus();
-    Map<Status, Integer> mapForCompareStatus = Map.of(
-        Status.仮申込, 1,
-        Status.本申込, 2,
-        Status.受講中, 3,
-        Status.受講終了, 4
-    );
-
-    // マップを元にステータスに応じた数値を定義
-    Integer receivedStatusNumber = mapForCompareStatus.get(receivedStatus);
-    Integer currentStatusNumber = mapForCompareStatus.get(currentStatus);
-
     // 現在のステータスのほうが更新希望のステータスよりも進んでいる、あるいは同じ場合、エラーを投げる
-    if (currentStatusNumber >= receivedStatusNumber) {
+    StudentCourse currentCourse = currentCourses.getFirst();
+    Status currentStatus = currentCourse.getEnrollmentStatus().getStatus();
+    if (!currentStatus.canTransitionTo(receivedStatus)) {
       throw new EnrollmentStatusBadRequestException(
           "ステータスを前に戻すことは出来ません。現在のステータス: " + currentStatus);
     }
+    return currentCourse;
   }
 
   /**
@@ -282,6 +508,7 @@ public class StudentService {
   private void updateStudentIfModified(Student receivedStudent, Student currentStudent) {
     if (!receivedStudent.equals(currentStudent)) {
       studentRepository.updateStudent(receivedStudent);
+      studentSearchIndex.update(receivedStudent);
     }
   }
 }
@@ -0,0 +1,5 @@
+-- 申込状況の自動更新で、開始日・終了日を過ぎた受講生コース情報を検索するためのインデックスを追加するスクリプトです。
+-- アプリケーションをデプロイする前に実行してください。
+
+CREATE INDEX idx_students_courses_current_status_start_date ON students_courses (current_status, start_date);
+CREATE INDEX idx_students_courses_current_status_end_date ON students_courses (current_status, end_date);
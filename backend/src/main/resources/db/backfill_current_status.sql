@@ -0,0 +1,22 @@
+-- 受講生コース情報に現在の申込状況を保持するカラムを追加し、既存データを一度だけ埋めるスクリプトです。
+-- アプリケーションをデプロイする前に実行してください。
+-- 以後はアプリケーションが申込状況の登録と同じトランザクションで更新します。
+
+ALTER TABLE students_courses
+  ADD COLUMN current_status_id varchar(36) DEFAULT NULL,
+  ADD COLUMN current_status varchar(20) DEFAULT NULL;
+
+CREATE INDEX idx_students_courses_current_status ON students_courses (current_status);
+
+-- 受講生コース情報ごとに最新の申込状況を設定します
+UPDATE students_courses sc SET current_status_id = (
+  SELECT e.id FROM enrollment_statuses e
+  WHERE e.student_course_id = sc.id
+  ORDER BY e.created_at DESC, e.id DESC
+  LIMIT 1
+);
+
+UPDATE students_courses sc SET current_status = (
+  SELECT e.status FROM enrollment_statuses e
+  WHERE e.id = sc.current_status_id
+);
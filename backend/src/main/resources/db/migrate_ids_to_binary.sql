@@ -0,0 +1,181 @@
+-- 受講生・受講生コース情報・申込状況のIDをvarchar(36)からBINARY(16)に移行するスクリプトです。
+-- 既存データの変換はアプリケーションを止めずに一定件数ずつ行い、最後の切り替えのみデプロイと合わせて実行します。
+-- 変換にはUUID_TO_BIN（swap_flagなし）を使用するため、アプリケーションのTypeHandler（UuidBinaryTypeHandler）と同じバイト列になります。
+-- MySQL 8.0.29以降を前提としています（ALGORITHM=INSTANTでのカラム追加）。
+
+-- 1. 変換後のIDを保持するカラムを追加します（テーブルの再構築は行いません）
+ALTER TABLE students
+  ADD COLUMN id_bin BINARY(16) DEFAULT NULL,
+  ALGORITHM=INSTANT;
+
+ALTER TABLE students_courses
+  ADD COLUMN id_bin BINARY(16) DEFAULT NULL,
+  ADD COLUMN student_id_bin BINARY(16) DEFAULT NULL,
+  ADD COLUMN current_status_id_bin BINARY(16) DEFAULT NULL,
+  ALGORITHM=INSTANT;
+
+ALTER TABLE enrollment_statuses
+  ADD COLUMN id_bin BINARY(16) DEFAULT NULL,
+  ADD COLUMN student_course_id_bin BINARY(16) DEFAULT NULL,
+  ALGORITHM=INSTANT;
+
+-- 2. 変換中に登録・更新された行も変換後のカラムに反映されるよう、トリガーを作成します
+DELIMITER //
+
+CREATE TRIGGER students_id_bin_insert BEFORE INSERT ON students FOR EACH ROW
+BEGIN
+  SET NEW.id_bin = UUID_TO_BIN(NEW.id);
+END//
+
+CREATE TRIGGER students_id_bin_update BEFORE UPDATE ON students FOR EACH ROW
+BEGIN
+  SET NEW.id_bin = UUID_TO_BIN(NEW.id);
+END//
+
+CREATE TRIGGER students_courses_id_bin_insert BEFORE INSERT ON students_courses FOR EACH ROW
+BEGIN
+  SET NEW.id_bin = UUID_TO_BIN(NEW.id),
+    NEW.student_id_bin = UUID_TO_BIN(NEW.student_id),
+    NEW.current_status_id_bin = UUID_TO_BIN(NEW.current_status_id);
+END//
+
+CREATE TRIGGER students_courses_id_bin_update BEFORE UPDATE ON students_courses FOR EACH ROW
+BEGIN
+  SET NEW.id_bin = UUID_TO_BIN(NEW.id),
+    NEW.student_id_bin = UUID_TO_BIN(NEW.student_id),
+    NEW.current_status_id_bin = UUID_TO_BIN(NEW.current_status_id);
+END//
+
+CREATE TRIGGER enrollment_statuses_id_bin_insert BEFORE INSERT ON enrollment_statuses FOR EACH ROW
+BEGIN
+  SET NEW.id_bin = UUID_TO_BIN(NEW.id),
+    NEW.student_course_id_bin = UUID_TO_BIN(NEW.student_course_id);
+END//
+
+CREATE TRIGGER enrollment_statuses_id_bin_update BEFORE UPDATE ON enrollment_statuses FOR EACH ROW
+BEGIN
+  SET NEW.id_bin = UUID_TO_BIN(NEW.id),
+    NEW.student_course_id_bin = UUID_TO_BIN(NEW.student_course_id);
+END//
+
+-- 3. 既存の行を主キーの順に一定件数ずつ変換します
+-- 1回の更新でロックする行を件数分に抑え、件数ごとにコミットするため、アプリケーションの更新を長時間待たせることはありません
+CREATE PROCEDURE backfill_binary_ids(IN batch_size INT)
+BEGIN
+  DECLARE last_id VARCHAR(36) DEFAULT '';
+  DECLARE next_id VARCHAR(36);
+
+  students_loop: LOOP
+    SET next_id = NULL;
+    SELECT MAX(id) INTO next_id FROM (
+      SELECT id FROM students WHERE id > last_id ORDER BY id LIMIT batch_size
+    ) batch;
+    IF next_id IS NULL THEN
+      LEAVE students_loop;
+    END IF;
+    UPDATE students SET id_bin = UUID_TO_BIN(id)
+    WHERE id > last_id AND id <= next_id;
+    COMMIT;
+    SET last_id = next_id;
+  END LOOP;
+
+  SET last_id = '';
+  courses_loop: LOOP
+    SET next_id = NULL;
+    SELECT MAX(id) INTO next_id FROM (
+      SELECT id FROM students_courses WHERE id > last_id ORDER BY id LIMIT batch_size
+    ) batch;
+    IF next_id IS NULL THEN
+      LEAVE courses_loop;
+    END IF;
+    UPDATE students_courses SET
+      id_bin = UUID_TO_BIN(id),
+      student_id_bin = UUID_TO_BIN(student_id),
+      current_status_id_bin = UUID_TO_BIN(current_status_id)
+    WHERE id > last_id AND id <= next_id;
+    COMMIT;
+    SET last_id = next_id;
+  END LOOP;
+
+  SET last_id = '';
+  statuses_loop: LOOP
+    SET next_id = NULL;
+    SELECT MAX(id) INTO next_id FROM (
+      SELECT id FROM enrollment_statuses WHERE id > last_id ORDER BY id LIMIT batch_size
+    ) batch;
+    IF next_id IS NULL THEN
+      LEAVE statuses_loop;
+    END IF;
+    UPDATE enrollment_statuses SET
+      id_bin = UUID_TO_BIN(id),
+      student_course_id_bin = UUID_TO_BIN(student_course_id)
+    WHERE id > last_id AND id <= next_id;
+    COMMIT;
+    SET last_id = next_id;
+  END LOOP;
+END//
+
+DELIMITER ;
+
+CALL backfill_binary_ids(1000);
+DROP PROCEDURE backfill_binary_ids;
+
+-- 4. 変換漏れがないことを確認します（全て0件であることを確認してから切り替えてください）
+SELECT COUNT(*) FROM students WHERE id_bin IS NULL;
+SELECT COUNT(*) FROM students_courses
+WHERE id_bin IS NULL OR student_id_bin IS NULL
+  OR (current_status_id IS NOT NULL AND current_status_id_bin IS NULL);
+SELECT COUNT(*) FROM enrollment_statuses WHERE id_bin IS NULL OR student_course_id_bin IS NULL;
+
+-- 5. 切り替え（BINARY(16)に対応したアプリケーションのデプロイと合わせて実行してください）
+-- 主キーの付け替えでテーブルが再構築されるため、件数に応じた時間がかかります。この間は旧バージョンのアプリケーションを停止してください
+-- 外部キー名は既定の名前です。SHOW CREATE TABLEで確認し、異なる場合は読み替えてください
+-- IDのカラムを使用するインデックスは、切り替え後のアプリケーションの起動時にFlywayのマイグレーション（V2）で作成します
+-- V2は同じ名前のインデックスが既に存在する場合は作成しないため、IDのカラムを含む複合インデックスはこの切り替えで必ず削除してください
+DROP TRIGGER students_id_bin_insert;
+DROP TRIGGER students_id_bin_update;
+DROP TRIGGER students_courses_id_bin_insert;
+DROP TRIGGER students_courses_id_bin_update;
+DROP TRIGGER enrollment_statuses_id_bin_insert;
+DROP TRIGGER enrollment_statuses_id_bin_update;
+
+ALTER TABLE enrollment_statuses DROP FOREIGN KEY enrollment_statuses_ibfk_1;
+ALTER TABLE students_courses DROP FOREIGN KEY students_courses_ibfk_1;
+
+-- IDのカラムを含む複合インデックスは、カラムの削除で一部のカラムだけが残らないよう先に削除します
+-- MySQLのDROP INDEXはIF EXISTSに対応していないため、SHOW INDEXで存在しなかったインデックスの文は省略してください
+DROP INDEX idx_students_is_deleted_full_name_id ON students;
+DROP INDEX idx_enrollment_statuses_student_course_id_created_at ON enrollment_statuses;
+
+ALTER TABLE students
+  DROP PRIMARY KEY,
+  DROP COLUMN id,
+  CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+  ADD PRIMARY KEY (id),
+  ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE students_courses
+  DROP PRIMARY KEY,
+  DROP COLUMN id,
+  DROP COLUMN student_id,
+  DROP COLUMN current_status_id,
+  CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+  CHANGE COLUMN student_id_bin student_id BINARY(16) NOT NULL AFTER id,
+  CHANGE COLUMN current_status_id_bin current_status_id BINARY(16) DEFAULT NULL AFTER end_date,
+  ADD PRIMARY KEY (id),
+  ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE enrollment_statuses
+  DROP PRIMARY KEY,
+  DROP COLUMN id,
+  DROP COLUMN student_course_id,
+  CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+  CHANGE COLUMN student_course_id_bin student_course_id BINARY(16) NOT NULL AFTER id,
+  ADD PRIMARY KEY (id),
+  ALGORITHM=INPLACE, LOCK=NONE;
+
+ALTER TABLE students_courses
+  ADD CONSTRAINT students_courses_ibfk_1 FOREIGN KEY (student_id) REFERENCES students (id);
+ALTER TABLE enrollment_statuses
+  ADD CONSTRAINT enrollment_statuses_ibfk_1
+    FOREIGN KEY (student_course_id) REFERENCES students_courses (id);
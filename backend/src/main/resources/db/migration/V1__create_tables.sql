@@ -0,0 +1,48 @@
+-- 受講生・受講生コース情報・申込状況のテーブルを作成します。
+-- Flyway導入前から運用しているDB（db/配下のスクリプトを適用済み）は、このバージョンをベースラインとして扱い、実行しません。
+-- MySQLとテストのH2の両方で同じ内容を実行するため、両方が解釈できる構文のみを使用しています。
+
+CREATE TABLE students (
+  id binary(16) NOT NULL,
+  full_name varchar(50) NOT NULL,
+  kana varchar(100) DEFAULT NULL,
+  nick_name varchar(50) DEFAULT NULL,
+  email varchar(254) NOT NULL,
+  city varchar(50) NOT NULL,
+  age int NOT NULL,
+  gender varchar(15) DEFAULT 'Unspecified',
+  remark text,
+  is_deleted boolean DEFAULT false,
+  PRIMARY KEY (id),
+  UNIQUE (email),
+  CONSTRAINT chk_gender CHECK (gender IN ('Male', 'Female', 'NON_BINARY', 'Unspecified'))
+);
+
+CREATE TABLE students_courses (
+  id binary(16) NOT NULL,
+  student_id binary(16) NOT NULL,
+  course_name varchar(100) NOT NULL,
+  start_date timestamp NULL DEFAULT NULL,
+  end_date timestamp NULL DEFAULT NULL,
+  current_status_id binary(16) DEFAULT NULL,
+  current_status varchar(20) DEFAULT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT students_courses_ibfk_1 FOREIGN KEY (student_id) REFERENCES students (id)
+);
+
+CREATE TABLE enrollment_statuses (
+  id binary(16) NOT NULL,
+  student_course_id binary(16) NOT NULL,
+  status varchar(20) NOT NULL,
+  created_at timestamp DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (id),
+  CONSTRAINT enrollment_statuses_ibfk_1
+    FOREIGN KEY (student_course_id) REFERENCES students_courses (id)
+);
+
+-- db/backfill_current_status.sql、db/add_course_progression_indexes.sqlで追加したインデックスです
+CREATE INDEX idx_students_courses_current_status ON students_courses (current_status);
+CREATE INDEX idx_students_courses_current_status_start_date
+  ON students_courses (current_status, start_date);
+CREATE INDEX idx_students_courses_current_status_end_date
+  ON students_courses (current_status, end_date);
@@ -0,0 +1,51 @@
+-- 論理削除した受講生を、受講生コース情報・申込状況の履歴とあわせて移すアーカイブテーブルを作成します。
+-- 論理削除した日時を記録するカラムを追加し、導入前に論理削除されていた受講生はこのマイグレーションの実行日時を論理削除日時とします。
+
+-- MySQLでは末尾へのNULL許容カラムの追加はテーブルを再構築せずに行われます
+ALTER TABLE students ADD COLUMN deleted_at timestamp NULL DEFAULT NULL;
+
+UPDATE students SET deleted_at = CURRENT_TIMESTAMP WHERE is_deleted = true;
+
+-- アーカイブ対象（論理削除から一定期間が経過した受講生）の検索
+CREATE INDEX idx_students_is_deleted_deleted_at
+  ON students (is_deleted, deleted_at) ${online-ddl};
+
+CREATE TABLE students_archive (
+  id binary(16) NOT NULL,
+  full_name varchar(50) NOT NULL,
+  kana varchar(100) DEFAULT NULL,
+  nick_name varchar(50) DEFAULT NULL,
+  email varchar(254) NOT NULL,
+  city varchar(50) NOT NULL,
+  age int NOT NULL,
+  gender varchar(15) DEFAULT 'Unspecified',
+  remark text,
+  is_deleted boolean DEFAULT true,
+  deleted_at timestamp NULL DEFAULT NULL,
+  archived_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (id)
+);
+
+CREATE TABLE students_courses_archive (
+  id binary(16) NOT NULL,
+  student_id binary(16) NOT NULL,
+  course_name varchar(100) NOT NULL,
+  start_date timestamp NULL DEFAULT NULL,
+  end_date timestamp NULL DEFAULT NULL,
+  current_status_id binary(16) DEFAULT NULL,
+  current_status varchar(20) DEFAULT NULL,
+  PRIMARY KEY (id)
+);
+
+CREATE TABLE enrollment_statuses_archive (
+  id binary(16) NOT NULL,
+  student_course_id binary(16) NOT NULL,
+  status varchar(20) NOT NULL,
+  created_at timestamp NULL DEFAULT NULL,
+  PRIMARY KEY (id)
+);
+
+-- アーカイブ済みの受講生詳細のID検索
+CREATE INDEX idx_students_courses_archive_student_id ON students_courses_archive (student_id);
+CREATE INDEX idx_enrollment_statuses_archive_student_course_id
+  ON enrollment_statuses_archive (student_course_id);
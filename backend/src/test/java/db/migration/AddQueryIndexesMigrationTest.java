@@ -0,0 +1,67 @@
+package db.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+
+/**
+ * インデックスを追加するマイグレーション（V2__add_query_indexes）のテストです。 Flyway導入前に手動でインデックスを作成したDBを再現して適用します。
+ */
+class AddQueryIndexesMigrationTest {
+
+  private static final String JDBC_URL =
+      "jdbc:h2:mem:add_query_indexes;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+  @Test
+  void インデックスの追加_手動で作成したインデックスが存在する場合_既存のインデックスを残して残りのインデックスのみ作成されること()
+      throws Exception {
+    // 準備
+    flyway("1").migrate();
+    try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+        Statement statement = connection.createStatement()) {
+      statement.execute("CREATE INDEX idx_enrollment_statuses_student_course_id_created_at"
+          + " ON enrollment_statuses (student_course_id, created_at)");
+    }
+
+    // 実行
+    MigrateResult actual = flyway("2").migrate();
+
+    // 検証
+    assertThat(actual.migrationsExecuted).isEqualTo(1);
+    assertThat(indexNames("ENROLLMENT_STATUSES")).contains(
+        "IDX_ENROLLMENT_STATUSES_STUDENT_COURSE_ID_CREATED_AT",
+        "IDX_ENROLLMENT_STATUSES_CREATED_AT");
+    assertThat(indexNames("STUDENTS")).contains("IDX_STUDENTS_IS_DELETED_FULL_NAME_ID");
+    assertThat(indexNames("STUDENTS_COURSES")).contains("IDX_STUDENTS_COURSES_STUDENT_ID");
+  }
+
+  private Flyway flyway(String target) {
+    return Flyway.configure()
+        .dataSource(JDBC_URL, "sa", "")
+        .locations("classpath:db/migration")
+        .placeholders(Map.of("online-ddl", ""))
+        .target(target)
+        .load();
+  }
+
+  private Set<String> indexNames(String table) throws Exception {
+    Set<String> indexNames = new HashSet<>();
+    try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+        ResultSet indexInfo = connection.getMetaData()
+            .getIndexInfo(null, null, table, false, false)) {
+      while (indexInfo.next()) {
+        indexNames.add(indexInfo.getString("INDEX_NAME"));
+      }
+    }
+    return indexNames;
+  }
+}
@@ -2,21 +2,31 @@ package portfolio.StudentManagement.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -27,21 +37,37 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import portfolio.StudentManagement.data.EnrollmentStatus;
 import portfolio.StudentManagement.data.EnrollmentStatus.Status;
 import portfolio.StudentManagement.data.Student;
 import portfolio.StudentManagement.data.Student.Gender;
 import portfolio.StudentManagement.data.StudentCourse;
+import portfolio.StudentManagement.data.UuidV7Generator;
+import portfolio.StudentManagement.domain.EnrollmentStatusTransitionResult;
+import portfolio.StudentManagement.domain.StudentBatchItemResult;
+import portfolio.StudentManagement.domain.StudentBatchResult;
+import portfolio.StudentManagement.domain.StudentCursor;
+import portfolio.StudentManagement.domain.StudentDetail;
+import portfolio.StudentManagement.domain.StudentDetailPage;
+import portfolio.StudentManagement.domain.StudentImportResult;
 import portfolio.StudentManagement.exception.EnrollmentStatusBadRequestException;
+import portfolio.StudentManagement.exception.EnrollmentStatusConflictException;
 import portfolio.StudentManagement.exception.EnrollmentStatusNotFoundException;
 import portfolio.StudentManagement.exception.StudentCourseNotFoundException;
 import portfolio.StudentManagement.exception.StudentNotFoundException;
+import portfolio.StudentManagement.service.StudentBatchService;
+import portfolio.StudentManagement.service.StudentExportService;
+import portfolio.StudentManagement.service.StudentImportService;
 import portfolio.StudentManagement.service.StudentService;
 
 
@@ -55,6 +81,18 @@ class StudentControllerTest {
   @MockBean
   private StudentService service;
 
+  @MockBean
+  private StudentBatchService batchService;
+
+  @MockBean
+  private StudentImportService importService;
+
+  @MockBean
+  private StudentExportService exportService;
+
+  @Captor
+  private ArgumentCaptor<List<StudentDetail>> studentDetailsCaptor;
+
   private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
 
@@ -117,6 +155,73 @@ class StudentControllerTest {
   }
 
 
+  @Test
+  void 受講生詳細検索_limitが渡された場合_ページ検索が実行され次のページのカーソルがヘッダーに設定されること()
+      throws Exception {
+    // 準備
+    int limit = 20;
+    String nextCursor = new StudentCursor("佐藤 太郎", UUID.randomUUID().toString()).encode();
+    when(service.getStudentDetailPage(null, null, null, null, null, null, null, null, null,
+        null, limit)).thenReturn(new StudentDetailPage(List.of(), nextCursor));
+
+    // 実行、検証
+    mockMvc.perform(get("/api/students")
+            .param("limit", String.valueOf(limit)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(StudentController.NEXT_CURSOR_HEADER, nextCursor))
+        .andExpect(content().json("[]"));
+
+    // 検証
+    verify(service, times(0)).getStudentDetailList(null, null, null, null,
+        null, null, null, null, null);
+  }
+
+  @Test
+  void 受講生詳細検索_afterのみが渡された場合_既定の件数でカーソルの後ろからページ検索が実行されること()
+      throws Exception {
+    // 準備
+    StudentCursor cursor = new StudentCursor("佐藤 太郎", UUID.randomUUID().toString());
+    when(service.getStudentDetailPage(any(), any(), any(), any(), any(), any(), any(), any(),
+        any(), any(), anyInt())).thenReturn(new StudentDetailPage(List.of(), null));
+
+    // 実行、検証
+    mockMvc.perform(get("/api/students")
+            .param("after", cursor.encode()))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(StudentController.NEXT_CURSOR_HEADER))
+        .andExpect(content().json("[]"));
+
+    // 検証
+    ArgumentCaptor<StudentCursor> cursorCaptor = ArgumentCaptor.forClass(StudentCursor.class);
+    verify(service, times(1)).getStudentDetailPage(any(), any(), any(), any(), any(), any(),
+        any(), any(), any(), cursorCaptor.capture(), eq(100));
+    assertThat(cursorCaptor.getValue())
+        .usingRecursiveComparison()
+        .isEqualTo(cursor);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "-1", "1001"})
+  void 受講生詳細検索_limitに範囲外の値が渡された場合_400番とInvalidRequestExceptionがスローされること(
+      String limit) throws Exception {
+    // 実行、検証
+    mockMvc.perform(get("/api/students")
+            .param("limit", limit))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value(
+            "limitの指定が無効です: 1以上1000以下の値を指定してください"));
+  }
+
+  @Test
+  void 受講生詳細検索_不正なafterが渡された場合_400番とInvalidRequestExceptionがスローされること()
+      throws Exception {
+    // 実行、検証
+    mockMvc.perform(get("/api/students")
+            .param("after", "不正なカーソル"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("afterの指定が無効です"));
+  }
+
   @ParameterizedTest
   @EnumSource(Status.class)
   void 受講生詳細検索_statusについてのみリクエストパラメーターが渡された場合_serviceが呼び出され200番と空のリストが返ること(
@@ -215,6 +320,20 @@ class StudentControllerTest {
     verify(service, times(1)).getStudentDetailById(id);
   }
 
+  @Test
+  void 受講生ID検索_時刻順のUUIDのIDが渡された場合_受講生検索が実行され200が返ってくること()
+      throws Exception {
+    // 準備
+    String id = new UuidV7Generator().nextId();
+
+    // 実行、検証
+    mockMvc.perform(get("/api/students/{id}", id))
+        .andExpect(status().isOk());
+
+    // 検証
+    verify(service, times(1)).getStudentDetailById(id);
+  }
+
   @Test
   void 受講生ID検索_存在しないIDが渡された場合_受講生検索が実行され404とエラーメッセージが返ってくること()
       throws Exception {
@@ -320,6 +439,194 @@ class StudentControllerTest {
     verify(service, times(0)).registerStudent(any());
   }
 
+  @Test
+  void 受講生登録_受講生コース情報が空のリクエストボディが送られた場合_400が返りServiceが呼び出されないこと()
+      throws Exception {
+    // 準備
+    String body = """
+            {
+                "student": {
+                    "fullName": "田中太郎",
+                    "email": "taro@test.co.jp",
+                    "city": "栃木県宇都宮市",
+                    "age": 45
+                },
+                "studentCourseList": []
+            }
+        """;
+    // 実行、検証
+    mockMvc.perform(post("/api/students")
+            .contentType("application/json")
+            .content(body))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("受講生コース情報を1件以上指定してください"));
+
+    // 検証
+    verify(service, times(0)).registerStudent(any());
+  }
+
+  @Test
+  void 受講生一括登録_受講生詳細のリストが送られた場合_一括登録が実行され200と1件ごとの処理結果が返ってくること()
+      throws Exception {
+    // 準備
+    String body = """
+            [
+                {
+                    "student": {
+                        "fullName": "田中太郎",
+                        "email": "taro@test.co.jp",
+                        "city": "栃木県宇都宮市",
+                        "age": 45
+                    },
+                    "studentCourseList": [
+                        {
+                            "courseName": "デザインコース",
+                            "enrollmentStatus": {
+                              "status": "仮申込"
+                            }
+                        }
+                    ]
+                },
+                {
+                    "student": {
+                        "fullName": "田中花子",
+                        "email": "taro@test.co.jp",
+                        "city": "栃木県宇都宮市",
+                        "age": 43
+                    },
+                    "studentCourseList": [
+                        {
+                            "courseName": "Javaフルコース",
+                            "enrollmentStatus": {
+                              "status": "本申込"
+                            }
+                        }
+                    ]
+                }
+            ]
+        """;
+    when(batchService.registerStudents(any())).thenReturn(new StudentBatchResult(List.of(
+        StudentBatchItemResult.success(0, new StudentDetail()),
+        StudentBatchItemResult.failure(1, "リクエスト内でメールアドレスが重複しています"))));
+
+    // 実行、検証
+    mockMvc.perform(post("/api/students/batch")
+            .contentType("application/json")
+            .content(body))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.succeededCount").value(1))
+        .andExpect(jsonPath("$.failedCount").value(1))
+        .andExpect(jsonPath("$.results[1].error").value("リクエスト内でメールアドレスが重複しています"));
+
+    // 検証
+    verify(batchService, times(1)).registerStudents(studentDetailsCaptor.capture());
+    assertThat(studentDetailsCaptor.getValue()).hasSize(2);
+  }
+
+  @Test
+  void 受講生一括登録_空のリストが送られた場合_400が返り一括登録が実行されないこと()
+      throws Exception {
+    // 実行、検証
+    mockMvc.perform(post("/api/students/batch")
+            .contentType("application/json")
+            .content("[]"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("受講生詳細は1件以上5000件以下で指定してください"));
+
+    // 検証
+    verify(batchService, times(0)).registerStudents(any());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"text/csv", "application/x-ndjson"})
+  void 受講生一括取込_CSVまたはNDJSONが送られた場合_形式に応じた取込が実行され200と処理結果が返ってくること(
+      String contentType) throws Exception {
+    // 準備
+    StudentImportResult result = new StudentImportResult(1, 1, 0, 10, 100.0, List.of());
+    boolean csv = contentType.equals("text/csv");
+    if (csv) {
+      when(importService.importCsv(any())).thenReturn(result);
+    } else {
+      when(importService.importNdjson(any())).thenReturn(result);
+    }
+
+    // 実行、検証
+    mockMvc.perform(post("/api/students/import")
+            .contentType(contentType)
+            .content("body"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.importedCount").value(1))
+        .andExpect(jsonPath("$.rowsPerSecond").value(100.0));
+
+    // 検証
+    verify(importService, times(csv ? 1 : 0)).importCsv(any());
+    verify(importService, times(csv ? 0 : 1)).importNdjson(any());
+  }
+
+  @Test
+  void 受講生一括取込_対応していない形式が送られた場合_415が返り取込が実行されないこと()
+      throws Exception {
+    // 実行、検証
+    mockMvc.perform(post("/api/students/import")
+            .contentType("application/json")
+            .content("[]"))
+        .andExpect(status().isUnsupportedMediaType());
+
+    // 検証
+    verify(importService, times(0)).importCsv(any());
+    verify(importService, times(0)).importNdjson(any());
+  }
+
+  @Test
+  void 受講生詳細エクスポート_CSVを指定した場合_CSVのエクスポートが実行され添付ファイルとして書き込まれること()
+      throws Exception {
+    // 準備
+    doAnswer(invocation -> {
+      OutputStream out = invocation.getArgument(0);
+      out.write("id,fullName\n1,田中太郎\n".getBytes(StandardCharsets.UTF_8));
+      return null;
+    }).when(exportService).exportCsv(any());
+
+    // 実行
+    MvcResult result = mockMvc.perform(get("/api/students/export").param("format", "csv"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // 検証
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+        .andExpect(header().string("Content-Disposition",
+            "attachment; filename=\"students.csv\""))
+        .andExpect(content().string("id,fullName\n1,田中太郎\n"));
+    verify(exportService, times(0)).exportNdjson(any());
+  }
+
+  @Test
+  void 受講生詳細エクスポート_非同期処理のタイムアウトがエクスポート用の時間に設定されること()
+      throws Exception {
+    // 実行
+    MvcResult result = mockMvc.perform(get("/api/students/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // 検証
+    assertThat(result.getRequest().getAsyncContext().getTimeout())
+        .isEqualTo(Duration.ofMinutes(30).toMillis());
+  }
+
+  @Test
+  void 受講生詳細エクスポート_対応していない形式を指定した場合_400が返りエクスポートが実行されないこと()
+      throws Exception {
+    // 実行、検証
+    mockMvc.perform(get("/api/students/export").param("format", "xml"))
+        .andExpect(status().isBadRequest());
+
+    // 検証
+    verify(exportService, times(0)).exportCsv(any());
+    verify(exportService, times(0)).exportNdjson(any());
+  }
+
   @Test
   void 受講生更新_適切なプロパティを持ったリクエストボディが送られた場合_受講生更新が実行され200と成功した旨のメッセージが返ること()
       throws Exception {
@@ -500,7 +807,7 @@ class StudentControllerTest {
     // 準備
     String body = """
         {
-          "studentCourseId": "6d96a6g0-6666-6666-6666-666666666666",
+          "studentCourseId": "6d96a600-6666-6666-6666-666666666666",
           "status": "受講終了"
         }
         """;
@@ -523,7 +830,7 @@ class StudentControllerTest {
     // 準備
     String body = """
         {
-          "studentCourseId": "6d96a6g0-6666-6666-6666-666666666666",
+          "studentCourseId": "6d96a600-6666-6666-6666-666666666666",
           "status": "受講終了"
         }
         """;
@@ -551,7 +858,7 @@ class StudentControllerTest {
     // 準備
     String body = """
         {
-          "studentCourseId": "6d96a6g0-6666-6666-6666-666666666666",
+          "studentCourseId": "6d96a600-6666-6666-6666-666666666666",
           "status": "受講終了"
         }
         """;
@@ -574,6 +881,81 @@ class StudentControllerTest {
 
   }
 
+  @Test
+  void 申込状況更新_EnrollmentStatusConflictExceptionがスローされた場合_409とエラーメッセージが返ること()
+      throws Exception {
+    // 準備
+    String body = """
+        {
+          "studentCourseId": "6d96a600-6666-6666-6666-666666666666",
+          "status": "受講終了"
+        }
+        """;
+
+    Mockito.doThrow(new EnrollmentStatusConflictException())
+        .when(service).updateEnrollmentStatus(any());
+
+    // 実行と検証
+    mockMvc.perform(post("/api/students/courses/enrollment-status")
+            .contentType("application/json")
+            .content(body))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.error").value("EnrollmentStatus Conflict"))
+        .andExpect(jsonPath("$.message").value(
+            "他の処理が先に申込状況を更新したため、更新されませんでした"));
+
+    // 検証
+    verify(service, times(1)).updateEnrollmentStatus(any());
+
+  }
+
+  @Test
+  void 申込状況一括更新_受講生コースIDのリストとステータスが送られた場合_一括更新が実行され200と受講生コースごとの処理結果が返ること()
+      throws Exception {
+    // 準備
+    String body = """
+        {
+          "studentCourseIds": ["6d96a600-6666-6666-6666-666666666666",
+            "7d97b710-7777-7777-7777-777777777777"],
+          "status": "受講中"
+        }
+        """;
+    when(service.transitionEnrollmentStatuses(any(), eq(Status.受講中))).thenReturn(List.of(
+        EnrollmentStatusTransitionResult.accepted("6d96a600-6666-6666-6666-666666666666",
+            Status.本申込),
+        EnrollmentStatusTransitionResult.rejected("7d97b710-7777-7777-7777-777777777777",
+            Status.受講終了, "ステータスを前に戻すことは出来ません。現在のステータス: 受講終了")));
+
+    // 実行と検証
+    mockMvc.perform(post("/api/students/courses/enrollment-status/bulk")
+            .contentType("application/json")
+            .content(body))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].accepted").value(true))
+        .andExpect(jsonPath("$[0].previousStatus").value("本申込"))
+        .andExpect(jsonPath("$[1].accepted").value(false))
+        .andExpect(jsonPath("$[1].error").value(
+            "ステータスを前に戻すことは出来ません。現在のステータス: 受講終了"));
+
+    // 検証
+    verify(service, times(1)).transitionEnrollmentStatuses(
+        List.of("6d96a600-6666-6666-6666-666666666666", "7d97b710-7777-7777-7777-777777777777"),
+        Status.受講中);
+  }
+
+  @Test
+  void 申込状況一括更新_受講生コースIDのリストが空の場合_400が返り一括更新が実行されないこと()
+      throws Exception {
+    // 実行と検証
+    mockMvc.perform(post("/api/students/courses/enrollment-status/bulk")
+            .contentType("application/json")
+            .content("{\"studentCourseIds\": [], \"status\": \"受講中\"}"))
+        .andExpect(status().isBadRequest());
+
+    // 検証
+    verify(service, times(0)).transitionEnrollmentStatuses(any(), any());
+  }
+
 
   @ParameterizedTest
   @MethodSource("studentDataProvider")
@@ -699,7 +1081,7 @@ class StudentControllerTest {
     return Stream.of(
         Arguments.of(
             EnrollmentStatus.builder().id(UUID.randomUUID().toString())
-                .studentCourseId("6d96a6g0-6666-6666-6666-666666666666").status(Status.受講終了)
+                .studentCourseId("6d96a600-6666-6666-6666-666666666666").status(Status.受講終了)
                 .createdAt(LocalDateTime.now())
                 .build(),
             "", true),
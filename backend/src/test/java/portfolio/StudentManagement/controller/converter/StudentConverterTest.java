@@ -58,6 +58,38 @@ class StudentConverterTest {
     assertThat(actual.get(1).getStudentCourseList().get(0)).isEqualTo(studentCourse3);
   }
 
+  @Test
+  void 受講生詳細リストの生成_受講生コースの順序が受講生と異なる場合_受講生リストの順序と各受講生のコースの順序が保たれること() {
+    // 準備
+    Student student1 = new Student.StudentBuilder("田中太郎", "taro@test.com", "千葉県成田市", 30)
+        .build();
+    Student student2 = new Student.StudentBuilder("山田花子", "hanako@test.com", "千葉県匝瑳市", 33)
+        .build();
+    Student student3 = new Student.StudentBuilder("佐藤次郎", "jiro@test.com", "千葉県銚子市", 25)
+        .build();
+
+    StudentCourse studentCourse1 = new StudentCourse.StudentCourseBuilder(student2.getId(),
+        "Javaフルコース").build();
+    StudentCourse studentCourse2 = new StudentCourse.StudentCourseBuilder(student1.getId(),
+        "AWSフルコース").build();
+    StudentCourse studentCourse3 = new StudentCourse.StudentCourseBuilder(student2.getId(),
+        "デザインフルコース").build();
+
+    List<Student> studentList = List.of(student1, student2, student3);
+    List<StudentCourse> studentCourseList = List.of(studentCourse1, studentCourse2, studentCourse3);
+
+    // 実行
+    List<StudentDetail> actual = sut.getStudentDetailsList(studentList, studentCourseList);
+
+    // 検証
+    assertThat(actual).extracting(StudentDetail::getStudent)
+        .containsExactly(student1, student2, student3);
+    assertThat(actual.get(0).getStudentCourseList()).containsExactly(studentCourse2);
+    assertThat(actual.get(1).getStudentCourseList())
+        .containsExactly(studentCourse1, studentCourse3);
+    assertThat(actual.get(2).getStudentCourseList()).isEmpty();
+  }
+
   @Test
   void 受講生詳細リストの生成_受講生に紐づかない受講生コースが渡された場合_空のリストが返ってくること() {
     // 準備
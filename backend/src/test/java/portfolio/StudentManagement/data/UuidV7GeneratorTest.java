@@ -0,0 +1,77 @@
+package portfolio.StudentManagement.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+  private static final long NOW = 1_722_470_400_000L;
+
+  @Test
+  void UUID生成_バージョン7のUUIDが生成され先頭48ビットに現在時刻が設定されること() {
+    // 準備
+    UuidV7Generator sut = new UuidV7Generator(() -> NOW);
+
+    // 実行
+    UUID actual = sut.nextUuid();
+
+    // 検証
+    assertThat(actual.version()).isEqualTo(7);
+    assertThat(actual.variant()).isEqualTo(2);
+    assertThat(actual.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+  }
+
+  @Test
+  void UUID生成_同じミリ秒内に続けて生成した場合_生成順に並ぶ重複しないUUIDが生成されること() {
+    // 準備
+    UuidV7Generator sut = new UuidV7Generator(() -> NOW);
+
+    // 実行
+    List<String> actual = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      actual.add(sut.nextId());
+    }
+
+    // 検証
+    assertThat(actual)
+        .doesNotHaveDuplicates()
+        .isSortedAccordingTo(Comparator.naturalOrder());
+  }
+
+  @Test
+  void UUID生成_時刻が戻った場合_前回生成したUUIDより後ろに並ぶUUIDが生成されること() {
+    // 準備
+    AtomicLong clock = new AtomicLong(NOW);
+    UuidV7Generator sut = new UuidV7Generator(clock::get);
+    String before = sut.nextId();
+    clock.set(NOW - 1_000);
+
+    // 実行
+    String actual = sut.nextId();
+
+    // 検証
+    assertThat(actual).isGreaterThan(before);
+  }
+
+  @Test
+  void UUID生成_時刻が進んだ場合_後から生成したUUIDの方が後ろに並ぶこと() {
+    // 準備
+    AtomicLong clock = new AtomicLong(NOW);
+    UuidV7Generator sut = new UuidV7Generator(clock::get);
+    String before = sut.nextId();
+    clock.incrementAndGet();
+
+    // 実行
+    String actual = sut.nextId();
+
+    // 検証
+    assertThat(actual).isGreaterThan(before);
+    assertThat(UUID.fromString(actual).getMostSignificantBits() >>> 16).isEqualTo(NOW + 1);
+  }
+}
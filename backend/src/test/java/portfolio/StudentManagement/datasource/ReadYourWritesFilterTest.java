@@ -0,0 +1,98 @@
+package portfolio.StudentManagement.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReadYourWritesFilterTest {
+
+  private static final Instant NOW = Instant.parse("2024-08-01T00:00:00Z");
+
+  private ReadYourWritesFilter sut;
+
+  @BeforeEach
+  void before() {
+    sut = new ReadYourWritesFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void フィルター_更新系のリクエストの場合_期限をCookieに設定しリクエスト中はプライマリに固定されること()
+      throws Exception {
+    // 準備
+    MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/students");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // 実行
+    boolean actual = doFilter(request, response);
+
+    // 検証
+    assertThat(actual).isTrue();
+    Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+    assertThat(cookie.getValue()).isEqualTo(Long.toString(NOW.plusSeconds(5).toEpochMilli()));
+    assertThat(cookie.getMaxAge()).isEqualTo(5);
+    assertThat(ReadYourWrites.isStickingToPrimary()).isFalse();
+  }
+
+  @Test
+  void フィルター_期限内のCookieを持つ読み取りのリクエストの場合_プライマリに固定されること() throws Exception {
+    // 準備
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/students");
+    request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+        Long.toString(NOW.plusSeconds(1).toEpochMilli())));
+
+    // 実行
+    boolean actual = doFilter(request, new MockHttpServletResponse());
+
+    // 検証
+    assertThat(actual).isTrue();
+  }
+
+  @Test
+  void フィルター_期限切れや不正なCookieを持つ読み取りのリクエストの場合_プライマリに固定されないこと() throws Exception {
+    // 準備
+    MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/students");
+    expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+        Long.toString(NOW.minusSeconds(1).toEpochMilli())));
+    MockHttpServletRequest malformed = new MockHttpServletRequest("GET", "/students");
+    malformed.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "abc"));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // 実行
+    boolean actualExpired = doFilter(expired, response);
+    boolean actualMalformed = doFilter(malformed, new MockHttpServletResponse());
+
+    // 検証
+    assertThat(actualExpired).isFalse();
+    assertThat(actualMalformed).isFalse();
+    assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+  }
+
+  /**
+   * フィルターを通してリクエストを処理し、処理中にプライマリに固定されていたかを返します。
+   */
+  private boolean doFilter(MockHttpServletRequest request, MockHttpServletResponse response)
+      throws Exception {
+    AtomicBoolean sticking = new AtomicBoolean();
+    MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) {
+        sticking.set(ReadYourWrites.isStickingToPrimary());
+      }
+    });
+    sut.doFilter(request, response, chain);
+    return sticking.get();
+  }
+}
@@ -0,0 +1,93 @@
+package portfolio.StudentManagement.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+  private EmbeddedDatabase primary;
+  private EmbeddedDatabase replica;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readWriteTransaction;
+  private TransactionTemplate readOnlyTransaction;
+
+  @BeforeEach
+  void before() {
+    // プライマリとレプリカの代わりに、どちらで処理されたかを返すテーブルを持つ組み込みDBを2つ用意します
+    primary = createDatabase("primary");
+    replica = createDatabase("replica");
+    DataSource sut = new LazyConnectionDataSourceProxy(
+        new ReplicaRoutingDataSource(primary, replica));
+
+    jdbcTemplate = new JdbcTemplate(sut);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(sut);
+    readWriteTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+  }
+
+  @AfterEach
+  void after() {
+    ReadYourWrites.clear();
+    primary.shutdown();
+    replica.shutdown();
+  }
+
+  @Test
+  void 振り分け_読み取り専用のトランザクションの場合_レプリカで処理されること() {
+    // 実行
+    String actual = readOnlyTransaction.execute(status -> selectRole());
+
+    // 検証
+    assertThat(actual).isEqualTo("replica");
+  }
+
+  @Test
+  void 振り分け_読み取り専用でないトランザクションとトランザクション外の場合_プライマリで処理されること() {
+    // 実行
+    String actual = readWriteTransaction.execute(status -> selectRole());
+    String outsideTransaction = selectRole();
+
+    // 検証
+    assertThat(actual).isEqualTo("primary");
+    assertThat(outsideTransaction).isEqualTo("primary");
+  }
+
+  @Test
+  void 振り分け_直前に更新を行ったセッションの場合_読み取り専用のトランザクションもプライマリで処理されること() {
+    // 準備
+    ReadYourWrites.stickToPrimary();
+
+    // 実行
+    String actual = readOnlyTransaction.execute(status -> selectRole());
+
+    // 検証
+    assertThat(actual).isEqualTo("primary");
+  }
+
+  private EmbeddedDatabase createDatabase(String role) {
+    EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .setName(role)
+        .build();
+    JdbcTemplate template = new JdbcTemplate(database);
+    template.execute("CREATE TABLE routed_to (name VARCHAR(10))");
+    template.update("INSERT INTO routed_to VALUES (?)", role);
+    return database;
+  }
+
+  private String selectRole() {
+    return jdbcTemplate.queryForObject("SELECT name FROM routed_to", String.class);
+  }
+}
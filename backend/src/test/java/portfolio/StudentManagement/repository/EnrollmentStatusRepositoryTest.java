@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -37,6 +38,34 @@ class EnrollmentStatusRepositoryTest {
         .isEqualTo(expected);
   }
 
+  @Test
+  void 最新の申込状況検索_受講生コース情報IDに紐づく申込状況のうち最も新しいものを取得できること() {
+    // 準備
+    String studentCourseId = "6d96a600-6666-6666-6666-666666666666";
+    EnrollmentStatus expected = provideExistingStatusList()
+        .filter(v -> v.getStudentCourseId().equals(studentCourseId))
+        .max(Comparator.comparing(EnrollmentStatus::getCreatedAt))
+        .orElseThrow();
+
+    // 実行
+    EnrollmentStatus actual = sut.selectLatestEnrollmentStatus(studentCourseId);
+
+    // 検証
+    assertThat(actual)
+        .usingRecursiveComparison()
+        .isEqualTo(expected);
+    assertThat(actual.getStatus()).isEqualTo(Status.受講中);
+  }
+
+  @Test
+  void 最新の申込状況検索_紐づく申込状況がない受講生コース情報IDが渡された場合_Nullが返ってくること() {
+    // 実行
+    EnrollmentStatus actual = sut.selectLatestEnrollmentStatus(UUID.randomUUID().toString());
+
+    // 検証
+    assertThat(actual).isNull();
+  }
+
   @ParameterizedTest
   @MethodSource("provideNewEnrollmentStatus")
   void 受講生コース情報登録_渡されたStudentCourseオブジェクトのレコードがDBにINSERTされること(
@@ -61,92 +90,92 @@ class EnrollmentStatusRepositoryTest {
   private Stream<EnrollmentStatus> provideExistingStatusList() {
     return Stream.of(
         EnrollmentStatus.builder()
-            .id("6d96a6g0-6666-7b20-8000-000000000001")
-            .studentCourseId("6d96a6g0-6666-6666-6666-666666666666")
+            .id("6d96a600-6666-7b20-8000-000000000001")
+            .studentCourseId("6d96a600-6666-6666-6666-666666666666")
             .status(Status.仮申込)
             .createdAt(LocalDateTime.parse("2024-01-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("6d96a6g0-6666-7b20-8000-000000000013")
-            .studentCourseId("6d96a6g0-6666-6666-6666-666666666666")
+            .id("6d96a600-6666-7b20-8000-000000000013")
+            .studentCourseId("6d96a600-6666-6666-6666-666666666666")
             .status(Status.本申込)
             .createdAt(LocalDateTime.parse("2024-01-11T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("6d96a6g0-6666-7b20-8000-000000000014")
-            .studentCourseId("6d96a6g0-6666-6666-6666-666666666666")
+            .id("6d96a600-6666-7b20-8000-000000000014")
+            .studentCourseId("6d96a600-6666-6666-6666-666666666666")
             .status(Status.受講中)
             .createdAt(LocalDateTime.parse("2024-01-12T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("7d97b7h0-7777-7b20-8000-000000000002")
-            .studentCourseId("7d97b7h0-7777-7777-7777-777777777777")
+            .id("7d97b710-7777-7b20-8000-000000000002")
+            .studentCourseId("7d97b710-7777-7777-7777-777777777777")
             .status(Status.本申込)
             .createdAt(LocalDateTime.parse("2024-07-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("8d98c8i0-8888-7b20-8000-000000000003")
-            .studentCourseId("8d98c8i0-8888-8888-8888-888888888888")
+            .id("8d98c820-8888-7b20-8000-000000000003")
+            .studentCourseId("8d98c820-8888-8888-8888-888888888888")
             .status(Status.受講中)
             .createdAt(LocalDateTime.parse("2024-01-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("9d99d9j0-9999-7b20-8000-000000000004")
-            .studentCourseId("9d99d9j0-9999-9999-9999-999999999999")
+            .id("9d99d930-9999-7b20-8000-000000000004")
+            .studentCourseId("9d99d930-9999-9999-9999-999999999999")
             .status(Status.仮申込)
             .createdAt(LocalDateTime.parse("2024-07-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("ad9ae9k0-aaaa-7b20-8000-000000000005")
-            .studentCourseId("ad9ae9k0-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+            .id("ad9ae940-aaaa-7b20-8000-000000000005")
+            .studentCourseId("ad9ae940-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
             .status(Status.本申込)
             .createdAt(LocalDateTime.parse("2024-01-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("bd9bf9l0-bbbb-7b20-8000-000000000006")
-            .studentCourseId("bd9bf9l0-bbbb-bbbb-bbbb-bbbbbbbbbbbb")
+            .id("bd9bf950-bbbb-7b20-8000-000000000006")
+            .studentCourseId("bd9bf950-bbbb-bbbb-bbbb-bbbbbbbbbbbb")
             .status(Status.仮申込)
             .createdAt(LocalDateTime.parse("2024-07-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("bd9bf9l0-bbbb-7b20-8000-000000000015")
-            .studentCourseId("bd9bf9l0-bbbb-bbbb-bbbb-bbbbbbbbbbbb")
+            .id("bd9bf950-bbbb-7b20-8000-000000000015")
+            .studentCourseId("bd9bf950-bbbb-bbbb-bbbb-bbbbbbbbbbbb")
             .status(Status.受講中)
             .createdAt(LocalDateTime.parse("2024-12-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("cd9cg9m0-cccc-7b20-8000-000000000007")
-            .studentCourseId("cd9cg9m0-cccc-cccc-cccc-cccccccccccc")
+            .id("cd9c0960-cccc-7b20-8000-000000000007")
+            .studentCourseId("cd9c0960-cccc-cccc-cccc-cccccccccccc")
             .status(Status.仮申込)
             .createdAt(LocalDateTime.parse("2024-01-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("dd9dh9n0-dddd-7b20-8000-000000000008")
-            .studentCourseId("dd9dh9n0-dddd-dddd-dddd-dddddddddddd")
+            .id("dd9d1970-dddd-7b20-8000-000000000008")
+            .studentCourseId("dd9d1970-dddd-dddd-dddd-dddddddddddd")
             .status(Status.受講中)
             .createdAt(LocalDateTime.parse("2024-07-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("ed9ei9o0-eeee-7b20-8000-000000000009")
-            .studentCourseId("ed9ei9o0-eeee-eeee-eeee-eeeeeeeeeeee")
+            .id("ed9e2980-eeee-7b20-8000-000000000009")
+            .studentCourseId("ed9e2980-eeee-eeee-eeee-eeeeeeeeeeee")
             .status(Status.本申込)
             .createdAt(LocalDateTime.parse("2024-01-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("fd9fj9p0-ffff-7b20-8000-000000000010")
-            .studentCourseId("fd9fj9p0-ffff-ffff-ffff-ffffffffffff")
+            .id("fd9f3990-ffff-7b20-8000-000000000010")
+            .studentCourseId("fd9f3990-ffff-ffff-ffff-ffffffffffff")
             .status(Status.仮申込)
             .createdAt(LocalDateTime.parse("2024-07-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("gd9gi9q0-gggg-7b20-8000-000000000011")
-            .studentCourseId("gd9gi9q0-gggg-gggg-gggg-gggggggggggg")
+            .id("0d9029a0-0000-7b20-8000-000000000011")
+            .studentCourseId("0d9029a0-0000-0000-0000-000000000000")
             .status(Status.受講中)
             .createdAt(LocalDateTime.parse("2023-01-01T09:00:00"))
             .build(),
         EnrollmentStatus.builder()
-            .id("hd9hj9r0-hhhh-7b20-8000-000000000012")
-            .studentCourseId("hd9hj9r0-hhhh-hhhh-hhhh-hhhhhhhhhhhh")
+            .id("1d9139b0-1111-7b20-8000-000000000012")
+            .studentCourseId("1d9139b0-1111-1111-1111-111111111111")
             .status(Status.受講中)
             .createdAt(LocalDateTime.parse("2023-07-01T09:00:00"))
             .build()
@@ -158,37 +187,37 @@ class EnrollmentStatusRepositoryTest {
     return Stream.of(
         EnrollmentStatus.builder()
             .id("1a1a1a1a-1111-7b20-8000-000000000013") // 新しいユニークなID
-            .studentCourseId("6d96a6g0-6666-6666-6666-666666666666") // 既存のStudentCourseId
+            .studentCourseId("6d96a600-6666-6666-6666-666666666666") // 既存のStudentCourseId
             .status(Status.受講終了) // 適切なステータス
             .createdAt(LocalDateTime.parse("2025-03-01T10:00:00"))
             .build(),
         EnrollmentStatus.builder()
             .id("2b2b2b2b-2222-7b20-8000-000000000014") // 新しいユニークなID
-            .studentCourseId("7d97b7h0-7777-7777-7777-777777777777") // 既存のStudentCourseId
+            .studentCourseId("7d97b710-7777-7777-7777-777777777777") // 既存のStudentCourseId
             .status(Status.受講終了)
             .createdAt(LocalDateTime.parse("2025-06-01T11:00:00"))
             .build(),
         EnrollmentStatus.builder()
             .id("3c3c3c3c-3333-7b20-8000-000000000015") // 新しいユニークなID
-            .studentCourseId("8d98c8i0-8888-8888-8888-888888888888") // 既存のStudentCourseId
+            .studentCourseId("8d98c820-8888-8888-8888-888888888888") // 既存のStudentCourseId
             .status(Status.受講終了)
             .createdAt(LocalDateTime.parse("2025-09-01T12:00:00"))
             .build(),
         EnrollmentStatus.builder()
             .id("4d4d4d4d-4444-7b20-8000-000000000016") // 新しいユニークなID
-            .studentCourseId("ad9ae9k0-aaaa-aaaa-aaaa-aaaaaaaaaaaa") // 既存のStudentCourseId
+            .studentCourseId("ad9ae940-aaaa-aaaa-aaaa-aaaaaaaaaaaa") // 既存のStudentCourseId
             .status(Status.受講終了)
             .createdAt(LocalDateTime.parse("2025-05-01T08:00:00"))
             .build(),
         EnrollmentStatus.builder()
             .id("5e5e5e5e-5555-7b20-8000-000000000017") // 新しいユニークなID
-            .studentCourseId("bd9bf9l0-bbbb-bbbb-bbbb-bbbbbbbbbbbb") // 既存のStudentCourseId
+            .studentCourseId("bd9bf950-bbbb-bbbb-bbbb-bbbbbbbbbbbb") // 既存のStudentCourseId
             .status(Status.受講終了)
             .createdAt(LocalDateTime.parse("2025-02-01T13:00:00"))
             .build(),
         EnrollmentStatus.builder()
             .id("6f6f6f6f-6666-7b20-8000-000000000018") // 新しいユニークなID
-            .studentCourseId("cd9cg9m0-cccc-cccc-cccc-cccccccccccc") // 既存のStudentCourseId
+            .studentCourseId("cd9c0960-cccc-cccc-cccc-cccccccccccc") // 既存のStudentCourseId
             .status(Status.受講終了)
             .createdAt(LocalDateTime.parse("2025-04-01T14:00:00"))
             .build()
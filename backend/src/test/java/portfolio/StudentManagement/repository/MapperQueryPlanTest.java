@@ -0,0 +1,121 @@
+package portfolio.StudentManagement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import portfolio.StudentManagement.data.EnrollmentStatus;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.Student;
+
+/**
+ * マッパーXMLの各クエリの実行計画を確認するテストです。 登録以外の全てのクエリについて、テーブルを全件走査せずにインデックスを使用することを確認します。
+ */
+@MybatisTest
+class MapperQueryPlanTest {
+
+  /**
+   * 全件を取得するため、全件走査となるクエリです。
+   */
+  private static final Set<String> FULL_SCAN_STATEMENTS = Set.of("selectAllCourseList");
+
+  private static final String STUDENT_ID = "1c91a1b0-1111-1111-1111-111111111111";
+  private static final String STUDENT_COURSE_ID = "6d96a600-6666-6666-6666-666666666666";
+  private static final String ENROLLMENT_STATUS_ID = "6d96a600-6666-7b20-8000-000000000014";
+
+  @Autowired
+  private SqlSessionFactory sqlSessionFactory;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Test
+  void 実行計画_登録以外の全てのクエリがテーブルを全件走査せずにインデックスを使用すること() throws Exception {
+    // 準備
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    Map<String, Object> parameter = provideParameter();
+    Map<String, String> plans = new TreeMap<>();
+
+    // 実行
+    try (Connection connection = dataSource.getConnection()) {
+      for (String statementId : configuration.getMappedStatementNames()) {
+        // 短縮名でも登録されているため、名前空間付きの名前のみを対象にします
+        if (!statementId.contains(".")) {
+          continue;
+        }
+        MappedStatement statement = configuration.getMappedStatement(statementId);
+        BoundSql boundSql = statement.getBoundSql(parameter);
+        String sql = boundSql.getSql().strip();
+        if (sql.startsWith("INSERT") || FULL_SCAN_STATEMENTS.contains(shortName(statement))) {
+          continue;
+        }
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+          configuration.newParameterHandler(statement, parameter, boundSql)
+              .setParameters(explain);
+          try (ResultSet resultSet = explain.executeQuery()) {
+            resultSet.next();
+            plans.put(shortName(statement), resultSet.getString(1));
+          }
+        }
+      }
+    }
+
+    // 検証
+    assertThat(plans).containsKeys("selectStudentPage", "selectCourseListByStudentId",
+        "selectLatestEnrollmentStatus", "updateCurrentStatuses",
+        "deleteUnreferencedEnrollmentStatuses");
+    assertThat(plans).allSatisfy((statementId, plan) ->
+        assertThat(plan).as(statementId).doesNotContain(".tableScan"));
+  }
+
+  private static String shortName(MappedStatement statement) {
+    return statement.getId().substring(statement.getId().lastIndexOf('.') + 1);
+  }
+
+  /**
+   * 全てのクエリに渡すパラメーターです。 検索条件は全て指定し、動的SQLの全ての条件が実行計画に含まれるようにします。
+   */
+  private static Map<String, Object> provideParameter() {
+    EnrollmentStatus enrollmentStatus = EnrollmentStatus.builder()
+        .id(ENROLLMENT_STATUS_ID)
+        .studentCourseId(STUDENT_COURSE_ID)
+        .status(Status.受講中)
+        .build();
+
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("id", STUDENT_ID);
+    parameter.put("ids", List.of(STUDENT_ID));
+    parameter.put("studentId", STUDENT_ID);
+    parameter.put("studentIds", List.of(STUDENT_ID));
+    parameter.put("studentCourseId", STUDENT_COURSE_ID);
+    parameter.put("status", Status.受講中);
+    parameter.put("expectedStatus", Status.本申込);
+    parameter.put("enrollmentStatuses", List.of(enrollmentStatus));
+    parameter.put("emails", List.of("taro.sato@example.com"));
+    parameter.put("fullName", "佐藤");
+    parameter.put("kana", "サトウ");
+    parameter.put("minAge", 20);
+    parameter.put("maxAge", 30);
+    parameter.put("after", new Student.StudentBuilder("佐藤 太郎", "taro.sato@example.com",
+        "東京都港区", 25).useOnlyTestBuildWithId(STUDENT_ID));
+    parameter.put("dueBy", LocalDateTime.parse("2024-08-01T05:00:00"));
+    parameter.put("deletedBefore", LocalDateTime.parse("2024-07-01T00:00:00"));
+    parameter.put("limit", 10);
+    return parameter;
+  }
+}
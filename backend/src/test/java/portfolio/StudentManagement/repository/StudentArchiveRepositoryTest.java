@@ -0,0 +1,90 @@
+package portfolio.StudentManagement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.data.StudentCourse;
+import portfolio.StudentManagement.domain.StudentDetail;
+
+@MybatisTest
+class StudentArchiveRepositoryTest {
+
+  /**
+   * テストデータで論理削除済み（2024-01-31 09:00:00）の受講生です。
+   */
+  private static final String DELETED_STUDENT_ID = "6c96f600-6666-6666-6666-666666666666";
+
+  @Autowired
+  private StudentArchiveRepository sut;
+
+  @Autowired
+  private StudentRepository studentRepository;
+
+  @Test
+  void アーカイブ対象検索_指定日時以前に論理削除された受講生のみ取得できること() {
+    // 実行
+    List<String> actual = sut.selectStudentIdsToArchive(
+        LocalDateTime.parse("2024-03-01T00:00:00"), 10);
+    List<String> notYetDue = sut.selectStudentIdsToArchive(
+        LocalDateTime.parse("2024-01-01T00:00:00"), 10);
+
+    // 検証
+    assertThat(actual).containsExactly(DELETED_STUDENT_ID);
+    assertThat(notYetDue).isEmpty();
+  }
+
+  @Test
+  void アーカイブ対象検索_受講生を論理削除した場合_論理削除日時が記録されアーカイブ対象となること() {
+    // 準備
+    Student student = studentRepository.selectStudentById("1c91a1b0-1111-1111-1111-111111111111");
+    Student deleted = new Student.StudentBuilder(student.getFullName(), student.getEmail(),
+        student.getCity(), student.getAge())
+        .isDeleted(true)
+        .useOnlyTestBuildWithId(student.getId());
+
+    // 実行
+    studentRepository.updateStudent(deleted);
+    List<String> actual = sut.selectStudentIdsToArchive(LocalDateTime.now().plusDays(1), 10);
+
+    // 検証
+    assertThat(actual).containsExactlyInAnyOrder(DELETED_STUDENT_ID, student.getId());
+  }
+
+  @Test
+  void アーカイブ_受講生と受講生コース情報と申込状況の履歴が移され_アーカイブから受講生詳細を取得できること() {
+    // 準備
+    List<String> ids = List.of(DELETED_STUDENT_ID);
+    StudentDetail before = studentRepository.selectStudentDetailById(DELETED_STUDENT_ID);
+
+    // 実行
+    int archivedStudents = sut.archiveStudents(ids);
+    int archivedCourses = sut.archiveStudentCourses(ids);
+    int archivedStatuses = sut.archiveEnrollmentStatuses(ids);
+    int deletedStatuses = sut.deleteEnrollmentStatusesByStudentIds(ids);
+    int deletedCourses = sut.deleteStudentCoursesByStudentIds(ids);
+    int deletedStudents = sut.deleteStudentsByIds(ids);
+    StudentDetail actual = studentRepository.selectArchivedStudentDetailById(DELETED_STUDENT_ID);
+
+    // 検証
+    assertThat(List.of(archivedStudents, archivedCourses, archivedStatuses))
+        .containsExactly(1, 2, 2);
+    assertThat(List.of(deletedStatuses, deletedCourses, deletedStudents))
+        .containsExactly(2, 2, 1);
+    assertThat(studentRepository.selectStudentDetailById(DELETED_STUDENT_ID)).isNull();
+    assertThat(actual.getStudent())
+        .usingRecursiveComparison()
+        .isEqualTo(before.getStudent());
+    assertThat(actual.getStudentCourseList())
+        .extracting(StudentCourse::getId, course -> course.getEnrollmentStatus().getStatus())
+        .containsExactlyInAnyOrder(
+            tuple("0d9029a0-0000-0000-0000-000000000000", Status.受講中),
+            tuple("1d9139b0-1111-1111-1111-111111111111", Status.受講中));
+  }
+}
@@ -72,6 +72,25 @@ class StudentCourseRepositoryTest {
     assertThat(actual).isEmpty();
   }
 
+  @Test
+  void 受講生コース情報複数検索_複数の受講生IDが渡された場合_いずれかの受講生IDに紐づく受講生コース情報リストが取得できること() {
+    // 準備
+    List<String> studentIds = List.of("1c91a1b0-1111-1111-1111-111111111111",
+        "3c93c3d0-3333-3333-3333-333333333333", UUID.randomUUID().toString());
+    List<StudentCourse> expected = provideExistingStudentCourses()
+        .filter(v -> studentIds.contains(v.getStudentId()))
+        .toList();
+
+    // 実行
+    List<StudentCourse> actual = sut.selectCourseListByStudentIds(studentIds);
+
+    // 検証
+    assertThat(actual)
+        .hasSize(4)
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyInAnyOrderElementsOf(expected);
+  }
+
   @ParameterizedTest
   @MethodSource("provideNewStudentCourses")
   void 受講生コース情報登録_渡されたStudentCourseオブジェクトのレコードがDBにINSERTされること(
@@ -94,6 +113,39 @@ class StudentCourseRepositoryTest {
     assertThat(recordCountAfter).isEqualTo(recordCountBefore + 1);
   }
 
+  @Test
+  void 受講生コース情報一括登録_渡された複数の受講生コース情報が1回のINSERTで登録され現在の申込状況とともに取得できること() {
+    // 準備
+    String studentId = "5c95e5f0-5555-5555-5555-555555555555";
+    LocalDateTime createdAt = LocalDateTime.parse("2024-08-01T09:00:00");
+    List<StudentCourse> studentCourses = List.of(
+        new StudentCourse.StudentCourseBuilder(studentId, "Javaフルコース")
+            .startDate(LocalDateTime.parse("2024-09-01T09:00:00"))
+            .endDate(LocalDateTime.parse("2025-08-31T17:00:00"))
+            .enrollmentStatus(new EnrollmentStatus("1f91a1b0-1111-7b20-8000-000000000025",
+                "1e91a1b0-1111-1111-1111-111111111111", Status.仮申込, createdAt))
+            .buildWithId("1e91a1b0-1111-1111-1111-111111111111"),
+        new StudentCourse.StudentCourseBuilder(studentId, "デザインコース")
+            .startDate(LocalDateTime.parse("2024-09-01T09:00:00"))
+            .endDate(LocalDateTime.parse("2025-08-31T17:00:00"))
+            .enrollmentStatus(new EnrollmentStatus("2f92b2c0-2222-7b20-8000-000000000026",
+                "2e92b2c0-2222-2222-2222-222222222222", Status.本申込, createdAt))
+            .buildWithId("2e92b2c0-2222-2222-2222-222222222222"));
+    int recordCountBefore = sut.selectAllCourseList().size();
+
+    // 実行
+    sut.createStudentCourses(studentCourses);
+    enrollmentStatusRepository.createEnrollmentStatuses(
+        studentCourses.stream().map(StudentCourse::getEnrollmentStatus).toList());
+    List<StudentCourse> actual = sut.selectCourseListByStudentId(studentId);
+
+    // 検証
+    assertThat(actual)
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsAll(studentCourses);
+    assertThat(sut.selectAllCourseList()).hasSize(recordCountBefore + 2);
+  }
+
   @ParameterizedTest
   @MethodSource("provideUpdatedStudentCourses")
   void 受講生コース情報更新_渡されたStudentオブジェクトのレコードでDBがUPDATEされること(
@@ -118,6 +170,142 @@ class StudentCourseRepositoryTest {
 
   }
 
+  @Test
+  void 受講生コース現在の申込状況更新_登録した申込状況が受講生コース情報の最新の申込状況として取得できること() {
+    // 準備
+    String studentCourseId = "9d99d930-9999-9999-9999-999999999999";
+    EnrollmentStatus enrollmentStatus = EnrollmentStatus.builder()
+        .id("9f99d930-9999-7b20-8000-000000000020")
+        .studentCourseId(studentCourseId)
+        .status(Status.本申込)
+        .createdAt(LocalDateTime.parse("2024-08-01T09:00:00"))
+        .build();
+    enrollmentStatusRepository.createEnrollmentStatus(enrollmentStatus);
+
+    // 実行
+    sut.updateCurrentStatus(enrollmentStatus);
+    List<StudentCourse> actual = sut.selectCourseListByStudentId(
+        "2c92b2c0-2222-2222-2222-222222222222");
+
+    // 検証
+    assertThat(actual)
+        .filteredOn(course -> course.getId().equals(studentCourseId))
+        .singleElement()
+        .extracting(StudentCourse::getEnrollmentStatus)
+        .usingRecursiveComparison()
+        .isEqualTo(enrollmentStatus);
+    assertThat(sut.selectCourseListWithLatestStatus(Status.本申込))
+        .extracting(StudentCourse::getId)
+        .contains(studentCourseId);
+    assertThat(sut.selectCourseListWithLatestStatus(Status.仮申込))
+        .extracting(StudentCourse::getId)
+        .doesNotContain(studentCourseId);
+  }
+
+  @Test
+  void 受講生コース現在の申込状況一括更新_まとめて登録した申込状況がそれぞれの受講生コース情報の最新の申込状況として取得できること() {
+    // 準備
+    LocalDateTime createdAt = LocalDateTime.parse("2024-08-01T09:00:00");
+    List<EnrollmentStatus> enrollmentStatuses = List.of(
+        EnrollmentStatus.builder()
+            .id("9f99d930-9999-7b20-8000-000000000021")
+            .studentCourseId("9d99d930-9999-9999-9999-999999999999")
+            .status(Status.本申込)
+            .createdAt(createdAt)
+            .build(),
+        EnrollmentStatus.builder()
+            .id("cf9c0960-cccc-7b20-8000-000000000022")
+            .studentCourseId("cd9c0960-cccc-cccc-cccc-cccccccccccc")
+            .status(Status.本申込)
+            .createdAt(createdAt)
+            .build());
+    enrollmentStatusRepository.createEnrollmentStatuses(enrollmentStatuses);
+
+    // 実行
+    sut.updateCurrentStatuses(enrollmentStatuses);
+    List<StudentCourse> actual = sut.selectCourseListByIds(List.of(
+        "9d99d930-9999-9999-9999-999999999999", "cd9c0960-cccc-cccc-cccc-cccccccccccc",
+        "6d96a600-6666-6666-6666-666666666666"));
+
+    // 検証
+    assertThat(actual)
+        .hasSize(3)
+        .filteredOn(course -> course.getEnrollmentStatus().getStatus() == Status.本申込)
+        .extracting(StudentCourse::getEnrollmentStatus)
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyInAnyOrderElementsOf(enrollmentStatuses);
+    assertThat(sut.selectCourseListWithLatestStatus(Status.仮申込))
+        .extracting(StudentCourse::getId)
+        .doesNotContain("9d99d930-9999-9999-9999-999999999999",
+            "cd9c0960-cccc-cccc-cccc-cccccccccccc");
+  }
+
+  @Test
+  void 開始日を過ぎた受講生コース情報検索_開始日が基準日時以前の本申込の受講生コース情報のみ開始日の古い順に取得できること() {
+    // 準備
+    LocalDateTime dueBy = LocalDateTime.parse("2024-03-01T00:00:00");
+
+    // 実行
+    List<StudentCourse> actual = sut.selectCoursesToStart(dueBy, 10);
+
+    // 検証
+    assertThat(actual)
+        .extracting(StudentCourse::getId)
+        .containsExactly("ad9ae940-aaaa-aaaa-aaaa-aaaaaaaaaaaa",
+            "ed9e2980-eeee-eeee-eeee-eeeeeeeeeeee");
+  }
+
+  @Test
+  void 終了日を過ぎた受講生コース情報検索_終了日が基準日時以前の受講中の受講生コース情報を終了日の古い順に上限件数まで取得できること() {
+    // 準備
+    LocalDateTime dueBy = LocalDateTime.parse("2024-01-01T00:00:00");
+
+    // 実行
+    List<StudentCourse> actual = sut.selectCoursesToFinish(dueBy, 1);
+
+    // 検証
+    assertThat(actual)
+        .extracting(StudentCourse::getId)
+        .containsExactly("0d9029a0-0000-0000-0000-000000000000");
+  }
+
+  @Test
+  void 受講生コース現在の申込状況の条件付き一括更新_現在の申込状況が想定どおりの受講生コース情報のみ更新され_参照されない申込状況は削除できること() {
+    // 準備
+    LocalDateTime createdAt = LocalDateTime.parse("2024-08-01T09:00:00");
+    EnrollmentStatus expectedToAdvance = EnrollmentStatus.builder()
+        .id("af9ae940-aaaa-7b20-8000-000000000023")
+        .studentCourseId("ad9ae940-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
+        .status(Status.受講中)
+        .createdAt(createdAt)
+        .build();
+    EnrollmentStatus alreadyAdvanced = EnrollmentStatus.builder()
+        .id("8f98c820-8888-7b20-8000-000000000024")
+        .studentCourseId("8d98c820-8888-8888-8888-888888888888")
+        .status(Status.受講中)
+        .createdAt(createdAt)
+        .build();
+    List<EnrollmentStatus> enrollmentStatuses = List.of(expectedToAdvance, alreadyAdvanced);
+    int statusCountBefore = enrollmentStatusRepository.selectAllEnrollmentStatus().size();
+    enrollmentStatusRepository.createEnrollmentStatuses(enrollmentStatuses);
+
+    // 実行
+    int updatedCount = sut.compareAndUpdateCurrentStatuses(enrollmentStatuses, Status.本申込);
+    int deletedCount = enrollmentStatusRepository
+        .deleteUnreferencedEnrollmentStatuses(enrollmentStatuses);
+
+    // 検証
+    assertThat(updatedCount).isEqualTo(1);
+    assertThat(deletedCount).isEqualTo(1);
+    assertThat(sut.selectCourseListByIds(List.of("ad9ae940-aaaa-aaaa-aaaa-aaaaaaaaaaaa",
+        "8d98c820-8888-8888-8888-888888888888")))
+        .extracting(course -> course.getEnrollmentStatus().getId())
+        .containsExactlyInAnyOrder("af9ae940-aaaa-7b20-8000-000000000023",
+            "8d98c820-8888-7b20-8000-000000000003");
+    assertThat(enrollmentStatusRepository.selectAllEnrollmentStatus())
+        .hasSize(statusCountBefore + 1);
+  }
+
   @ParameterizedTest
   @EnumSource(EnrollmentStatus.Status.class)
   void 受講生コース申込状況検索_適切な申込状況が渡された場合_申込状況と合致するレコードが取得できること(
@@ -140,72 +328,72 @@ class StudentCourseRepositoryTest {
 
 
   private static Stream<StudentCourse> provideExistingStudentCourses() {
-    EnrollmentStatus status1 = new EnrollmentStatus("6d96a6g0-6666-7b20-8000-000000000014",
-        "6d96a6g0-6666-6666-6666-666666666666",
+    EnrollmentStatus status1 = new EnrollmentStatus("6d96a600-6666-7b20-8000-000000000014",
+        "6d96a600-6666-6666-6666-666666666666",
         Status.valueOf("受講中"), LocalDateTime.parse("2024-01-12T09:00:00"));
 
-    EnrollmentStatus status2 = new EnrollmentStatus("7d97b7h0-7777-7b20-8000-000000000002",
-        "7d97b7h0-7777-7777-7777-777777777777",
+    EnrollmentStatus status2 = new EnrollmentStatus("7d97b710-7777-7b20-8000-000000000002",
+        "7d97b710-7777-7777-7777-777777777777",
         Status.valueOf("本申込"), LocalDateTime.parse("2024-07-01T09:00:00")
     );
 
     EnrollmentStatus status3 = new EnrollmentStatus(
-        "8d98c8i0-8888-7b20-8000-000000000003",
-        "8d98c8i0-8888-8888-8888-888888888888",
+        "8d98c820-8888-7b20-8000-000000000003",
+        "8d98c820-8888-8888-8888-888888888888",
         Status.valueOf("受講中"), LocalDateTime.parse("2024-01-01T09:00:00")
     );
 
     EnrollmentStatus status4 = new EnrollmentStatus(
-        "9d99d9j0-9999-7b20-8000-000000000004",
-        "9d99d9j0-9999-9999-9999-999999999999",
+        "9d99d930-9999-7b20-8000-000000000004",
+        "9d99d930-9999-9999-9999-999999999999",
         Status.valueOf("仮申込"), LocalDateTime.parse("2024-07-01T09:00:00")
     );
 
     EnrollmentStatus status5 = new EnrollmentStatus(
-        "ad9ae9k0-aaaa-7b20-8000-000000000005",
-        "ad9ae9k0-aaaa-aaaa-aaaa-aaaaaaaaaaaa",
+        "ad9ae940-aaaa-7b20-8000-000000000005",
+        "ad9ae940-aaaa-aaaa-aaaa-aaaaaaaaaaaa",
         Status.valueOf("本申込"), LocalDateTime.parse("2024-01-01T09:00:00")
     );
 
     EnrollmentStatus status6 = new EnrollmentStatus(
-        "bd9bf9l0-bbbb-7b20-8000-000000000015",
-        "bd9bf9l0-bbbb-bbbb-bbbb-bbbbbbbbbbbb",
+        "bd9bf950-bbbb-7b20-8000-000000000015",
+        "bd9bf950-bbbb-bbbb-bbbb-bbbbbbbbbbbb",
         Status.valueOf("受講中"), LocalDateTime.parse("2024-12-01T09:00:00")
     );
 
     EnrollmentStatus status7 = new EnrollmentStatus(
-        "cd9cg9m0-cccc-7b20-8000-000000000007",
-        "cd9cg9m0-cccc-cccc-cccc-cccccccccccc",
+        "cd9c0960-cccc-7b20-8000-000000000007",
+        "cd9c0960-cccc-cccc-cccc-cccccccccccc",
         Status.valueOf("仮申込"), LocalDateTime.parse("2024-01-01T09:00:00")
     );
 
     EnrollmentStatus status8 = new EnrollmentStatus(
-        "dd9dh9n0-dddd-7b20-8000-000000000008",
-        "dd9dh9n0-dddd-dddd-dddd-dddddddddddd",
+        "dd9d1970-dddd-7b20-8000-000000000008",
+        "dd9d1970-dddd-dddd-dddd-dddddddddddd",
         Status.valueOf("受講中"), LocalDateTime.parse("2024-07-01T09:00:00")
     );
 
     EnrollmentStatus status9 = new EnrollmentStatus(
-        "ed9ei9o0-eeee-7b20-8000-000000000009",
-        "ed9ei9o0-eeee-eeee-eeee-eeeeeeeeeeee",
+        "ed9e2980-eeee-7b20-8000-000000000009",
+        "ed9e2980-eeee-eeee-eeee-eeeeeeeeeeee",
         Status.valueOf("本申込"), LocalDateTime.parse("2024-01-01T09:00:00")
     );
 
     EnrollmentStatus status10 = new EnrollmentStatus(
-        "fd9fj9p0-ffff-7b20-8000-000000000010",
-        "fd9fj9p0-ffff-ffff-ffff-ffffffffffff",
+        "fd9f3990-ffff-7b20-8000-000000000010",
+        "fd9f3990-ffff-ffff-ffff-ffffffffffff",
         Status.valueOf("仮申込"), LocalDateTime.parse("2024-07-01T09:00:00")
     );
 
     EnrollmentStatus status11 = new EnrollmentStatus(
-        "gd9gi9q0-gggg-7b20-8000-000000000011",
-        "gd9gi9q0-gggg-gggg-gggg-gggggggggggg",
+        "0d9029a0-0000-7b20-8000-000000000011",
+        "0d9029a0-0000-0000-0000-000000000000",
         Status.valueOf("受講中"), LocalDateTime.parse("2023-01-01T09:00:00")
     );
 
     EnrollmentStatus status12 = new EnrollmentStatus(
-        "hd9hj9r0-hhhh-7b20-8000-000000000012",
-        "hd9hj9r0-hhhh-hhhh-hhhh-hhhhhhhhhhhh",
+        "1d9139b0-1111-7b20-8000-000000000012",
+        "1d9139b0-1111-1111-1111-111111111111",
         Status.valueOf("受講中"), LocalDateTime.parse("2023-07-01T09:00:00")
     );
 
@@ -215,73 +403,73 @@ class StudentCourseRepositoryTest {
             .startDate(LocalDateTime.parse("2024-01-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-06-30T17:00:00"))
             .enrollmentStatus(status1)
-            .buildWithId("6d96a6g0-6666-6666-6666-666666666666"),
+            .buildWithId("6d96a600-6666-6666-6666-666666666666"),
         new StudentCourse.StudentCourseBuilder("1c91a1b0-1111-1111-1111-111111111111",
             "AWSフルコース")
             .startDate(LocalDateTime.parse("2024-07-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-12-31T17:00:00"))
             .enrollmentStatus(status2)
-            .buildWithId("7d97b7h0-7777-7777-7777-777777777777"),
+            .buildWithId("7d97b710-7777-7777-7777-777777777777"),
         new StudentCourse.StudentCourseBuilder("2c92b2c0-2222-2222-2222-222222222222",
             "デザインコース")
             .startDate(LocalDateTime.parse("2024-01-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-06-30T17:00:00"))
             .enrollmentStatus(status3)
-            .buildWithId("8d98c8i0-8888-8888-8888-888888888888"),
+            .buildWithId("8d98c820-8888-8888-8888-888888888888"),
         new StudentCourse.StudentCourseBuilder("2c92b2c0-2222-2222-2222-222222222222",
             "AWSフルコース")
             .startDate(LocalDateTime.parse("2024-07-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-12-31T17:00:00"))
             .enrollmentStatus(status4)
-            .buildWithId("9d99d9j0-9999-9999-9999-999999999999"),
+            .buildWithId("9d99d930-9999-9999-9999-999999999999"),
         new StudentCourse.StudentCourseBuilder("3c93c3d0-3333-3333-3333-333333333333",
             "Javaフルコース")
             .startDate(LocalDateTime.parse("2024-01-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-06-30T17:00:00"))
             .enrollmentStatus(status5)
-            .buildWithId("ad9ae9k0-aaaa-aaaa-aaaa-aaaaaaaaaaaa"),
+            .buildWithId("ad9ae940-aaaa-aaaa-aaaa-aaaaaaaaaaaa"),
         new StudentCourse.StudentCourseBuilder("3c93c3d0-3333-3333-3333-333333333333",
             "デザインコース")
             .startDate(LocalDateTime.parse("2024-07-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-12-31T17:00:00"))
             .enrollmentStatus(status6)
-            .buildWithId("bd9bf9l0-bbbb-bbbb-bbbb-bbbbbbbbbbbb"),
+            .buildWithId("bd9bf950-bbbb-bbbb-bbbb-bbbbbbbbbbbb"),
         new StudentCourse.StudentCourseBuilder("4c94d4e0-4444-4444-4444-444444444444",
             "AWSフルコース")
             .startDate(LocalDateTime.parse("2024-01-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-06-30T17:00:00"))
             .enrollmentStatus(status7)
-            .buildWithId("cd9cg9m0-cccc-cccc-cccc-cccccccccccc"),
+            .buildWithId("cd9c0960-cccc-cccc-cccc-cccccccccccc"),
         new StudentCourse.StudentCourseBuilder("4c94d4e0-4444-4444-4444-444444444444",
             "Javaフルコース")
             .startDate(LocalDateTime.parse("2024-07-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-12-31T17:00:00"))
             .enrollmentStatus(status8)
-            .buildWithId("dd9dh9n0-dddd-dddd-dddd-dddddddddddd"),
+            .buildWithId("dd9d1970-dddd-dddd-dddd-dddddddddddd"),
         new StudentCourse.StudentCourseBuilder("5c95e5f0-5555-5555-5555-555555555555",
             "デザインコース")
             .startDate(LocalDateTime.parse("2024-01-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-06-30T17:00:00"))
             .enrollmentStatus(status9)
-            .buildWithId("ed9ei9o0-eeee-eeee-eeee-eeeeeeeeeeee"),
+            .buildWithId("ed9e2980-eeee-eeee-eeee-eeeeeeeeeeee"),
         new StudentCourse.StudentCourseBuilder("5c95e5f0-5555-5555-5555-555555555555",
             "AWSフルコース")
             .startDate(LocalDateTime.parse("2024-07-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-12-31T17:00:00"))
             .enrollmentStatus(status10)
-            .buildWithId("fd9fj9p0-ffff-ffff-ffff-ffffffffffff"),
-        new StudentCourse.StudentCourseBuilder("6c96f6g0-6666-6666-6666-666666666666",
+            .buildWithId("fd9f3990-ffff-ffff-ffff-ffffffffffff"),
+        new StudentCourse.StudentCourseBuilder("6c96f600-6666-6666-6666-666666666666",
             "Javaフルコース")
             .startDate(LocalDateTime.parse("2023-01-01T09:00:00"))
             .endDate(LocalDateTime.parse("2023-06-30T17:00:00"))
             .enrollmentStatus(status11)
-            .buildWithId("gd9gi9q0-gggg-gggg-gggg-gggggggggggg"),
-        new StudentCourse.StudentCourseBuilder("6c96f6g0-6666-6666-6666-666666666666",
+            .buildWithId("0d9029a0-0000-0000-0000-000000000000"),
+        new StudentCourse.StudentCourseBuilder("6c96f600-6666-6666-6666-666666666666",
             "AWSフルコース")
             .startDate(LocalDateTime.parse("2023-07-01T09:00:00"))
             .endDate(LocalDateTime.parse("2023-12-31T17:00:00"))
             .enrollmentStatus(status12)
-            .buildWithId("hd9hj9r0-hhhh-hhhh-hhhh-hhhhhhhhhhhh")
+            .buildWithId("1d9139b0-1111-1111-1111-111111111111")
     );
   }
 
@@ -292,7 +480,7 @@ class StudentCourseRepositoryTest {
             .startDate(LocalDateTime.of(2024, 1, 10, 9, 0, 0, 123456000))
             .endDate(LocalDateTime.of(2024, 6, 30, 17, 0, 0, 123456000))
             .enrollmentStatus(new EnrollmentStatus(
-                "6f96a6g0-6666-7b20-8000-000000000014",
+                "6f96a600-6666-7b20-8000-000000000014",
                 "1b1c1d00-1111-2222-3333-444444444444",
                 Status.受講中,
                 LocalDateTime.parse("2024-01-12T09:00:00")
@@ -304,7 +492,7 @@ class StudentCourseRepositoryTest {
             .startDate(LocalDateTime.of(2024, 7, 1, 9, 0, 0, 987654000))
             .endDate(LocalDateTime.of(2024, 12, 31, 17, 0, 0, 987654000))
             .enrollmentStatus(new EnrollmentStatus(
-                "7f96b7g0-7777-7b20-8000-000000000014",
+                "7f96b700-7777-7b20-8000-000000000014",
                 "2b2c2d00-2222-3333-4444-555555555555",
                 Status.本申込,
                 LocalDateTime.parse("2024-07-01T09:00:00")
@@ -316,7 +504,7 @@ class StudentCourseRepositoryTest {
             .startDate(LocalDateTime.of(2024, 1, 10, 9, 0, 0, 111111000))
             .endDate(LocalDateTime.of(2024, 6, 30, 17, 0, 0, 111111000))
             .enrollmentStatus(new EnrollmentStatus(
-                "8f96c8g0-8888-7b20-8000-000000000014",
+                "8f96c800-8888-7b20-8000-000000000014",
                 "3b3c3d00-3333-4444-5555-666666666666",
                 Status.仮申込,
                 LocalDateTime.parse("2024-01-10T09:00:00")
@@ -328,7 +516,7 @@ class StudentCourseRepositoryTest {
             .startDate(LocalDateTime.of(2024, 7, 1, 9, 0, 0, 222222000))
             .endDate(LocalDateTime.of(2025, 1, 31, 17, 0, 0, 222222000))
             .enrollmentStatus(new EnrollmentStatus(
-                "9f96d9g0-9999-7b20-8000-000000000014",
+                "9f96d900-9999-7b20-8000-000000000014",
                 "4b4c4d00-4444-5555-6666-777777777777",
                 Status.受講中,
                 LocalDateTime.parse("2024-07-01T09:00:00")
@@ -340,7 +528,7 @@ class StudentCourseRepositoryTest {
             .startDate(LocalDateTime.of(2024, 3, 1, 9, 0, 0, 333333000))
             .endDate(LocalDateTime.of(2024, 9, 30, 17, 0, 0, 333333000))
             .enrollmentStatus(new EnrollmentStatus(
-                "af96e9g0-aaaa-7b20-8000-000000000014",
+                "af96e900-aaaa-7b20-8000-000000000014",
                 "5b5c5d00-5555-6666-7777-888888888888",
                 Status.受講中,
                 LocalDateTime.parse("2024-03-01T09:00:00")
@@ -356,73 +544,73 @@ class StudentCourseRepositoryTest {
             "デザインコース")
             .startDate(LocalDateTime.parse("2024-01-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-06-30T17:00:00"))
-            .buildWithId("6d96a6g0-6666-6666-6666-666666666666"),
+            .buildWithId("6d96a600-6666-6666-6666-666666666666"),
 
         new StudentCourse.StudentCourseBuilder("1c91a1b0-1111-1111-1111-111111111111",
             "Javaフルコース")
             .startDate(LocalDateTime.parse("2024-07-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-12-31T17:00:00"))
-            .buildWithId("7d97b7h0-7777-7777-7777-777777777777"),
+            .buildWithId("7d97b710-7777-7777-7777-777777777777"),
 
         new StudentCourse.StudentCourseBuilder("2c92b2c0-2222-2222-2222-222222222222",
             "デザインコース")
             .startDate(LocalDateTime.parse("2024-05-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-06-30T17:00:00"))
-            .buildWithId("8d98c8i0-8888-8888-8888-888888888888"),
+            .buildWithId("8d98c820-8888-8888-8888-888888888888"),
 
         new StudentCourse.StudentCourseBuilder("2c92b2c0-2222-2222-2222-222222222222",
             "AWSフルコース")
             .startDate(LocalDateTime.parse("2024-05-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-12-31T17:00:00"))
-            .buildWithId("9d99d9j0-9999-9999-9999-999999999999"),
+            .buildWithId("9d99d930-9999-9999-9999-999999999999"),
 
         new StudentCourse.StudentCourseBuilder("3c93c3d0-3333-3333-3333-333333333333",
             "Javaフルコース")
             .startDate(LocalDateTime.parse("2024-01-01T09:00:00"))
             .endDate(LocalDateTime.parse("2025-06-30T17:00:00"))
-            .buildWithId("ad9ae9k0-aaaa-aaaa-aaaa-aaaaaaaaaaaa"),
+            .buildWithId("ad9ae940-aaaa-aaaa-aaaa-aaaaaaaaaaaa"),
 
         new StudentCourse.StudentCourseBuilder("3c93c3d0-3333-3333-3333-333333333333",
             "デザインコース")
             .startDate(LocalDateTime.parse("2024-07-01T09:00:00"))
             .endDate(LocalDateTime.parse("2025-12-31T17:00:00"))
-            .buildWithId("bd9bf9l0-bbbb-bbbb-bbbb-bbbbbbbbbbbb"),
+            .buildWithId("bd9bf950-bbbb-bbbb-bbbb-bbbbbbbbbbbb"),
 
         new StudentCourse.StudentCourseBuilder("4c94d4e0-4444-4444-4444-444444444444",
             "デザインコース")
             .startDate(LocalDateTime.parse("2024-06-01T09:00:00"))
             .endDate(LocalDateTime.parse("2025-06-30T17:00:00"))
-            .buildWithId("cd9cg9m0-cccc-cccc-cccc-cccccccccccc"),
+            .buildWithId("cd9c0960-cccc-cccc-cccc-cccccccccccc"),
 
         new StudentCourse.StudentCourseBuilder("4c94d4e0-4444-4444-4444-444444444444",
             "AWSフルコース")
             .startDate(LocalDateTime.parse("2024-10-01T09:00:00"))
             .endDate(LocalDateTime.parse("2025-12-31T17:00:00"))
-            .buildWithId("dd9dh9n0-dddd-dddd-dddd-dddddddddddd"),
+            .buildWithId("dd9d1970-dddd-dddd-dddd-dddddddddddd"),
 
         new StudentCourse.StudentCourseBuilder("5c95e5f0-5555-5555-5555-555555555555",
             "Javaフルコース")
             .startDate(LocalDateTime.parse("2024-02-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-06-30T17:00:00"))
-            .buildWithId("ed9ei9o0-eeee-eeee-eeee-eeeeeeeeeeee"),
+            .buildWithId("ed9e2980-eeee-eeee-eeee-eeeeeeeeeeee"),
 
         new StudentCourse.StudentCourseBuilder("5c95e5f0-5555-5555-5555-555555555555",
             "デザインコース")
             .startDate(LocalDateTime.parse("2024-08-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-12-31T17:00:00"))
-            .buildWithId("fd9fj9p0-ffff-ffff-ffff-ffffffffffff"),
+            .buildWithId("fd9f3990-ffff-ffff-ffff-ffffffffffff"),
 
-        new StudentCourse.StudentCourseBuilder("6c96f6g0-6666-6666-6666-666666666666",
+        new StudentCourse.StudentCourseBuilder("6c96f600-6666-6666-6666-666666666666",
             "Javaフルコース")
             .startDate(LocalDateTime.parse("2022-01-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-06-30T17:00:00"))
-            .buildWithId("gd9gi9q0-gggg-gggg-gggg-gggggggggggg"),
+            .buildWithId("0d9029a0-0000-0000-0000-000000000000"),
 
-        new StudentCourse.StudentCourseBuilder("6c96f6g0-6666-6666-6666-666666666666",
+        new StudentCourse.StudentCourseBuilder("6c96f600-6666-6666-6666-666666666666",
             "AWSフルコース")
             .startDate(LocalDateTime.parse("2022-07-01T09:00:00"))
             .endDate(LocalDateTime.parse("2024-12-31T17:00:00"))
-            .buildWithId("hd9hj9r0-hhhh-hhhh-hhhh-hhhhhhhhhhhh")
+            .buildWithId("1d9139b0-1111-1111-1111-111111111111")
     );
   }
 }
\ No newline at end of file
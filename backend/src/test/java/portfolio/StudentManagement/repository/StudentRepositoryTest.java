@@ -2,17 +2,25 @@ package portfolio.StudentManagement.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
 import portfolio.StudentManagement.data.Student;
 import portfolio.StudentManagement.data.Student.Gender;
 import portfolio.StudentManagement.data.Student.StudentBuilder;
+import portfolio.StudentManagement.data.StudentCourse;
+import portfolio.StudentManagement.domain.StudentCursor;
+import portfolio.StudentManagement.domain.StudentDetail;
 
 @MybatisTest
 class StudentRepositoryTest {
@@ -144,6 +152,202 @@ class StudentRepositoryTest {
 
   }
 
+  @Test
+  void 受講生詳細検索_検索クエリの指定がない場合_削除フラグがfalseの受講生ごとに受講生コース情報がまとめられていること() {
+    // 準備
+    List<Student> expected = provideExistingStudents().toList();
+
+    // 実行
+    List<StudentDetail> actual = sut.selectStudentDetails("", "", "", "", "",
+        null, null, null, "", null);
+
+    // 検証
+    assertThat(actual)
+        .extracting(StudentDetail::getStudent)
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(actual).allSatisfy(studentDetail -> assertThat(studentDetail.getStudentCourseList())
+        .hasSize(2)
+        .allSatisfy(studentCourse -> {
+          assertThat(studentCourse.getStudentId())
+              .isEqualTo(studentDetail.getStudent().getId());
+          assertThat(studentCourse.getEnrollmentStatus().getStudentCourseId())
+              .isEqualTo(studentCourse.getId());
+        }));
+  }
+
+  @Test
+  void 受講生詳細の全件読み出し_論理削除されていない受講生詳細が受講生ID順に受講生コース情報をまとめて読み出されること()
+      throws IOException {
+    // 準備
+    List<Student> expected = provideExistingStudents()
+        .sorted(Comparator.comparing(Student::getId))
+        .toList();
+    List<StudentDetail> actual = new ArrayList<>();
+
+    // 実行
+    try (Cursor<StudentDetail> cursor = sut.selectStudentDetailCursor()) {
+      cursor.forEach(actual::add);
+    }
+
+    // 検証
+    assertThat(actual)
+        .extracting(StudentDetail::getStudent)
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyElementsOf(expected);
+    assertThat(actual).allSatisfy(studentDetail -> assertThat(studentDetail.getStudentCourseList())
+        .hasSize(2)
+        .allSatisfy(studentCourse -> {
+          assertThat(studentCourse.getStudentId())
+              .isEqualTo(studentDetail.getStudent().getId());
+          assertThat(studentCourse.getEnrollmentStatus().getStudentCourseId())
+              .isEqualTo(studentCourse.getId());
+        }));
+  }
+
+  @Test
+  void 受講生詳細検索_検索クエリの指定がある場合_検索条件に合致する受講生の受講生コース情報のみを取得できること() {
+    // 準備
+    Student expected = provideExistingStudents().toList().getFirst();
+
+    // 実行
+    List<StudentDetail> actual = sut.selectStudentDetails("佐藤", "", "", "", "",
+        null, null, null, "", null);
+
+    // 検証
+    assertThat(actual)
+        .singleElement()
+        .satisfies(studentDetail -> {
+          assertThat(studentDetail.getStudent())
+              .usingRecursiveComparison()
+              .isEqualTo(expected);
+          assertThat(studentDetail.getStudentCourseList())
+              .extracting(StudentCourse::getId)
+              .containsExactlyInAnyOrder("6d96a600-6666-6666-6666-666666666666",
+                  "7d97b710-7777-7777-7777-777777777777");
+        });
+  }
+
+  @Test
+  void 受講生詳細検索_候補の受講生IDの指定がある場合_候補のうち検索条件にも合致する受講生のみを取得できること() {
+    // 準備
+    List<Student> existingStudents = provideExistingStudents().toList();
+    List<String> ids = List.of(existingStudents.get(0).getId(), existingStudents.get(1).getId());
+
+    // 実行
+    List<StudentDetail> actual = sut.selectStudentDetails(null, null, null, null, "港区",
+        null, null, null, null, ids);
+
+    // 検証
+    assertThat(actual)
+        .extracting(studentDetail -> studentDetail.getStudent().getId())
+        .containsExactly(existingStudents.get(0).getId());
+  }
+
+  @Test
+  void 受講生詳細ID検索_適切なIDが渡された場合_受講生と最新の申込状況を含む受講生コース情報を取得できること() {
+    // 準備
+    Student expected = provideExistingStudents().toList().getFirst();
+
+    // 実行
+    StudentDetail actual = sut.selectStudentDetailById(expected.getId());
+
+    // 検証
+    assertThat(actual.getStudent())
+        .usingRecursiveComparison()
+        .isEqualTo(expected);
+    assertThat(actual.getStudentCourseList())
+        .filteredOn(studentCourse -> studentCourse.getId()
+            .equals("6d96a600-6666-6666-6666-666666666666"))
+        .singleElement()
+        .extracting(studentCourse -> studentCourse.getEnrollmentStatus().getStatus())
+        .isEqualTo(Status.受講中);
+  }
+
+  @Test
+  void 受講生詳細ID検索_受講生コース情報がない受講生の場合_空の受講生コース情報リストが設定されること() {
+    // 準備
+    Student student = provideNewStudents().toList().getFirst();
+    sut.createStudent(student);
+
+    // 実行
+    StudentDetail actual = sut.selectStudentDetailById(student.getId());
+
+    // 検証
+    assertThat(actual.getStudent())
+        .usingRecursiveComparison()
+        .isEqualTo(student);
+    assertThat(actual.getStudentCourseList()).isEmpty();
+  }
+
+  @Test
+  void 受講生詳細ID検索_存在しないIDが渡された場合_Nullが返ってくること() {
+    // 実行
+    StudentDetail actual = sut.selectStudentDetailById(UUID.randomUUID().toString());
+
+    // 検証
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  void 受講生ページ検索_カーソルの指定がない場合_氏名とIDの順で先頭から指定件数分の受講生情報を取得できること() {
+    // 準備
+    List<Student> expected = provideExistingStudents()
+        .sorted(Comparator.comparing(Student::getFullName).thenComparing(Student::getId))
+        .limit(2)
+        .toList();
+
+    // 実行
+    List<Student> actual = sut.selectStudentPage(null, null, null, null,
+        null, null, null, null, null, null, null, 2);
+
+    // 検証
+    assertThat(actual)
+        .hasSize(2)
+        .usingRecursiveFieldByFieldElementComparator()
+        .isEqualTo(expected);
+  }
+
+  @Test
+  void 受講生ページ検索_カーソルの指定がある場合_カーソルより後ろの受講生情報を取得できること() {
+    // 準備
+    List<Student> sorted = provideExistingStudents()
+        .sorted(Comparator.comparing(Student::getFullName).thenComparing(Student::getId))
+        .toList();
+    StudentCursor after = StudentCursor.from(sorted.get(1));
+    List<Student> expected = sorted.subList(2, sorted.size());
+
+    // 実行
+    List<Student> actual = sut.selectStudentPage(null, null, null, null,
+        null, null, null, null, null, null, after, 10);
+
+    // 検証
+    assertThat(actual)
+        .hasSize(3)
+        .usingRecursiveFieldByFieldElementComparator()
+        .isEqualTo(expected);
+  }
+
+  @Test
+  void 受講生ページ検索_検索条件の指定がある場合_検索条件に合致する受講生情報のみを取得できること() {
+    // 準備
+    Gender gender = Gender.Female;
+    List<Student> expected = provideExistingStudents()
+        .filter(v -> v.getGender().equals(gender))
+        .sorted(Comparator.comparing(Student::getFullName).thenComparing(Student::getId))
+        .toList();
+
+    // 実行
+    List<Student> actual = sut.selectStudentPage(null, null, null, null,
+        null, null, null, gender, null, null, null, 10);
+
+    // 検証
+    assertThat(actual)
+        .hasSize(2)
+        .usingRecursiveFieldByFieldElementComparator()
+        .isEqualTo(expected);
+  }
+
   @Test
   void 受講生検索_存在しないIDが渡された場合_Nullが返ってくること() {
     // 準備
@@ -170,6 +374,42 @@ class StudentRepositoryTest {
         .isEqualTo(expected);
   }
 
+  @Test
+  void 受講生複数ID検索_渡されたIDに該当する受講生情報を取得でき_削除済みの受講生と存在しないIDは含まれないこと() {
+    // 準備
+    List<Student> existingStudents = provideExistingStudents().toList();
+    List<Student> expected = List.of(existingStudents.get(0), existingStudents.get(2));
+    List<String> ids = List.of(
+        existingStudents.get(0).getId(),
+        existingStudents.get(2).getId(),
+        "6c96f600-6666-6666-6666-666666666666",
+        UUID.randomUUID().toString());
+
+    // 実行
+    List<Student> actual = sut.selectStudentsByIds(ids);
+
+    // 検証
+    assertThat(actual)
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  @Test
+  void 登録済みメールアドレス検索_渡されたメールアドレスのうち登録済みのものだけを取得でき_削除済みの受講生のメールアドレスも含まれること() {
+    // 準備
+    List<String> emails = List.of(
+        "taro.sato@example.com",
+        "jiro.ito@example.com",
+        "new.student@example.com");
+
+    // 実行
+    List<String> actual = sut.selectExistingEmails(emails);
+
+    // 検証
+    assertThat(actual)
+        .containsExactlyInAnyOrder("taro.sato@example.com", "jiro.ito@example.com");
+  }
+
   @ParameterizedTest
   @MethodSource("provideNewStudents")
   void 受講生登録_渡されたStudentオブジェクトのレコードがDBにINSERTされること(Student student) {
@@ -352,7 +592,7 @@ class StudentRepositoryTest {
             .gender(Gender.Male)
             .remark("退会済みの学生")
             .isDeleted(true)
-            .useOnlyTestBuildWithId("6c96f6g0-6666-6666-6666-666666666666")
+            .useOnlyTestBuildWithId("6c96f600-6666-6666-6666-666666666666")
     );
   }
 
@@ -0,0 +1,127 @@
+package portfolio.StudentManagement.repository.plugin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MapperMetricsInterceptorTest {
+
+  @Mock
+  Invocation invocation;
+
+  SimpleMeterRegistry meterRegistry;
+
+  MapperMetricsInterceptor sut;
+
+  @BeforeEach
+  void before() {
+    meterRegistry = new SimpleMeterRegistry();
+    sut = new MapperMetricsInterceptor(meterRegistry);
+  }
+
+  @Test
+  void 計測_検索の場合_ステートメントごとに実行時間と取得件数が記録されること() throws Throwable {
+    // 準備
+    MappedStatement statement = mappedStatement("StudentRepository.selectStudentsByIds",
+        SqlCommandType.SELECT);
+    when(invocation.getArgs()).thenReturn(new Object[]{statement, null, null, null});
+    when(invocation.proceed()).thenReturn(List.of("s1", "s2", "s3"));
+
+    // 実行
+    Object actual = sut.intercept(invocation);
+
+    // 検証
+    assertThat(actual).isEqualTo(List.of("s1", "s2", "s3"));
+    assertThat(meterRegistry.get(MapperMetricsInterceptor.STATEMENT_METRIC)
+        .tags("statement", statement.getId(), "type", "SELECT", "outcome", "SUCCESS")
+        .timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(MapperMetricsInterceptor.ROWS_METRIC)
+        .tags("statement", statement.getId())
+        .summary().totalAmount()).isEqualTo(3);
+  }
+
+  @Test
+  void 計測_更新に失敗した場合_元の例外が投げられエラー件数が記録されること() throws Throwable {
+    // 準備
+    MappedStatement statement = mappedStatement("StudentRepository.updateStudent",
+        SqlCommandType.UPDATE);
+    SQLException exception = new SQLException("Deadlock found");
+    when(invocation.getArgs()).thenReturn(new Object[]{statement, null});
+    when(invocation.proceed()).thenThrow(new InvocationTargetException(exception));
+
+    // 実行、検証
+    assertThatThrownBy(() -> sut.intercept(invocation)).isSameAs(exception);
+    assertThat(meterRegistry.get(MapperMetricsInterceptor.ERRORS_METRIC)
+        .tags("statement", statement.getId(), "exception", "SQLException")
+        .counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(MapperMetricsInterceptor.STATEMENT_METRIC)
+        .tags("statement", statement.getId(), "type", "UPDATE", "outcome", "ERROR")
+        .timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void 計測_バッチ実行の更新がキューに追加された場合_実行時間と更新件数が記録されないこと() throws Throwable {
+    // 準備
+    MappedStatement statement = mappedStatement("StudentRepository.createStudent",
+        SqlCommandType.INSERT);
+    when(invocation.getArgs()).thenReturn(new Object[]{statement, null});
+    when(invocation.proceed()).thenReturn(BatchExecutor.BATCH_UPDATE_RETURN_VALUE);
+
+    // 実行
+    Object actual = sut.intercept(invocation);
+
+    // 検証
+    assertThat(actual).isEqualTo(BatchExecutor.BATCH_UPDATE_RETURN_VALUE);
+    assertThat(meterRegistry.find(MapperMetricsInterceptor.STATEMENT_METRIC).timer()).isNull();
+    assertThat(meterRegistry.find(MapperMetricsInterceptor.ROWS_METRIC).summary()).isNull();
+  }
+
+  @Test
+  void 計測_バッチ実行の更新を送信した場合_送信時間とステートメントごとの更新件数が記録されること() throws Throwable {
+    // 準備
+    MappedStatement statement = mappedStatement("StudentRepository.createStudent",
+        SqlCommandType.INSERT);
+    BatchResult batchResult = new BatchResult(statement, "INSERT INTO students");
+    batchResult.setUpdateCounts(new int[]{1, 1, Statement.SUCCESS_NO_INFO});
+    when(invocation.getArgs()).thenReturn(new Object[0]);
+    when(invocation.proceed()).thenReturn(List.of(batchResult));
+
+    // 実行
+    Object actual = sut.intercept(invocation);
+
+    // 検証
+    assertThat(actual).isEqualTo(List.of(batchResult));
+    assertThat(meterRegistry.get(MapperMetricsInterceptor.BATCH_FLUSH_METRIC)
+        .tags("outcome", "SUCCESS")
+        .timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(MapperMetricsInterceptor.BATCH_ROWS_METRIC)
+        .tags("statement", statement.getId(), "type", "INSERT")
+        .summary().totalAmount()).isEqualTo(2);
+    assertThat(meterRegistry.find(MapperMetricsInterceptor.STATEMENT_METRIC).timer()).isNull();
+  }
+
+  private MappedStatement mappedStatement(String id, SqlCommandType type) {
+    Configuration configuration = new Configuration();
+    return new MappedStatement.Builder(configuration, id,
+        new StaticSqlSource(configuration, "SELECT 1"), type).build();
+  }
+}
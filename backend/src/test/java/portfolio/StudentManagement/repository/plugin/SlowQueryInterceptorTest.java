@@ -0,0 +1,123 @@
+package portfolio.StudentManagement.repository.plugin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.data.Student.StudentBuilder;
+import portfolio.StudentManagement.repository.StudentRepository;
+
+/**
+ * しきい値を0にして全てのステートメントを遅いSQLとして記録し、H2上で記録内容と実行計画を確認します。
+ */
+@MybatisTest(properties = "slow-query.threshold=0ms")
+@Import({SlowQueryInterceptor.class, SlowQueryLog.class})
+class SlowQueryInterceptorTest {
+
+  @Autowired
+  private StudentRepository studentRepository;
+
+  @Autowired
+  private SlowQueryLog slowQueryLog;
+
+  @Autowired
+  private SqlSessionFactory sqlSessionFactory;
+
+  private static final String CREATE_STUDENT =
+      "portfolio.StudentManagement.repository.StudentRepository.createStudent";
+
+  @Test
+  void 記録_遅いSQLの場合_生成されたSQLとマスクしたパラメータと件数と実行計画が記録されること() {
+    // 実行
+    studentRepository.selectStudentDetails("佐藤", null, null, null, null, 20, null, null,
+        null, null);
+
+    // 検証
+    SlowQuery actual = find(
+        "portfolio.StudentManagement.repository.StudentRepository.selectStudentDetails");
+    assertThat(actual.getSql()).contains("full_name LIKE");
+    assertThat(actual.getLastParameters())
+        .containsEntry("fullName", "***(2文字)")
+        .containsEntry("minAge", 20);
+    assertThat(actual.getLastRows()).isEqualTo(1);
+    assertThat(actual.getLastOutcome()).isEqualTo("SUCCESS");
+    assertThat(actual.getExplain()).isNotEmpty();
+    assertThat(actual.getExplain().getFirst()).doesNotContainKey("error");
+  }
+
+  @Test
+  void 記録_失敗したSQLの場合_例外がそのまま返され実行結果がERRORとして記録されること() {
+    // 準備
+    Student duplicated = new StudentBuilder("佐藤 太郎", "duplicated@example.com", "東京都港区", 25)
+        .useOnlyTestBuildWithId("1c91a1b0-1111-1111-1111-111111111111");
+
+    // 実行
+    assertThatThrownBy(() -> studentRepository.createStudent(duplicated))
+        .isInstanceOf(DataIntegrityViolationException.class);
+
+    // 検証
+    SlowQuery actual = find(CREATE_STUDENT);
+    assertThat(actual.getLastOutcome()).isEqualTo("ERROR");
+    assertThat(actual.getLastRows()).isZero();
+    assertThat(actual.getLastParameters()).containsEntry("email", "***(22文字)");
+  }
+
+  @Test
+  void 記録_バッチ実行の更新の場合_キューへの追加は実行として記録されないこと() {
+    // 準備
+    StudentRepository batchRepository = new SqlSessionTemplate(sqlSessionFactory,
+        ExecutorType.BATCH).getMapper(StudentRepository.class);
+    Student student = new StudentBuilder("山田 一郎", "ichiro.yamada@example.com", "大阪府大阪市", 24)
+        .build();
+
+    // 実行
+    batchRepository.createStudent(student);
+
+    // 検証
+    assertThat(slowQueryLog.slowQueries())
+        .noneMatch(slowQuery -> slowQuery.getStatementId().equals(CREATE_STUDENT));
+  }
+
+  @Test
+  void 記録_IN句の要素数のみが異なるSQLの場合_同じ形として件数がまとめられIDはマスクされないこと() {
+    // 実行
+    studentRepository.selectStudentsByIds(List.of("1c91a1b0-1111-1111-1111-111111111111"));
+    studentRepository.selectStudentsByIds(List.of("1c91a1b0-1111-1111-1111-111111111111",
+        "2c92b2c0-2222-2222-2222-222222222222"));
+
+    // 検証
+    SlowQuery actual = find(
+        "portfolio.StudentManagement.repository.StudentRepository.selectStudentsByIds");
+    assertThat(actual.getCount()).isEqualTo(2);
+    assertThat(actual.getLastRows()).isEqualTo(2);
+    assertThat(actual.getLastParameters())
+        .containsValues("1c91a1b0-1111-1111-1111-111111111111",
+            "2c92b2c0-2222-2222-2222-222222222222");
+    assertThat(actual.getExplain()).isNotEmpty();
+  }
+
+  @Test
+  void マスク_個人情報を含みうる値は文字数または型名のみとなること() {
+    // 実行、検証
+    assertThat(SlowQueryInterceptor.redact("taro.sato@example.com")).isEqualTo("***(21文字)");
+    assertThat(SlowQueryInterceptor.redact(new byte[16])).isEqualTo("***(byte[])");
+    assertThat(SlowQueryInterceptor.redact(30)).isEqualTo(30);
+    assertThat(SlowQueryInterceptor.redact(null)).isNull();
+  }
+
+  private SlowQuery find(String statementId) {
+    return slowQueryLog.slowQueries().stream()
+        .filter(slowQuery -> slowQuery.getStatementId().equals(statementId))
+        .findFirst()
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,52 @@
+package portfolio.StudentManagement.repository.typehandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+import java.sql.PreparedStatement;
+import java.util.HexFormat;
+import org.apache.ibatis.type.JdbcType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UuidBinaryTypeHandlerTest {
+
+  @Mock
+  PreparedStatement preparedStatement;
+
+  UuidBinaryTypeHandler sut = new UuidBinaryTypeHandler();
+
+  @Test
+  void バイト列への変換_UUIDの上位ビットから順に16バイトに変換され_文字列に戻すと元のUUIDになること() {
+    // 準備
+    String uuid = "0190a6b2-7c3d-7e4f-8a5b-6c7d8e9f0a1b";
+
+    // 実行
+    byte[] actual = UuidBinaryTypeHandler.toBytes(uuid);
+
+    // 検証
+    assertThat(HexFormat.of().formatHex(actual)).isEqualTo("0190a6b27c3d7e4f8a5b6c7d8e9f0a1b");
+    assertThat(UuidBinaryTypeHandler.toUuidString(actual)).isEqualTo(uuid);
+  }
+
+  @Test
+  void バイト列への変換_UUIDの形式でない文字列が渡された場合_例外が発生すること() {
+    // 実行、検証
+    assertThatThrownBy(() -> UuidBinaryTypeHandler.toBytes("1-2-3-4-5"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void パラメーターの設定_UUIDの形式でない文字列が渡された場合_どのIDとも一致しない空のバイト列が設定されること()
+      throws Exception {
+    // 実行
+    sut.setNonNullParameter(preparedStatement, 1, "not-a-uuid", JdbcType.BINARY);
+
+    // 検証
+    verify(preparedStatement).setBytes(1, new byte[0]);
+  }
+}
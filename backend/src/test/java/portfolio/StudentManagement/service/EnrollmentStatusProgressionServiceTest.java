@@ -0,0 +1,162 @@
+package portfolio.StudentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import portfolio.StudentManagement.data.EnrollmentStatus;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.StudentCourse;
+import portfolio.StudentManagement.data.StudentCourse.StudentCourseBuilder;
+import portfolio.StudentManagement.repository.EnrollmentStatusRepository;
+import portfolio.StudentManagement.repository.StudentCourseRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EnrollmentStatusProgressionServiceTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.parse("2024-08-01T05:00:00");
+
+  @Mock
+  StudentCourseRepository studentCourseRepository;
+
+  @Mock
+  EnrollmentStatusRepository enrollmentStatusRepository;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  @Captor
+  ArgumentCaptor<List<EnrollmentStatus>> captor;
+
+  SimpleMeterRegistry meterRegistry;
+
+  EnrollmentStatusProgressionService sut;
+
+  @BeforeEach
+  void before() {
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    meterRegistry = new SimpleMeterRegistry();
+    ZoneId zone = ZoneId.systemDefault();
+    sut = new EnrollmentStatusProgressionService(studentCourseRepository,
+        enrollmentStatusRepository,
+        new StudentDetailCache(100, Duration.ofMinutes(10), meterRegistry),
+        new TransactionTemplate(transactionManager), meterRegistry,
+        Clock.fixed(NOW.atZone(zone).toInstant(), zone), 2);
+  }
+
+  @Test
+  void 申込状況の自動更新_期日を過ぎた受講生コース情報がチャンクサイズを超える場合_チャンクごとに別のトランザクションで進められメトリクスが記録されること() {
+    // 準備
+    StudentCourse first = course("c1", LocalDateTime.parse("2024-07-31T09:00:00"), null);
+    StudentCourse second = course("c2", LocalDateTime.parse("2024-07-31T09:00:00"), null);
+    StudentCourse third = course("c3", LocalDateTime.parse("2024-08-01T03:00:00"), null);
+    StudentCourse finished = course("c4", null, LocalDateTime.parse("2024-07-31T17:00:00"));
+    when(studentCourseRepository.selectCoursesToStart(NOW, 2))
+        .thenReturn(List.of(first, second), List.of(third));
+    when(studentCourseRepository.selectCoursesToFinish(NOW, 2))
+        .thenReturn(List.of(finished));
+    when(studentCourseRepository.compareAndUpdateCurrentStatuses(anyList(), any()))
+        .thenAnswer(invocation -> invocation.<List<EnrollmentStatus>>getArgument(0).size());
+
+    // 実行
+    int actual = sut.progressEnrollmentStatuses();
+
+    // 検証
+    assertThat(actual).isEqualTo(4);
+    verify(enrollmentStatusRepository, times(3)).createEnrollmentStatuses(captor.capture());
+    verify(studentCourseRepository, times(2))
+        .compareAndUpdateCurrentStatuses(anyList(), eq(Status.本申込));
+    verify(studentCourseRepository, times(1))
+        .compareAndUpdateCurrentStatuses(anyList(), eq(Status.受講中));
+    verify(enrollmentStatusRepository, never()).deleteUnreferencedEnrollmentStatuses(any());
+    verify(transactionManager, times(3)).commit(any());
+    assertThat(captor.getAllValues())
+        .flatExtracting(statuses -> statuses)
+        .extracting(EnrollmentStatus::getStudentCourseId, EnrollmentStatus::getStatus,
+            EnrollmentStatus::getCreatedAt)
+        .containsExactly(
+            tuple("c1", Status.受講中, NOW),
+            tuple("c2", Status.受講中, NOW),
+            tuple("c3", Status.受講中, NOW),
+            tuple("c4", Status.受講終了, NOW));
+
+    assertThat(meterRegistry.counter(EnrollmentStatusProgressionService.ADVANCED_METRIC,
+        "status", "受講中").count()).isEqualTo(3);
+    assertThat(meterRegistry.counter(EnrollmentStatusProgressionService.ADVANCED_METRIC,
+        "status", "受講終了").count()).isEqualTo(1);
+    assertThat(meterRegistry.timer(EnrollmentStatusProgressionService.LAG_METRIC,
+        "status", "受講中").max(TimeUnit.HOURS)).isEqualTo(20);
+    assertThat(meterRegistry.timer(EnrollmentStatusProgressionService.RUN_METRIC,
+        "outcome", "success").count()).isEqualTo(1);
+  }
+
+  @Test
+  void 申込状況の自動更新_他のノードが先に進めた受講生コース情報がある場合_登録した申込状況が取り消され競合としてメトリクスが記録され遅れは進めた受講生コース情報のみ記録されること() {
+    // 準備
+    List<StudentCourse> dueCourses = List.of(
+        course("c1", LocalDateTime.parse("2024-07-31T09:00:00"), null),
+        course("c2", LocalDateTime.parse("2024-07-31T09:00:00"), null));
+    when(studentCourseRepository.selectCoursesToStart(NOW, 2))
+        .thenReturn(dueCourses, List.of());
+    when(studentCourseRepository.selectCoursesToFinish(NOW, 2)).thenReturn(List.of());
+    List<EnrollmentStatus> created = new ArrayList<>();
+    doAnswer(invocation -> created.addAll(invocation.getArgument(0)))
+        .when(enrollmentStatusRepository).createEnrollmentStatuses(anyList());
+    when(studentCourseRepository.compareAndUpdateCurrentStatuses(anyList(), eq(Status.本申込)))
+        .thenReturn(1);
+    when(studentCourseRepository.selectCourseListByIds(Set.of("c1", "c2")))
+        .thenAnswer(invocation -> List.of(
+            new StudentCourseBuilder("student-c1", "Javaフルコース")
+                .enrollmentStatus(created.getFirst()).buildWithId("c1"),
+            new StudentCourseBuilder("student-c2", "Javaフルコース")
+                .enrollmentStatus(EnrollmentStatus.builder().id("other").status(Status.受講中)
+                    .build())
+                .buildWithId("c2")));
+
+    // 実行
+    int actual = sut.progressEnrollmentStatuses();
+
+    // 検証
+    assertThat(actual).isEqualTo(1);
+    verify(enrollmentStatusRepository, times(1)).deleteUnreferencedEnrollmentStatuses(anyList());
+    assertThat(meterRegistry.counter(EnrollmentStatusProgressionService.ADVANCED_METRIC,
+        "status", "受講中").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter(EnrollmentStatusProgressionService.CONFLICTS_METRIC,
+        "status", "受講中").count()).isEqualTo(1);
+    assertThat(meterRegistry.timer(EnrollmentStatusProgressionService.LAG_METRIC,
+        "status", "受講中").count()).isEqualTo(1);
+  }
+
+  private StudentCourse course(String id, LocalDateTime startDate, LocalDateTime endDate) {
+    return new StudentCourseBuilder("student-" + id, "Javaフルコース")
+        .startDate(startDate)
+        .endDate(endDate)
+        .buildWithId(id);
+  }
+}
@@ -0,0 +1,95 @@
+package portfolio.StudentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import portfolio.StudentManagement.repository.StudentArchiveRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentArchiveServiceTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.parse("2024-08-01T04:30:00");
+  private static final LocalDateTime DELETED_BEFORE = LocalDateTime.parse("2024-07-02T04:30:00");
+
+  @Mock
+  StudentArchiveRepository studentArchiveRepository;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  SimpleMeterRegistry meterRegistry;
+
+  StudentArchiveService sut;
+
+  @BeforeEach
+  void before() {
+    meterRegistry = new SimpleMeterRegistry();
+    ZoneId zone = ZoneId.systemDefault();
+    sut = new StudentArchiveService(studentArchiveRepository,
+        new TransactionTemplate(transactionManager), meterRegistry,
+        Clock.fixed(NOW.atZone(zone).toInstant(), zone), Duration.ofDays(30), 2);
+  }
+
+  @Test
+  void アーカイブ_対象の受講生がチャンクサイズを超える場合_チャンクごとに別のトランザクションで参照元から順に移されること() {
+    // 準備
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    List<String> firstChunk = List.of("s1", "s2");
+    List<String> secondChunk = List.of("s3");
+    when(studentArchiveRepository.selectStudentIdsToArchive(DELETED_BEFORE, 2))
+        .thenReturn(firstChunk, secondChunk);
+
+    // 実行
+    int actual = sut.archiveDeletedStudents();
+
+    // 検証
+    assertThat(actual).isEqualTo(3);
+    verify(transactionManager, times(2)).commit(any());
+    InOrder inOrder = inOrder(studentArchiveRepository);
+    for (List<String> chunk : List.of(firstChunk, secondChunk)) {
+      inOrder.verify(studentArchiveRepository).archiveStudents(chunk);
+      inOrder.verify(studentArchiveRepository).archiveStudentCourses(chunk);
+      inOrder.verify(studentArchiveRepository).archiveEnrollmentStatuses(chunk);
+      inOrder.verify(studentArchiveRepository).deleteEnrollmentStatusesByStudentIds(chunk);
+      inOrder.verify(studentArchiveRepository).deleteStudentCoursesByStudentIds(chunk);
+      inOrder.verify(studentArchiveRepository).deleteStudentsByIds(chunk);
+    }
+    assertThat(meterRegistry.counter(StudentArchiveService.ARCHIVED_METRIC).count()).isEqualTo(3);
+  }
+
+  @Test
+  void アーカイブ_対象の受講生がいない場合_何も移されないこと() {
+    // 準備
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    when(studentArchiveRepository.selectStudentIdsToArchive(DELETED_BEFORE, 2))
+        .thenReturn(List.of());
+
+    // 実行
+    int actual = sut.archiveDeletedStudents();
+
+    // 検証
+    assertThat(actual).isZero();
+    verify(studentArchiveRepository, never()).archiveStudents(any());
+    verify(studentArchiveRepository, never()).deleteStudentsByIds(any());
+  }
+}
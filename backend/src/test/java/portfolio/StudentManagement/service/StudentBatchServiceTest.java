@@ -0,0 +1,215 @@
+package portfolio.StudentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import portfolio.StudentManagement.data.EnrollmentStatus;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.data.StudentCourse;
+import portfolio.StudentManagement.data.StudentCourse.StudentCourseBuilder;
+import portfolio.StudentManagement.domain.StudentBatchItemResult;
+import portfolio.StudentManagement.domain.StudentBatchResult;
+import portfolio.StudentManagement.domain.StudentDetail;
+import portfolio.StudentManagement.repository.EnrollmentStatusRepository;
+import portfolio.StudentManagement.repository.StudentCourseRepository;
+import portfolio.StudentManagement.repository.StudentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentBatchServiceTest {
+
+  @Mock
+  SqlSessionTemplate batchSqlSession;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  @Mock
+  StudentRepository studentRepository;
+
+  @Mock
+  StudentRepository batchStudentRepository;
+
+  @Mock
+  StudentCourseRepository batchStudentCourseRepository;
+
+  @Mock
+  EnrollmentStatusRepository batchEnrollmentStatusRepository;
+
+  @Mock
+  StudentSearchIndex studentSearchIndex;
+
+  StudentBatchService sut;
+
+  @BeforeEach
+  void before() {
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    when(batchSqlSession.getMapper(StudentRepository.class)).thenReturn(batchStudentRepository);
+    when(batchSqlSession.getMapper(StudentCourseRepository.class))
+        .thenReturn(batchStudentCourseRepository);
+    when(batchSqlSession.getMapper(EnrollmentStatusRepository.class))
+        .thenReturn(batchEnrollmentStatusRepository);
+    sut = new StudentBatchService(batchSqlSession, new TransactionTemplate(transactionManager),
+        studentRepository, Validation.buildDefaultValidatorFactory().getValidator(),
+        studentSearchIndex);
+  }
+
+  @Test
+  void 受講生一括登録_全ての受講生詳細が有効な場合_種類ごとにまとめてINSERTされ全件が成功として返されること() {
+    // 準備
+    List<StudentDetail> studentDetailList = List.of(
+        studentDetail("taro@test.com", "Javaフルコース", "AWSフルコース"),
+        studentDetail("hanako@test.com", "デザインコース"),
+        studentDetail("jiro@test.com", "Javaフルコース"));
+
+    ArgumentCaptor<StudentCourse> courseCaptor = ArgumentCaptor.forClass(StudentCourse.class);
+    ArgumentCaptor<EnrollmentStatus> statusCaptor = ArgumentCaptor.forClass(EnrollmentStatus.class);
+
+    // 実行
+    StudentBatchResult actual = sut.registerStudents(studentDetailList);
+
+    // 検証
+    verify(batchStudentRepository, times(3)).createStudent(any());
+    verify(batchStudentCourseRepository, times(4)).createStudentCourse(courseCaptor.capture());
+    verify(batchEnrollmentStatusRepository, times(4))
+        .createEnrollmentStatus(statusCaptor.capture());
+    verify(batchSqlSession, times(1)).flushStatements();
+    verify(transactionManager, times(1)).commit(any());
+    verify(studentSearchIndex, times(3)).update(any());
+
+    assertThat(actual.getSucceededCount()).isEqualTo(3);
+    assertThat(actual.getFailedCount()).isEqualTo(0);
+    assertThat(actual.getResults())
+        .extracting(StudentBatchItemResult::getIndex, StudentBatchItemResult::isSuccess)
+        .containsExactly(tuple(0, true), tuple(1, true), tuple(2, true));
+
+    StudentDetail first = actual.getResults().getFirst().getStudentDetail();
+    assertThat(first.getStudent().getId()).isNotBlank();
+    assertThat(first.getStudent().getEmail()).isEqualTo("taro@test.com");
+    assertThat(first.getStudentCourseList())
+        .extracting(StudentCourse::getStudentId, StudentCourse::getCourseName)
+        .containsExactly(
+            tuple(first.getStudent().getId(), "Javaフルコース"),
+            tuple(first.getStudent().getId(), "AWSフルコース"));
+    assertThat(statusCaptor.getAllValues())
+        .extracting(EnrollmentStatus::getStudentCourseId)
+        .containsExactlyElementsOf(
+            courseCaptor.getAllValues().stream().map(StudentCourse::getId).toList());
+  }
+
+  @Test
+  void 受講生一括登録_無効な受講生詳細とメールアドレスが重複する受講生詳細が含まれる場合_それらのみ失敗として返され残りは登録されること() {
+    // 準備
+    StudentDetail withoutCourse = studentDetail("saburo@test.com");
+    List<StudentDetail> studentDetailList = List.of(
+        studentDetail("taro@test.com", "Javaフルコース"),
+        studentDetail("taro.test.com", "Javaフルコース"),
+        studentDetail("taro@test.com", "デザインコース"),
+        studentDetail("hanako@test.com", "AWSフルコース"),
+        withoutCourse);
+    when(studentRepository.selectExistingEmails(anyList())).thenReturn(List.of("hanako@test.com"));
+
+    // 実行
+    StudentBatchResult actual = sut.registerStudents(studentDetailList);
+
+    // 検証
+    verify(batchStudentRepository, times(1)).createStudent(any());
+    verify(studentSearchIndex, times(1)).update(any());
+
+    assertThat(actual.getSucceededCount()).isEqualTo(1);
+    assertThat(actual.getFailedCount()).isEqualTo(4);
+    assertThat(actual.getResults())
+        .extracting(StudentBatchItemResult::getIndex, StudentBatchItemResult::isSuccess)
+        .containsExactly(tuple(0, true), tuple(1, false), tuple(2, false), tuple(3, false),
+            tuple(4, false));
+    assertThat(actual.getResults().get(1).getError())
+        .isEqualTo("student.email: メールアドレスの形式が誤っています");
+    assertThat(actual.getResults().get(2).getError())
+        .isEqualTo(StudentBatchService.DUPLICATE_EMAIL_IN_REQUEST);
+    assertThat(actual.getResults().get(3).getError())
+        .isEqualTo(StudentBatchService.DUPLICATE_EMAIL);
+    assertThat(actual.getResults().get(4).getError())
+        .isEqualTo(StudentBatchService.MISSING_STUDENT_COURSE);
+  }
+
+  @Test
+  void 受講生一括登録_チャンクの登録に失敗した場合_ロールバックして1件ずつ登録し直し失敗した受講生詳細のみ失敗として返されること() {
+    // 準備
+    List<StudentDetail> studentDetailList = List.of(
+        studentDetail("taro@test.com", "Javaフルコース"),
+        studentDetail("hanako@test.com", "デザインコース"),
+        studentDetail("jiro@test.com", "AWSフルコース"));
+    when(batchSqlSession.flushStatements())
+        .thenThrow(new DuplicateKeyException("duplicate"))
+        .thenReturn(List.of())
+        .thenThrow(new DuplicateKeyException("duplicate"))
+        .thenReturn(List.of());
+
+    // 実行
+    StudentBatchResult actual = sut.registerStudents(studentDetailList);
+
+    // 検証
+    verify(batchSqlSession, times(4)).flushStatements();
+    verify(transactionManager, times(2)).rollback(any());
+    verify(transactionManager, times(2)).commit(any());
+    verify(studentSearchIndex, times(2)).update(any());
+
+    assertThat(actual.getResults())
+        .extracting(StudentBatchItemResult::isSuccess, StudentBatchItemResult::getError)
+        .containsExactly(
+            tuple(true, null),
+            tuple(false, StudentBatchService.DUPLICATE_EMAIL),
+            tuple(true, null));
+  }
+
+  @Test
+  void 受講生一括登録_チャンクサイズを超える件数が渡された場合_チャンクごとに別のトランザクションで登録されること() {
+    // 準備
+    List<StudentDetail> studentDetailList = IntStream.rangeClosed(0,
+            StudentBatchService.CHUNK_SIZE)
+        .mapToObj(i -> studentDetail("student" + i + "@test.com", "Javaフルコース"))
+        .toList();
+
+    // 実行
+    StudentBatchResult actual = sut.registerStudents(studentDetailList);
+
+    // 検証
+    verify(batchSqlSession, times(2)).flushStatements();
+    verify(transactionManager, times(2)).commit(any());
+    verify(transactionManager, never()).rollback(any());
+    assertThat(actual.getSucceededCount()).isEqualTo(StudentBatchService.CHUNK_SIZE + 1);
+  }
+
+  private StudentDetail studentDetail(String email, String... courseNames) {
+    Student student = new Student.StudentBuilder("田中太郎", email, "千葉県市原市", 22)
+        .kana("タナカタロウ").build();
+    List<StudentCourse> studentCourseList = new ArrayList<>();
+    Arrays.stream(courseNames).forEach(courseName -> studentCourseList.add(
+        new StudentCourseBuilder(student.getId(), courseName)
+            .enrollmentStatus(EnrollmentStatus.builder().status(Status.仮申込).build())
+            .build()));
+    return new StudentDetail(student, studentCourseList);
+  }
+}
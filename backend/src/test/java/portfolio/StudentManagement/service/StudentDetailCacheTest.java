@@ -0,0 +1,132 @@
+package portfolio.StudentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.domain.StudentDetail;
+
+class StudentDetailCacheTest {
+
+  private StudentDetailCache sut;
+  private StudentDetail studentDetail;
+  private String id;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentDetailCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    Student student = new Student.StudentBuilder("田中太郎", "taro@test.com", "千葉県市原市", 24)
+        .build();
+    studentDetail = new StudentDetail(student, List.of());
+    id = student.getId();
+  }
+
+  @AfterEach
+  void after() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void 取得_キャッシュにない場合のみ読み込み処理が呼び出されること() {
+    // 準備
+    AtomicInteger loadCount = new AtomicInteger();
+
+    // 実行
+    sut.get(id, key -> {
+      loadCount.incrementAndGet();
+      return studentDetail;
+    });
+    StudentDetail actual = sut.get(id, key -> {
+      loadCount.incrementAndGet();
+      return studentDetail;
+    });
+
+    // 検証
+    assertThat(actual).isSameAs(studentDetail);
+    assertThat(loadCount).hasValue(1);
+    assertThat(sut.stats().hitCount()).isEqualTo(1);
+    assertThat(sut.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void 取得_読み込み結果がnullの場合_キャッシュに保持されないこと() {
+    // 準備
+    AtomicInteger loadCount = new AtomicInteger();
+
+    // 実行
+    sut.get(id, key -> {
+      loadCount.incrementAndGet();
+      return null;
+    });
+    StudentDetail actual = sut.get(id, key -> {
+      loadCount.incrementAndGet();
+      return null;
+    });
+
+    // 検証
+    assertThat(actual).isNull();
+    assertThat(loadCount).hasValue(2);
+  }
+
+  @Test
+  void 取得_読み込み中に破棄が行われた場合_読み込んだ受講生詳細はキャッシュに保持されないこと() {
+    // 準備
+    AtomicInteger loadCount = new AtomicInteger();
+
+    // 実行
+    sut.get(id, key -> {
+      loadCount.incrementAndGet();
+      // 読み込み中に別のリクエストで更新が完了した状況を再現
+      sut.invalidate(id);
+      return studentDetail;
+    });
+    sut.get(id, key -> {
+      loadCount.incrementAndGet();
+      return studentDetail;
+    });
+
+    // 検証
+    assertThat(loadCount).hasValue(2);
+  }
+
+  @Test
+  void 破棄_トランザクション内で呼び出された場合_トランザクション完了まで破棄されないこと() {
+    // 準備
+    AtomicInteger loadCount = new AtomicInteger();
+    sut.get(id, key -> {
+      loadCount.incrementAndGet();
+      return studentDetail;
+    });
+    TransactionSynchronizationManager.initSynchronization();
+
+    // 実行
+    sut.invalidate(id);
+    sut.get(id, key -> {
+      loadCount.incrementAndGet();
+      return studentDetail;
+    });
+    List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager
+        .getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+        TransactionSynchronization.STATUS_COMMITTED);
+    sut.get(id, key -> {
+      loadCount.incrementAndGet();
+      return studentDetail;
+    });
+
+    // 検証
+    assertThat(loadCount).hasValue(2);
+  }
+}
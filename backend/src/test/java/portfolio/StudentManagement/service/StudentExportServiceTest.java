@@ -0,0 +1,126 @@
+package portfolio.StudentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import portfolio.StudentManagement.data.EnrollmentStatus;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.data.Student.Gender;
+import portfolio.StudentManagement.data.StudentCourse.StudentCourseBuilder;
+import portfolio.StudentManagement.domain.StudentDetail;
+import portfolio.StudentManagement.repository.StudentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentExportServiceTest {
+
+  @Mock
+  StudentRepository studentRepository;
+
+  @Mock
+  Cursor<StudentDetail> cursor;
+
+  ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  StudentExportService sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentExportService(studentRepository, objectMapper);
+    when(studentRepository.selectStudentDetailCursor()).thenReturn(cursor);
+  }
+
+  @Test
+  void CSVエクスポート_受講生コース情報1件ごとに1行が書き込まれ_受講生コース情報が無い受講生は受講生の列のみ書き込まれること()
+      throws Exception {
+    // 準備
+    Student taro = new Student.StudentBuilder("田中太郎", "taro@test.com", "千葉県市原市", 22)
+        .kana("タナカタロウ").gender(Gender.Male).useOnlyTestBuildWithId("1");
+    Student hanako = new Student.StudentBuilder("田中花子", "hanako@test.com", "東京都港区", 30)
+        .useOnlyTestBuildWithId("2");
+    LocalDateTime startDate = LocalDateTime.of(2024, 4, 1, 9, 0);
+    LocalDateTime endDate = LocalDateTime.of(2025, 3, 31, 17, 0);
+    StudentDetail taroDetail = new StudentDetail(taro, List.of(
+        new StudentCourseBuilder("1", "Javaフルコース").startDate(startDate).endDate(endDate)
+            .enrollmentStatus(EnrollmentStatus.builder().status(Status.受講中).build())
+            .buildWithId("c1"),
+        new StudentCourseBuilder("1", "AWSフルコース").startDate(startDate).endDate(endDate)
+            .enrollmentStatus(EnrollmentStatus.builder().status(Status.仮申込).build())
+            .buildWithId("c2")));
+    StudentDetail hanakoDetail = new StudentDetail(hanako, List.of());
+    when(cursor.iterator()).thenReturn(List.of(taroDetail, hanakoDetail).iterator());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // 実行
+    sut.exportCsv(out);
+
+    // 検証
+    assertThat(out.toString(StandardCharsets.UTF_8).lines()).containsExactly(
+        "id,fullName,kana,nickName,email,city,age,gender,remark,courseId,courseName,startDate,endDate,status",
+        "1,田中太郎,タナカタロウ,,taro@test.com,千葉県市原市,22,Male,,c1,Javaフルコース,2024-04-01T09:00:00,2025-03-31T17:00:00,受講中",
+        "1,田中太郎,タナカタロウ,,taro@test.com,千葉県市原市,22,Male,,c2,AWSフルコース,2024-04-01T09:00:00,2025-03-31T17:00:00,仮申込",
+        "2,田中花子,,,hanako@test.com,東京都港区,30,Unspecified,,,,,,");
+    verify(cursor, times(1)).close();
+  }
+
+  @Test
+  void NDJSONエクスポート_受講生詳細1件ごとに1行のJSONが書き込まれること() throws Exception {
+    // 準備
+    List<StudentDetail> studentDetails = List.of(
+        new StudentDetail(new Student.StudentBuilder("田中太郎", "taro@test.com", "千葉県市原市", 22)
+            .useOnlyTestBuildWithId("1"), List.of()),
+        new StudentDetail(new Student.StudentBuilder("田中花子", "hanako@test.com", "東京都港区", 30)
+            .useOnlyTestBuildWithId("2"), List.of()));
+    when(cursor.iterator()).thenReturn(studentDetails.iterator());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // 実行
+    sut.exportNdjson(out);
+
+    // 検証
+    List<Student> actual = new ArrayList<>();
+    for (String line : out.toString(StandardCharsets.UTF_8).lines().toList()) {
+      actual.add(objectMapper.readValue(line, StudentDetail.class).getStudent());
+    }
+    assertThat(actual)
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactly(studentDetails.get(0).getStudent(), studentDetails.get(1).getStudent());
+    verify(cursor, times(1)).close();
+  }
+
+  @Test
+  void NDJSONエクスポート_書き込み中のスレッドが割り込まれた場合_読み出しを中断しカーソルが閉じられること() throws Exception {
+    // 準備
+    StudentDetail studentDetail = new StudentDetail(
+        new Student.StudentBuilder("田中太郎", "taro@test.com", "千葉県市原市", 22).build(), List.of());
+    when(cursor.iterator()).thenReturn(List.of(studentDetail).iterator());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // 実行、検証
+    Thread.currentThread().interrupt();
+    try {
+      assertThatThrownBy(() -> sut.exportNdjson(out))
+          .isInstanceOf(InterruptedIOException.class);
+    } finally {
+      Thread.interrupted();
+    }
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEmpty();
+    verify(cursor, times(1)).close();
+  }
+}
@@ -0,0 +1,157 @@
+package portfolio.StudentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import portfolio.StudentManagement.data.EnrollmentStatus.Status;
+import portfolio.StudentManagement.data.Student.Gender;
+import portfolio.StudentManagement.domain.StudentBatchItemResult;
+import portfolio.StudentManagement.domain.StudentBatchResult;
+import portfolio.StudentManagement.domain.StudentDetail;
+import portfolio.StudentManagement.domain.StudentImportError;
+import portfolio.StudentManagement.domain.StudentImportResult;
+
+@ExtendWith(MockitoExtension.class)
+class StudentImportServiceTest {
+
+  private static final String CSV_HEADER =
+      "fullName,kana,nickName,email,city,age,gender,courseName,status";
+
+  @Mock
+  StudentBatchService batchService;
+
+  @Captor
+  ArgumentCaptor<List<StudentDetail>> captor;
+
+  StudentImportService sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentImportService(batchService, new ObjectMapper().findAndRegisterModules());
+  }
+
+  @Test
+  void CSV取込_ヘッダー行の列名で各行を受講生詳細に変換し_形式が誤っている行のみ除外して一括登録されること()
+      throws Exception {
+    // 準備
+    String csv = String.join("\n",
+        CSV_HEADER,
+        "田中太郎,タナカタロウ,たろ,taro@test.com,千葉県市原市,22,Male,Javaフルコース,仮申込",
+        "田中花子,,,hanako@test.com,東京都港区,abc,,デザインコース,本申込",
+        "田中次郎,,,jiro@test.com,東京都港区,30,,AWSフルコース,受講中");
+    when(batchService.registerStudents(anyList())).thenAnswer(invocation -> succeeded(
+        invocation.getArgument(0)));
+
+    // 実行
+    StudentImportResult actual = sut.importCsv(toStream(csv));
+
+    // 検証
+    verify(batchService, times(1)).registerStudents(captor.capture());
+    assertThat(captor.getValue())
+        .extracting(detail -> detail.getStudent().getEmail(),
+            detail -> detail.getStudent().getGender(),
+            detail -> detail.getStudentCourseList().getFirst().getCourseName(),
+            detail -> detail.getStudentCourseList().getFirst().getEnrollmentStatus().getStatus())
+        .containsExactly(
+            tuple("taro@test.com", Gender.Male, "Javaフルコース", Status.仮申込),
+            tuple("jiro@test.com", Gender.Unspecified, "AWSフルコース", Status.受講中));
+
+    assertThat(actual.getTotalRows()).isEqualTo(3);
+    assertThat(actual.getImportedCount()).isEqualTo(2);
+    assertThat(actual.getRejectedCount()).isEqualTo(1);
+    assertThat(actual.getErrors())
+        .extracting(StudentImportError::getRow, StudentImportError::getError)
+        .containsExactly(tuple(2L, StudentImportService.INVALID_ROW));
+  }
+
+  @Test
+  void NDJSON取込_1行ずつ受講生詳細に変換し_一括登録で失敗した行は行番号とともに除外として返されること()
+      throws Exception {
+    // 準備
+    String ndjson = String.join("\n",
+        ndjsonLine("taro@test.com"),
+        "",
+        "{\"student\": ",
+        ndjsonLine("taro@test.com"));
+    when(batchService.registerStudents(anyList())).thenReturn(new StudentBatchResult(List.of(
+        StudentBatchItemResult.success(0, new StudentDetail()),
+        StudentBatchItemResult.failure(1, StudentBatchService.DUPLICATE_EMAIL_IN_REQUEST))));
+
+    // 実行
+    StudentImportResult actual = sut.importNdjson(toStream(ndjson));
+
+    // 検証
+    assertThat(actual.getTotalRows()).isEqualTo(3);
+    assertThat(actual.getImportedCount()).isEqualTo(1);
+    assertThat(actual.getRejectedCount()).isEqualTo(2);
+    assertThat(actual.getErrors())
+        .extracting(StudentImportError::getRow, StudentImportError::getError)
+        .containsExactly(
+            tuple(3L, StudentImportService.INVALID_ROW),
+            tuple(4L, StudentBatchService.DUPLICATE_EMAIL_IN_REQUEST));
+  }
+
+  @Test
+  void CSV取込_チャンクサイズを超える行数の場合_チャンクごとに一括登録され除外した行は上限件数まで返されること()
+      throws Exception {
+    // 準備
+    int rowCount = StudentBatchService.CHUNK_SIZE + 1;
+    String rows = IntStream.range(0, rowCount)
+        .mapToObj(i -> "田中太郎,,,student" + i + "@test.com,千葉県市原市,22,,Javaフルコース,仮申込")
+        .collect(Collectors.joining("\n"));
+    int invalidRowCount = StudentImportService.MAX_REPORTED_ERRORS + 1;
+    String invalidRows = Stream.generate(() -> "田中太郎,,,invalid@test.com,千葉県市原市,,,Javaフルコース,仮申込")
+        .limit(invalidRowCount)
+        .collect(Collectors.joining("\n"));
+    when(batchService.registerStudents(anyList())).thenAnswer(invocation -> succeeded(
+        invocation.getArgument(0)));
+
+    // 実行
+    StudentImportResult actual = sut.importCsv(
+        toStream(CSV_HEADER + "\n" + rows + "\n" + invalidRows));
+
+    // 検証
+    verify(batchService, times(2)).registerStudents(anyList());
+    assertThat(actual.getTotalRows()).isEqualTo(rowCount + invalidRowCount);
+    assertThat(actual.getImportedCount()).isEqualTo(rowCount);
+    assertThat(actual.getRejectedCount()).isEqualTo(invalidRowCount);
+    assertThat(actual.getErrors()).hasSize(StudentImportService.MAX_REPORTED_ERRORS);
+    assertThat(actual.getRowsPerSecond()).isPositive();
+  }
+
+  private StudentBatchResult succeeded(List<StudentDetail> studentDetailList) {
+    return new StudentBatchResult(IntStream.range(0, studentDetailList.size())
+        .mapToObj(i -> StudentBatchItemResult.success(i, studentDetailList.get(i)))
+        .toList());
+  }
+
+  private String ndjsonLine(String email) {
+    return "{\"student\": {\"fullName\": \"田中太郎\", \"email\": \"" + email + "\", "
+        + "\"city\": \"千葉県市原市\", \"age\": 22}, "
+        + "\"studentCourseList\": [{\"courseName\": \"Javaフルコース\", "
+        + "\"enrollmentStatus\": {\"status\": \"仮申込\"}}]}";
+  }
+
+  private InputStream toStream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,186 @@
+package portfolio.StudentManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import portfolio.StudentManagement.data.Student;
+import portfolio.StudentManagement.domain.StudentCursor;
+import portfolio.StudentManagement.repository.StudentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentSearchIndexTest {
+
+  @Mock
+  StudentRepository studentRepository;
+
+  private StudentSearchIndex sut;
+
+  private final Student sato = new Student.StudentBuilder("佐藤 太郎", "taro.sato@example.com",
+      "東京都港区", 25).kana("サトウ タロウ").nickName("たろちゃん").remark("優秀な学生です")
+      .useOnlyTestBuildWithId("1c91a1b0-1111-1111-1111-111111111111");
+  private final Student suzuki = new Student.StudentBuilder("鈴木 花子",
+      "hanako.suzuki@example.com", "東京都江東区", 28).kana("スズキ ハナコ").nickName("はなちゃん")
+      .remark("クリエイティブ志向")
+      .useOnlyTestBuildWithId("2c92b2c0-2222-2222-2222-222222222222");
+
+  @BeforeEach
+  void before() {
+    sut = new StudentSearchIndex(studentRepository, true);
+  }
+
+  @Test
+  void 候補検索_唯一の更新プロセスでない場合_インデックスを構築せずnullが返ること() {
+    // 準備
+    sut = new StudentSearchIndex(studentRepository, false);
+
+    // 実行
+    sut.rebuild();
+    sut.update(sato);
+    Set<String> actual = sut.searchCandidateIds("佐藤", null, null, null, null, null);
+
+    // 検証
+    assertThat(actual).isNull();
+    verify(studentRepository, never()).selectStudentPage(any(), any(), any(), any(), any(),
+        any(), any(), any(), any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void 再構築_受講生が読み込みの件数を超える場合_最後の受講生の後ろから続けて読み込まれること() {
+    // 準備
+    List<Student> firstBatch = new ArrayList<>();
+    firstBatch.add(sato);
+    for (int i = 1; i < StudentSearchIndex.REBUILD_BATCH_SIZE; i++) {
+      firstBatch.add(new Student.StudentBuilder("佐藤 太郎", "sato" + i + "@example.com",
+          "大阪府大阪市", 25).build());
+    }
+    when(studentRepository.selectStudentPage(null, null, null, null, null, null, null, null, null,
+        null, null, StudentSearchIndex.REBUILD_BATCH_SIZE)).thenReturn(firstBatch);
+    when(studentRepository.selectStudentPage(any(), any(), any(), any(), any(), any(), any(),
+        any(), any(), any(), any(StudentCursor.class), anyInt())).thenReturn(List.of(suzuki));
+
+    // 実行
+    sut.rebuild();
+
+    // 検証
+    assertThat(sut.searchCandidateIds("鈴木", null, null, null, null, null))
+        .containsExactly(suzuki.getId());
+    assertThat(sut.searchCandidateIds(null, null, null, null, "大阪", null))
+        .hasSize(StudentSearchIndex.REBUILD_BATCH_SIZE - 1);
+  }
+
+  @Test
+  void 候補検索_インデックスの構築前の場合_nullが返ること() {
+    // 実行
+    Set<String> actual = sut.searchCandidateIds("佐藤", null, null, null, null, null);
+
+    // 検証
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  void 候補検索_部分一致の検索条件がない場合_nullが返ること() {
+    // 準備
+    rebuildWith(sato, suzuki);
+
+    // 実行
+    Set<String> actual = sut.searchCandidateIds("", null, "", null, null, null);
+
+    // 検証
+    assertThat(actual).isNull();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"佐", "佐藤", "藤 太", "佐藤 太郎"})
+  void 候補検索_氏名の一部が渡された場合_該当する受講生IDが返ること(String fullName) {
+    // 準備
+    rebuildWith(sato, suzuki);
+
+    // 実行
+    Set<String> actual = sut.searchCandidateIds(fullName, null, null, null, null, null);
+
+    // 検証
+    assertThat(actual).containsExactly(sato.getId());
+  }
+
+
+  @Test
+  void 候補検索_文字が連続していない場合_該当しないこと() {
+    // 準備
+    rebuildWith(sato, suzuki);
+
+    // 実行
+    Set<String> actual = sut.searchCandidateIds("佐太", null, null, null, null, null);
+
+    // 検証
+    assertThat(actual).isEmpty();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"サトウ", "ｻﾄｳ", "TARO", "ato@exa", "佐藤%", "佐_", "佐藤　太郎"})
+  void 候補検索_照合順序による同一視やワイルドカードを含む検索語の場合_候補に漏れがないと言えないためnullが返ること(
+      String value) {
+    // 準備
+    rebuildWith(sato, suzuki);
+
+    // 実行
+    Set<String> actual = sut.searchCandidateIds("佐藤", null, null, value, null, null);
+
+    // 検証
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  void 候補検索_複数の検索条件が渡された場合_すべてに該当する受講生IDのみが返ること() {
+    // 準備
+    rebuildWith(sato, suzuki);
+
+    // 実行
+    Set<String> both = sut.searchCandidateIds(null, null, null, null, "東京都", null);
+    Set<String> onlySuzuki = sut.searchCandidateIds(null, null, null, null, "東京都",
+        "志向");
+
+    // 検証
+    assertThat(both).containsExactlyInAnyOrder(sato.getId(), suzuki.getId());
+    assertThat(onlySuzuki).containsExactly(suzuki.getId());
+  }
+
+  @Test
+  void 更新_受講生の更新内容が反映され_削除フラグが立った受講生は候補から除外されること() {
+    // 準備
+    rebuildWith(sato, suzuki);
+    Student renamed = new Student.StudentBuilder("佐藤 次郎", sato.getEmail(), sato.getCity(),
+        sato.getAge()).useOnlyTestBuildWithId(sato.getId());
+    Student deleted = new Student.StudentBuilder(suzuki.getFullName(), suzuki.getEmail(),
+        suzuki.getCity(), suzuki.getAge()).isDeleted(true).useOnlyTestBuildWithId(suzuki.getId());
+
+    // 実行
+    sut.update(renamed);
+    sut.update(deleted);
+
+    // 検証
+    assertThat(sut.searchCandidateIds("次郎", null, null, null, null, null))
+        .containsExactly(sato.getId());
+    assertThat(sut.searchCandidateIds("太郎", null, null, null, null, null)).isEmpty();
+    assertThat(sut.searchCandidateIds("鈴木", null, null, null, null, null)).isEmpty();
+  }
+
+  private void rebuildWith(Student... students) {
+    when(studentRepository.selectStudentPage(null, null, null, null, null, null, null, null, null,
+        null, null, StudentSearchIndex.REBUILD_BATCH_SIZE)).thenReturn(List.of(students));
+    sut.rebuild();
+  }
+}
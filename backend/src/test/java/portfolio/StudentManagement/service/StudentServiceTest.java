@@ -2,15 +2,20 @@ package portfolio.StudentManagement.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +25,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,8 +36,12 @@ import portfolio.StudentManagement.data.Student;
 import portfolio.StudentManagement.data.Student.Gender;
 import portfolio.StudentManagement.data.StudentCourse;
 import portfolio.StudentManagement.data.StudentCourse.StudentCourseBuilder;
+import portfolio.StudentManagement.domain.EnrollmentStatusTransitionResult;
+import portfolio.StudentManagement.domain.StudentCursor;
 import portfolio.StudentManagement.domain.StudentDetail;
+import portfolio.StudentManagement.domain.StudentDetailPage;
 import portfolio.StudentManagement.exception.EnrollmentStatusBadRequestException;
+import portfolio.StudentManagement.exception.EnrollmentStatusConflictException;
 import portfolio.StudentManagement.exception.EnrollmentStatusNotFoundException;
 import portfolio.StudentManagement.exception.StudentCourseNotFoundException;
 import portfolio.StudentManagement.exception.StudentNotFoundException;
@@ -54,18 +64,31 @@ class StudentServiceTest {
   @Mock
   StudentConverter converter;
 
+  @Captor
+  ArgumentCaptor<List<StudentCourse>> courseCaptor;
+
+  @Captor
+  ArgumentCaptor<List<EnrollmentStatus>> statusCaptor;
+
+  StudentDetailCache studentDetailCache;
+
+  StudentSearchIndex studentSearchIndex;
+
   @Mock
   StudentService sut;
 
 
   @BeforeEach
   void before() {
+    studentDetailCache = new StudentDetailCache(100, Duration.ofMinutes(10),
+        new SimpleMeterRegistry());
+    studentSearchIndex = new StudentSearchIndex(studentRepository, true);
     sut = new StudentService(studentRepository, studentCourseRepository, enrollmentStatusRepository,
-        converter);
+        converter, studentDetailCache, studentSearchIndex);
   }
 
   @Test
-  void 受講生詳細の一覧検索_RepositoryとConverterの処理が適切に呼び出せていること() {
+  void 受講生詳細の一覧検索_Repositoryの処理が適切に呼び出せていること() {
     // 事前準備
     String fullName = "";
     String kana = "";
@@ -77,22 +100,124 @@ class StudentServiceTest {
     Gender gender = null;
     String remark = "";
 
-    List<Student> studentList = new ArrayList<>();
-    List<StudentCourse> studentCourseList = new ArrayList<>();
-    when(studentRepository.selectStudents(fullName, kana, nickName, email,
-        city, minAge, maxAge, gender, remark)).thenReturn(studentList);
-    when(studentCourseRepository.selectAllCourseList()).thenReturn(studentCourseList);
+    List<StudentDetail> studentDetailList = new ArrayList<>();
+    when(studentRepository.selectStudentDetails(fullName, kana, nickName, email,
+        city, minAge, maxAge, gender, remark, null)).thenReturn(studentDetailList);
 
     // 実行
-    sut.getStudentDetailList(fullName, kana, nickName, email,
+    List<StudentDetail> actual = sut.getStudentDetailList(fullName, kana, nickName, email,
         city, minAge, maxAge, gender, remark);
 
     // 検証
-    verify(studentRepository, times(1)).selectStudents(fullName, kana, nickName, email,
-        city, minAge, maxAge, gender, remark);
-    verify(studentCourseRepository, times(1)).selectAllCourseList();
+    verify(studentRepository, times(1)).selectStudentDetails(fullName, kana, nickName, email,
+        city, minAge, maxAge, gender, remark, null);
+    verify(studentCourseRepository, Mockito.never()).selectAllCourseList();
+    verify(converter, Mockito.never()).getStudentDetailsList(any(), any());
+    assertThat(actual).isSameAs(studentDetailList);
+  }
+
+  @Test
+  void 受講生詳細の一覧検索_全文検索インデックスの構築後に部分一致の検索条件がある場合_候補の受講生IDで絞り込んで検索されること() {
+    // 準備
+    Student tanaka = new Student.StudentBuilder("田中太郎", "taro@test.com", "千葉県市原市", 22)
+        .build();
+    Student suzuki = new Student.StudentBuilder("鈴木花子", "hanako@test.com", "東京都港区", 28)
+        .build();
+    when(studentRepository.selectStudentPage(null, null, null, null, null, null, null, null, null,
+        null, null, StudentSearchIndex.REBUILD_BATCH_SIZE))
+        .thenReturn(List.of(tanaka, suzuki));
+    studentSearchIndex.rebuild();
+
+    // 実行
+    sut.getStudentDetailList("田中", null, null, null, null, null, null, null, null);
+
+    // 検証
+    verify(studentRepository, times(1)).selectStudentDetails("田中", null, null, null, null,
+        null, null, null, null, Set.of(tanaka.getId()));
+  }
+
+  @Test
+  void 受講生詳細の一覧検索_候補に漏れがないと言えない検索語の場合_インデックスに候補があっても絞り込まずにDBで検索されること() {
+    // 準備
+    Student tanaka = new Student.StudentBuilder("田中太郎", "taro@test.com", "千葉県市原市", 22)
+        .build();
+    when(studentRepository.selectStudentPage(null, null, null, null, null, null, null, null, null,
+        null, null, StudentSearchIndex.REBUILD_BATCH_SIZE))
+        .thenReturn(List.of(tanaka));
+    studentSearchIndex.rebuild();
+
+    // 実行
+    sut.getStudentDetailList("田中", null, null, "taro", null, null, null, null, null);
+
+    // 検証
+    verify(studentRepository, times(1)).selectStudentDetails("田中", null, null, "taro", null,
+        null, null, null, null, null);
+  }
+
+  @Test
+  void 受講生詳細の一覧検索_全文検索インデックスに候補がない場合_候補で絞り込まずにDBで検索されること() {
+    // 準備
+    when(studentRepository.selectStudentPage(null, null, null, null, null, null, null, null, null,
+        null, null, StudentSearchIndex.REBUILD_BATCH_SIZE))
+        .thenReturn(List.of());
+    studentSearchIndex.rebuild();
+
+    // 実行
+    sut.getStudentDetailList("田中", null, null, null, null, null, null, null, null);
+
+    // 検証
+    verify(studentRepository, times(1)).selectStudentDetails("田中", null, null, null, null,
+        null, null, null, null, null);
+  }
+
+  @Test
+  void 受講生詳細のページ検索_指定件数より多くの受講生が存在する場合_ページの受講生のコースのみを取得し次のページのカーソルが設定されること() {
+    // 事前準備
+    int limit = 2;
+    Student student1 = new Student.StudentBuilder("佐藤太郎", "sato@test.com", "東京都港区", 20)
+        .build();
+    Student student2 = new Student.StudentBuilder("鈴木花子", "suzuki@test.com", "東京都港区", 21)
+        .build();
+    Student student3 = new Student.StudentBuilder("田中次郎", "tanaka@test.com", "東京都港区", 22)
+        .build();
+    List<Student> studentList = List.of(student1, student2, student3);
+    List<StudentCourse> studentCourseList = new ArrayList<>();
+
+    when(studentRepository.selectStudentPage(null, null, null, null,
+        null, null, null, null, null, null, null, limit + 1)).thenReturn(studentList);
+    when(studentCourseRepository.selectCourseListByStudentIds(
+        List.of(student1.getId(), student2.getId()))).thenReturn(studentCourseList);
+
+    // 実行
+    StudentDetailPage actual = sut.getStudentDetailPage(null, null, null, null,
+        null, null, null, null, null, null, limit);
+
+    // 検証
     verify(converter, times(1))
-        .getStudentDetailsList(studentList, studentCourseList);
+        .getStudentDetailsList(List.of(student1, student2), studentCourseList);
+    verify(studentCourseRepository, Mockito.never()).selectAllCourseList();
+    assertThat(actual.getNextCursor()).isEqualTo(StudentCursor.from(student2).encode());
+  }
+
+  @Test
+  void 受講生詳細のページ検索_最後のページの場合_次のページのカーソルが設定されないこと() {
+    // 事前準備
+    int limit = 2;
+    Student student = new Student.StudentBuilder("佐藤太郎", "sato@test.com", "東京都港区", 20)
+        .build();
+    StudentCursor after = new StudentCursor("佐藤一郎", UUID.randomUUID().toString());
+
+    when(studentRepository.selectStudentPage(null, null, null, null,
+        null, null, null, null, null, null, after, limit + 1)).thenReturn(List.of(student));
+
+    // 実行
+    StudentDetailPage actual = sut.getStudentDetailPage(null, null, null, null,
+        null, null, null, null, null, after, limit);
+
+    // 検証
+    verify(studentCourseRepository, times(1))
+        .selectCourseListByStudentIds(List.of(student.getId()));
+    assertThat(actual.getNextCursor()).isNull();
   }
 
   @Test
@@ -109,16 +234,16 @@ class StudentServiceTest {
     StudentCourse mockCourse2 = new StudentCourse.StudentCourseBuilder(id, "AWSフルコース").build();
     List<StudentCourse> mockStudentCourseList = List.of(mockCourse1, mockCourse2);
 
-    when(studentRepository.selectStudentById(id)).thenReturn(mockStudent);
-    when(studentCourseRepository.selectCourseListByStudentId(id))
-        .thenReturn(mockStudentCourseList);
+    StudentDetail mockStudentDetail = new StudentDetail(mockStudent, mockStudentCourseList);
+    when(studentRepository.selectStudentDetailById(id)).thenReturn(mockStudentDetail);
 
     // 実行
-    sut.getStudentDetailById(id);
+    StudentDetail actual = sut.getStudentDetailById(id);
 
     // 検証
-    verify(studentRepository, times(1)).selectStudentById(id);
-    verify(studentCourseRepository, times(1)).selectCourseListByStudentId(id);
+    verify(studentRepository, times(1)).selectStudentDetailById(id);
+    verify(studentCourseRepository, Mockito.never()).selectCourseListByStudentId(id);
+    assertThat(actual).isSameAs(mockStudentDetail);
   }
 
   @Test
@@ -127,7 +252,7 @@ class StudentServiceTest {
     // 準備
     String wrongId = UUID.randomUUID().toString();
 
-    when(studentRepository.selectStudentById(wrongId)).thenReturn(null);
+    when(studentRepository.selectStudentDetailById(wrongId)).thenReturn(null);
 
     // 実行と検証
     assertThatThrownBy(() -> sut.getStudentDetailById(wrongId))
@@ -135,11 +260,79 @@ class StudentServiceTest {
         .hasMessageContaining("指定したIDの受講生が見つかりませんでした");
 
     // 検証
-    verify(studentRepository, times(1)).selectStudentById(wrongId);
+    verify(studentRepository, times(1)).selectStudentDetailById(wrongId);
     verify(studentCourseRepository, Mockito.never())
         .selectCourseListByStudentId(Mockito.anyString());
   }
 
+  @Test
+  void 受講生検索_稼働中のテーブルに受講生が存在しない場合_アーカイブ済みの受講生詳細が返ってくること()
+      throws StudentNotFoundException {
+    // 準備
+    Student archivedStudent = new Student.StudentBuilder(
+        "田中太郎", "taro@test.com", "千葉県市原市", 24).isDeleted(true).build();
+    String id = archivedStudent.getId();
+    StudentDetail archivedStudentDetail = new StudentDetail(archivedStudent, List.of());
+    when(studentRepository.selectStudentDetailById(id)).thenReturn(null);
+    when(studentRepository.selectArchivedStudentDetailById(id)).thenReturn(archivedStudentDetail);
+
+    // 実行
+    StudentDetail actual = sut.getStudentDetailById(id);
+
+    // 検証
+    verify(studentRepository, times(1)).selectStudentDetailById(id);
+    verify(studentRepository, times(1)).selectArchivedStudentDetailById(id);
+    assertThat(actual).isSameAs(archivedStudentDetail);
+  }
+
+  @Test
+  void 受講生検索_同じIDで続けて検索した場合_2回目はキャッシュから取得されRepositoryが呼び出されないこと()
+      throws StudentNotFoundException {
+    // 準備
+    Student mockStudent = new Student.StudentBuilder(
+        "田中太郎", "taro@test.com", "千葉県市原市", 24).build();
+    String id = mockStudent.getId();
+    StudentDetail mockStudentDetail = new StudentDetail(mockStudent, List.of());
+    when(studentRepository.selectStudentDetailById(id)).thenReturn(mockStudentDetail);
+
+    // 実行
+    StudentDetail first = sut.getStudentDetailById(id);
+    StudentDetail second = sut.getStudentDetailById(id);
+
+    // 検証
+    verify(studentRepository, times(1)).selectStudentDetailById(id);
+    assertThat(second).isSameAs(first);
+    assertThat(studentDetailCache.stats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void 受講生検索_申込状況の更新後に検索した場合_キャッシュが破棄されRepositoryから再取得されること()
+      throws StudentNotFoundException, EnrollmentStatusNotFoundException,
+      EnrollmentStatusBadRequestException, EnrollmentStatusConflictException {
+    // 準備
+    Student mockStudent = new Student.StudentBuilder(
+        "田中太郎", "taro@test.com", "千葉県市原市", 24).build();
+    String id = mockStudent.getId();
+    String studentCourseId = UUID.randomUUID().toString();
+    when(studentRepository.selectStudentDetailById(id))
+        .thenReturn(new StudentDetail(mockStudent, List.of()));
+    when(studentCourseRepository.selectCourseListByIds(Set.of(studentCourseId)))
+        .thenReturn(List.of(new StudentCourseBuilder(id, "Javaフルコース")
+            .enrollmentStatus(EnrollmentStatus.builder().status(Status.仮申込).build())
+            .buildWithId(studentCourseId)));
+    when(studentCourseRepository.compareAndUpdateCurrentStatuses(any(), eq(Status.仮申込)))
+        .thenReturn(1);
+
+    // 実行
+    sut.getStudentDetailById(id);
+    sut.updateEnrollmentStatus(EnrollmentStatus.builder()
+        .studentCourseId(studentCourseId).status(Status.本申込).build());
+    sut.getStudentDetailById(id);
+
+    // 検証
+    verify(studentRepository, times(2)).selectStudentDetailById(id);
+  }
+
   @Test
   void 受講生登録_リクエストボディから必要な情報を取得しStudentRepositoryとStudentCourseRepositoryの処理が適切に呼び出されていること() {
     // 準備
@@ -163,8 +356,6 @@ class StudentServiceTest {
     StudentDetail mockstudentDetail = new StudentDetail(mockStudent, mockStudentCourseList);
 
     ArgumentCaptor<Student> studentCaptor = ArgumentCaptor.forClass(Student.class);
-    ArgumentCaptor<StudentCourse> courseCaptor = ArgumentCaptor.forClass(StudentCourse.class);
-    ArgumentCaptor<EnrollmentStatus> statusCaptor = ArgumentCaptor.forClass(EnrollmentStatus.class);
 
     // 実行
     StudentDetail actual = sut.registerStudent(mockstudentDetail);
@@ -173,9 +364,9 @@ class StudentServiceTest {
     verify(studentRepository, times(1))
         .createStudent(studentCaptor.capture());
     verify(studentCourseRepository, times(1))
-        .createStudentCourse(courseCaptor.capture());
+        .createStudentCourses(courseCaptor.capture());
     verify(enrollmentStatusRepository, times(1))
-        .createEnrollmentStatus(statusCaptor.capture());
+        .createEnrollmentStatuses(statusCaptor.capture());
 
     assertThat(actual.getStudent().getId()).isNotBlank();
     assertThat(actual.getStudent().getFullName()).isEqualTo(fullName);
@@ -198,9 +389,45 @@ class StudentServiceTest {
         .isEqualTo(Status.仮申込);
     assertThat(actual.getStudentCourseList().getFirst().getEnrollmentStatus().getCreatedAt())
         .isInstanceOf(LocalDateTime.class);
+    assertThat(courseCaptor.getValue()).containsExactlyElementsOf(actual.getStudentCourseList());
+    assertThat(statusCaptor.getValue()).containsExactly(
+        actual.getStudentCourseList().getFirst().getEnrollmentStatus());
 
   }
 
+  @Test
+  void 受講生登録_複数の受講生コース情報が渡された場合_全ての受講生コース情報と申込状況がまとめて登録され返されること() {
+    // 準備
+    Student student = new Student.StudentBuilder("田中太郎", "taro@test.com", "千葉県市原市", 22)
+        .build();
+    List<StudentCourse> studentCourseList = List.of(
+        new StudentCourseBuilder(student.getId(), "Javaフルコース")
+            .enrollmentStatus(EnrollmentStatus.builder().status(Status.仮申込).build()).build(),
+        new StudentCourseBuilder(student.getId(), "AWSフルコース")
+            .enrollmentStatus(EnrollmentStatus.builder().status(Status.本申込).build()).build());
+
+    // 実行
+    StudentDetail actual = sut.registerStudent(new StudentDetail(student, studentCourseList));
+
+    // 検証
+    verify(studentCourseRepository, times(1)).createStudentCourses(courseCaptor.capture());
+    verify(enrollmentStatusRepository, times(1)).createEnrollmentStatuses(statusCaptor.capture());
+    verify(studentCourseRepository, Mockito.never()).createStudentCourse(any());
+    verify(enrollmentStatusRepository, Mockito.never()).createEnrollmentStatus(any());
+
+    assertThat(actual.getStudentCourseList())
+        .extracting(StudentCourse::getStudentId, StudentCourse::getCourseName,
+            course -> course.getEnrollmentStatus().getStatus())
+        .containsExactly(
+            tuple(actual.getStudent().getId(), "Javaフルコース", Status.仮申込),
+            tuple(actual.getStudent().getId(), "AWSフルコース", Status.本申込));
+    assertThat(courseCaptor.getValue()).containsExactlyElementsOf(actual.getStudentCourseList());
+    assertThat(statusCaptor.getValue())
+        .extracting(EnrollmentStatus::getStudentCourseId)
+        .containsExactlyElementsOf(
+            actual.getStudentCourseList().stream().map(StudentCourse::getId).toList());
+  }
+
   @Test
   void 受講生更新_適切な受講生IDがわたってくる場合_受講生について更新前後に差異がある場合StudentRepositoryの処理が適切に呼び出されること()
       throws StudentNotFoundException, StudentCourseNotFoundException {
@@ -529,7 +756,8 @@ class StudentServiceTest {
   @MethodSource("provideStatuses")
   void 申込状況更新_適切なステータスが渡された場合にはRepositoryが呼び出され_後戻りするようなステータスが渡された場合には例外が呼び出されること(
       TestCaseForVerifyStatus testCaseForVerifyStatus)
-      throws EnrollmentStatusNotFoundException, EnrollmentStatusBadRequestException {
+      throws EnrollmentStatusNotFoundException, EnrollmentStatusBadRequestException,
+      EnrollmentStatusConflictException {
     // 準備
     String studentCourseId = UUID.randomUUID().toString();
 
@@ -537,38 +765,81 @@ class StudentServiceTest {
         .studentCourseId(studentCourseId).status(testCaseForVerifyStatus.recievedStatus)
         .build();
 
-    List<EnrollmentStatus> mockStatusList = List.of(EnrollmentStatus.builder()
+    EnrollmentStatus mockStatus = EnrollmentStatus.builder()
         .id(UUID.randomUUID().toString()).studentCourseId(studentCourseId)
-        .status(testCaseForVerifyStatus.currentStatus).createdAt(LocalDateTime.now()).build()
-    );
+        .status(testCaseForVerifyStatus.currentStatus).createdAt(LocalDateTime.now()).build();
 
-    when(enrollmentStatusRepository.selectAllEnrollmentStatus()
-        .stream()
-        .filter(v -> v.getStudentCourseId().equals(studentCourseId))
-        .toList())
-        .thenReturn(mockStatusList);
+    when(studentCourseRepository.selectCourseListByIds(Set.of(studentCourseId)))
+        .thenReturn(List.of(new StudentCourseBuilder(UUID.randomUUID().toString(), "Javaフルコース")
+            .enrollmentStatus(mockStatus).buildWithId(studentCourseId)));
 
     if (testCaseForVerifyStatus.shouldBeValid) {
+      when(studentCourseRepository.compareAndUpdateCurrentStatuses(any(),
+          eq(testCaseForVerifyStatus.currentStatus))).thenReturn(1);
+
       // 実行
       sut.updateEnrollmentStatus(recievedEenrollmentStatus);
 
       // 検証
       verify(enrollmentStatusRepository, times(1))
           .createEnrollmentStatus(any());
+      verify(studentCourseRepository, times(1))
+          .compareAndUpdateCurrentStatuses(statusCaptor.capture(),
+              eq(testCaseForVerifyStatus.currentStatus));
+      assertThat(statusCaptor.getValue())
+          .singleElement()
+          .extracting(EnrollmentStatus::getStudentCourseId, EnrollmentStatus::getStatus)
+          .containsExactly(studentCourseId, testCaseForVerifyStatus.recievedStatus);
 
     } else {
       // 実行、検証
       assertThatThrownBy(() -> sut.updateEnrollmentStatus(recievedEenrollmentStatus))
           .isInstanceOf(EnrollmentStatusBadRequestException.class)
           .hasMessageContaining("ステータスを前に戻すことは出来ません。現在のステータス: "
-              + mockStatusList.getLast().getStatus());
+              + mockStatus.getStatus());
 
       // 検証
       verify(enrollmentStatusRepository, times(0))
           .createEnrollmentStatus(any());
+      verify(studentCourseRepository, times(0))
+          .compareAndUpdateCurrentStatuses(any(), any());
     }
   }
 
+  @Test
+  void 申込状況更新_ステータスの確認後に他の処理が先に更新していた場合_登録した申込状況が取り消され例外が呼び出されること() {
+    // 準備
+    String studentCourseId = UUID.randomUUID().toString();
+    StudentCourse applied = new StudentCourseBuilder(UUID.randomUUID().toString(), "Javaフルコース")
+        .enrollmentStatus(EnrollmentStatus.builder().id(UUID.randomUUID().toString())
+            .status(Status.仮申込).build())
+        .buildWithId(studentCourseId);
+    StudentCourse attending = new StudentCourseBuilder(applied.getStudentId(), "Javaフルコース")
+        .enrollmentStatus(EnrollmentStatus.builder().id(UUID.randomUUID().toString())
+            .status(Status.受講中).build())
+        .buildWithId(studentCourseId);
+    // 1回目の検索で仮申込を返した後、一括更新などで受講中に進められたものとします
+    when(studentCourseRepository.selectCourseListByIds(Set.of(studentCourseId)))
+        .thenReturn(List.of(applied), List.of(attending));
+    when(studentCourseRepository.compareAndUpdateCurrentStatuses(any(), eq(Status.仮申込)))
+        .thenReturn(0);
+
+    // 実行
+    assertThatThrownBy(() -> sut.updateEnrollmentStatus(EnrollmentStatus.builder()
+        .studentCourseId(studentCourseId).status(Status.本申込).build()))
+        .isInstanceOf(EnrollmentStatusConflictException.class)
+        .hasMessage("他の処理が先に申込状況を更新したため、更新されませんでした");
+
+    // 検証
+    verify(enrollmentStatusRepository, times(1)).createEnrollmentStatus(any());
+    verify(enrollmentStatusRepository, times(1))
+        .deleteUnreferencedEnrollmentStatuses(statusCaptor.capture());
+    assertThat(statusCaptor.getValue())
+        .singleElement()
+        .extracting(EnrollmentStatus::getStatus)
+        .isEqualTo(Status.本申込);
+  }
+
   @Test
   void 申込状況更新_存在しないstudentCourseIdが渡された場合_適切に例外が呼び出されること()
       throws EnrollmentStatusNotFoundException {
@@ -585,10 +856,120 @@ class StudentServiceTest {
         .hasMessageContaining("指定した受講生コースIDのステータスは見つかりませんでした");
 
     // 検証
+    verify(studentCourseRepository, times(1)).selectCourseListByIds(Set.of(studentCourseId));
+    verify(enrollmentStatusRepository, Mockito.never()).selectAllEnrollmentStatus();
     verify(enrollmentStatusRepository, times(0))
         .createEnrollmentStatus(any());
   }
 
+  @Test
+  void 申込状況一括更新_受理できる受講生コースのみまとめて登録され_受理できない受講生コースは理由とともに返されること() {
+    // 準備
+    StudentCourse applied = new StudentCourseBuilder("1", "Javaフルコース")
+        .enrollmentStatus(EnrollmentStatus.builder().status(Status.仮申込).build())
+        .buildWithId("c1");
+    StudentCourse attending = new StudentCourseBuilder("2", "AWSフルコース")
+        .enrollmentStatus(EnrollmentStatus.builder().status(Status.受講中).build())
+        .buildWithId("c2");
+    List<String> studentCourseIds = List.of("c1", "c2", "missing", "c1");
+    when(studentCourseRepository.selectCourseListByIds(Set.of("c1", "c2", "missing")))
+        .thenReturn(List.of(applied, attending));
+    when(studentCourseRepository.compareAndUpdateCurrentStatuses(any(), eq(Status.仮申込)))
+        .thenReturn(1);
+
+    // 実行
+    List<EnrollmentStatusTransitionResult> actual = sut.transitionEnrollmentStatuses(
+        studentCourseIds, Status.本申込);
+
+    // 検証
+    verify(enrollmentStatusRepository, times(1)).createEnrollmentStatuses(statusCaptor.capture());
+    verify(studentCourseRepository, times(1))
+        .compareAndUpdateCurrentStatuses(statusCaptor.getValue(), Status.仮申込);
+    verify(enrollmentStatusRepository, Mockito.never()).deleteUnreferencedEnrollmentStatuses(any());
+    verify(enrollmentStatusRepository, Mockito.never()).createEnrollmentStatus(any());
+    assertThat(statusCaptor.getValue())
+        .extracting(EnrollmentStatus::getStudentCourseId, EnrollmentStatus::getStatus)
+        .containsExactly(tuple("c1", Status.本申込));
+
+    assertThat(actual)
+        .extracting(EnrollmentStatusTransitionResult::getStudentCourseId,
+            EnrollmentStatusTransitionResult::isAccepted,
+            EnrollmentStatusTransitionResult::getPreviousStatus)
+        .containsExactly(
+            tuple("c1", true, Status.仮申込),
+            tuple("c2", false, Status.受講中),
+            tuple("missing", false, null),
+            tuple("c1", false, Status.仮申込));
+    assertThat(actual.get(1).getError())
+        .isEqualTo("ステータスを前に戻すことは出来ません。現在のステータス: 受講中");
+    assertThat(actual.get(2).getError())
+        .isEqualTo("指定した受講生コースIDのステータスは見つかりませんでした");
+  }
+
+  @Test
+  void 申込状況一括更新_受理できる受講生コースがない場合_申込状況が登録されないこと() {
+    // 準備
+    StudentCourse completed = new StudentCourseBuilder("1", "Javaフルコース")
+        .enrollmentStatus(EnrollmentStatus.builder().status(Status.受講終了).build())
+        .buildWithId("c1");
+    when(studentCourseRepository.selectCourseListByIds(Set.of("c1")))
+        .thenReturn(List.of(completed));
+
+    // 実行
+    List<EnrollmentStatusTransitionResult> actual = sut.transitionEnrollmentStatuses(
+        List.of("c1"), Status.受講中);
+
+    // 検証
+    verify(enrollmentStatusRepository, Mockito.never()).createEnrollmentStatuses(any());
+    verify(studentCourseRepository, Mockito.never()).compareAndUpdateCurrentStatuses(any(), any());
+    assertThat(actual).singleElement()
+        .extracting(EnrollmentStatusTransitionResult::isAccepted)
+        .isEqualTo(false);
+  }
+
+  @Test
+  void 申込状況一括更新_検索後に他の処理が先に申込状況を更新した場合_その受講生コースは更新されなかったものとして返され登録した申込状況が取り消されること() {
+    // 準備
+    StudentCourse applied = new StudentCourseBuilder("1", "Javaフルコース")
+        .enrollmentStatus(EnrollmentStatus.builder().status(Status.仮申込).build())
+        .buildWithId("c1");
+    StudentCourse confirmed = new StudentCourseBuilder("2", "AWSフルコース")
+        .enrollmentStatus(EnrollmentStatus.builder().status(Status.本申込).build())
+        .buildWithId("c2");
+    List<EnrollmentStatus> created = new ArrayList<>();
+    doAnswer(invocation -> created.addAll(invocation.getArgument(0)))
+        .when(enrollmentStatusRepository).createEnrollmentStatuses(any());
+    when(studentCourseRepository.compareAndUpdateCurrentStatuses(any(), eq(Status.仮申込)))
+        .thenReturn(1);
+    when(studentCourseRepository.compareAndUpdateCurrentStatuses(any(), eq(Status.本申込)))
+        .thenReturn(0);
+    when(studentCourseRepository.selectCourseListByIds(Set.of("c1", "c2")))
+        .thenReturn(List.of(applied, confirmed))
+        .thenAnswer(invocation -> List.of(
+            new StudentCourseBuilder("1", "Javaフルコース")
+                .enrollmentStatus(created.getFirst()).buildWithId("c1"),
+            new StudentCourseBuilder("2", "AWSフルコース")
+                .enrollmentStatus(EnrollmentStatus.builder().id("other").status(Status.受講中)
+                    .build())
+                .buildWithId("c2")));
+
+    // 実行
+    List<EnrollmentStatusTransitionResult> actual = sut.transitionEnrollmentStatuses(
+        List.of("c1", "c2"), Status.受講中);
+
+    // 検証
+    verify(enrollmentStatusRepository, times(1)).deleteUnreferencedEnrollmentStatuses(created);
+    assertThat(actual)
+        .extracting(EnrollmentStatusTransitionResult::getStudentCourseId,
+            EnrollmentStatusTransitionResult::isAccepted,
+            EnrollmentStatusTransitionResult::getPreviousStatus)
+        .containsExactly(
+            tuple("c1", true, Status.仮申込),
+            tuple("c2", false, Status.本申込));
+    assertThat(actual.get(1).getError())
+        .isEqualTo("他の処理が先に申込状況を更新したため、更新されませんでした");
+  }
+
   @ParameterizedTest
   @EnumSource(Status.class)
   void 受講生詳細申込状況検索_指定した申込状況に合致する(Status status) {
@@ -607,12 +988,14 @@ class StudentServiceTest {
     when(studentCourseRepository.selectCourseListWithLatestStatus(status))
         .thenReturn(mockedCourseList);
 
-    for (StudentCourse studentCourse : mockedCourseList) {
-      Student mockedStudent = mock(Student.class);
-      when(mockedStudent.getIsDeleted()).thenReturn(false);
-      when(studentRepository.selectStudentById(studentCourse.getStudentId()))
-          .thenReturn(mockedStudent);
-    }
+    List<String> studentIdList = mockedCourseList.stream()
+        .map(StudentCourse::getStudentId)
+        .toList();
+    List<Student> mockedStudentList = studentIdList.stream()
+        .map(studentId -> new Student.StudentBuilder("田中太郎", "taro@test.com", "千葉県市原市", 22)
+            .useOnlyTestBuildWithId(studentId))
+        .toList();
+    when(studentRepository.selectStudentsByIds(studentIdList)).thenReturn(mockedStudentList);
 
     // 実行
     sut.getStudentDetailListByStatus(status);
@@ -620,7 +1003,69 @@ class StudentServiceTest {
     //検証
     verify(studentCourseRepository, times(1))
         .selectCourseListWithLatestStatus(status);
-    verify(studentRepository, times(5)).selectStudentById(any());
+    verify(studentRepository, times(1)).selectStudentsByIds(studentIdList);
+    verify(studentRepository, Mockito.never()).selectStudentById(any());
+    verify(converter, times(1)).getStudentDetailsList(mockedStudentList, mockedCourseList);
+  }
+
+  @Test
+  void 受講生詳細申込状況検索_同じ受講生のコースが複数ある場合_受講生IDの重複を除いてまとめて検索し_削除済みの受講生は除外されること() {
+    // 準備
+    Status status = Status.受講中;
+    Student student = new Student.StudentBuilder("田中太郎", "taro@test.com", "千葉県市原市", 22)
+        .build();
+    String deletedStudentId = UUID.randomUUID().toString();
+    List<StudentCourse> mockedCourseList = List.of(
+        new StudentCourseBuilder(student.getId(), "Javaフルコース").build(),
+        new StudentCourseBuilder(deletedStudentId, "Javaフルコース").build(),
+        new StudentCourseBuilder(student.getId(), "AWSフルコース").build());
+    when(studentCourseRepository.selectCourseListWithLatestStatus(status))
+        .thenReturn(mockedCourseList);
+    // 論理削除された受講生はRepositoryから返されない
+    when(studentRepository.selectStudentsByIds(List.of(student.getId(), deletedStudentId)))
+        .thenReturn(List.of(student));
+
+    // 実行
+    sut.getStudentDetailListByStatus(status);
+
+    // 検証
+    verify(studentRepository, times(1))
+        .selectStudentsByIds(List.of(student.getId(), deletedStudentId));
+    verify(converter, times(1)).getStudentDetailsList(List.of(student), mockedCourseList);
+  }
+
+  @Test
+  void 受講生詳細申込状況検索_受講生IDがチャンクサイズを超える場合_分割して検索し元の順序で組み立てられること() {
+    // 準備
+    Status status = Status.仮申込;
+    int studentCount = StudentService.STUDENT_ID_CHUNK_SIZE + 1;
+    List<Student> mockedStudentList = new ArrayList<>();
+    List<StudentCourse> mockedCourseList = new ArrayList<>();
+    for (int i = 0; i < studentCount; i++) {
+      Student student = new Student.StudentBuilder("受講生" + i, "student" + i + "@test.com",
+          "千葉県市原市", 22).build();
+      mockedStudentList.add(student);
+      mockedCourseList.add(new StudentCourseBuilder(student.getId(), "Javaフルコース").build());
+    }
+    List<String> firstChunk = mockedStudentList.subList(0, StudentService.STUDENT_ID_CHUNK_SIZE)
+        .stream().map(Student::getId).toList();
+    List<String> secondChunk = List.of(mockedStudentList.getLast().getId());
+
+    when(studentCourseRepository.selectCourseListWithLatestStatus(status))
+        .thenReturn(mockedCourseList);
+    // 返却順は保証されないため、逆順で返す
+    when(studentRepository.selectStudentsByIds(firstChunk))
+        .thenReturn(mockedStudentList.subList(0, StudentService.STUDENT_ID_CHUNK_SIZE)
+            .reversed());
+    when(studentRepository.selectStudentsByIds(secondChunk))
+        .thenReturn(List.of(mockedStudentList.getLast()));
+
+    // 実行
+    sut.getStudentDetailListByStatus(status);
+
+    // 検証
+    verify(studentRepository, times(2)).selectStudentsByIds(any());
+    verify(converter, times(1)).getStudentDetailsList(mockedStudentList, mockedCourseList);
   }
 
   private static class TestCaseForVerifyStatus {
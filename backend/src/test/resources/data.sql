@@ -1,40 +0,0 @@
-INSERT INTO students (id, full_name, kana, nick_name, email, city, age, gender, remark, is_deleted) VALUES
-  ('1c91a1b0-1111-1111-1111-111111111111', '佐藤 太郎', 'サトウ タロウ', 'たろちゃん', 'taro.sato@example.com', '東京都港区', 25, 'Male', '優秀な学生です', false),
-  ('2c92b2c0-2222-2222-2222-222222222222', '鈴木 花子', 'スズキ ハナコ', 'はなちゃん', 'hanako.suzuki@example.com', '東京都江東区', 28, 'Female', 'クリエイティブ志向', false),
-  ('3c93c3d0-3333-3333-3333-333333333333', '高橋 健一', 'タカハシ ケンイチ', '', 'kenichi.takahashi@example.com', '愛知県名古屋市', 30, 'Male', 'リーダーシップあり', false),
-  ('4c94d4e0-4444-4444-4444-444444444444', '田中 美香', 'タナカ ミカ', 'みかりん', 'mika.tanaka@example.com', '福岡県福岡市', 22, 'Female', '向上心が強い', false),
-  ('5c95e5f0-5555-5555-5555-555555555555', '山本 大輔', 'ヤマモト ダイスケ', '', 'daisuke.yamamoto@example.com', '北海道札幌市', 27, 'Male', '努力家', false),
-  ('6c96f6g0-6666-6666-6666-666666666666', '伊藤 次郎', 'イトウ ジロウ', 'ジロちゃん', 'jiro.ito@example.com', '宮城県仙台市', 35, 'Male', '退会済みの学生', true);
-
-
-INSERT INTO students_courses (id, student_id, course_name, start_date, end_date) VALUES
-  ('6d96a6g0-6666-6666-6666-666666666666', '1c91a1b0-1111-1111-1111-111111111111', 'Javaフルコース', '2024-01-01 09:00:00', '2024-06-30 17:00:00'),
-  ('7d97b7h0-7777-7777-7777-777777777777', '1c91a1b0-1111-1111-1111-111111111111', 'AWSフルコース', '2024-07-01 09:00:00', '2024-12-31 17:00:00'),
-  ('8d98c8i0-8888-8888-8888-888888888888', '2c92b2c0-2222-2222-2222-222222222222', 'デザインコース', '2024-01-01 09:00:00', '2024-06-30 17:00:00'),
-  ('9d99d9j0-9999-9999-9999-999999999999', '2c92b2c0-2222-2222-2222-222222222222', 'AWSフルコース', '2024-07-01 09:00:00', '2024-12-31 17:00:00'),
-  ('ad9ae9k0-aaaa-aaaa-aaaa-aaaaaaaaaaaa', '3c93c3d0-3333-3333-3333-333333333333', 'Javaフルコース', '2024-01-01 09:00:00', '2024-06-30 17:00:00'),
-  ('bd9bf9l0-bbbb-bbbb-bbbb-bbbbbbbbbbbb', '3c93c3d0-3333-3333-3333-333333333333', 'デザインコース', '2024-07-01 09:00:00', '2024-12-31 17:00:00'),
-  ('cd9cg9m0-cccc-cccc-cccc-cccccccccccc', '4c94d4e0-4444-4444-4444-444444444444', 'AWSフルコース', '2024-01-01 09:00:00', '2024-06-30 17:00:00'),
-  ('dd9dh9n0-dddd-dddd-dddd-dddddddddddd', '4c94d4e0-4444-4444-4444-444444444444', 'Javaフルコース', '2024-07-01 09:00:00', '2024-12-31 17:00:00'),
-  ('ed9ei9o0-eeee-eeee-eeee-eeeeeeeeeeee', '5c95e5f0-5555-5555-5555-555555555555', 'デザインコース', '2024-01-01 09:00:00', '2024-06-30 17:00:00'),
-  ('fd9fj9p0-ffff-ffff-ffff-ffffffffffff', '5c95e5f0-5555-5555-5555-555555555555', 'AWSフルコース', '2024-07-01 09:00:00', '2024-12-31 17:00:00'),
-  ('gd9gi9q0-gggg-gggg-gggg-gggggggggggg', '6c96f6g0-6666-6666-6666-666666666666', 'Javaフルコース', '2023-01-01 09:00:00', '2023-06-30 17:00:00'),
-  ('hd9hj9r0-hhhh-hhhh-hhhh-hhhhhhhhhhhh', '6c96f6g0-6666-6666-6666-666666666666', 'AWSフルコース', '2023-07-01 09:00:00', '2023-12-31 17:00:00');
-
-INSERT INTO enrollment_statuses (id, student_course_id, status, created_at)
-VALUES
-  ('6d96a6g0-6666-7b20-8000-000000000001', '6d96a6g0-6666-6666-6666-666666666666', '仮申込', '2024-01-01 09:00:00'),
-  ('6d96a6g0-6666-7b20-8000-000000000013', '6d96a6g0-6666-6666-6666-666666666666', '本申込', '2024-01-11 09:00:00'),
-  ('6d96a6g0-6666-7b20-8000-000000000014', '6d96a6g0-6666-6666-6666-666666666666', '受講中', '2024-01-12 09:00:00'),
-  ('7d97b7h0-7777-7b20-8000-000000000002', '7d97b7h0-7777-7777-7777-777777777777', '本申込', '2024-07-01 09:00:00'),
-  ('8d98c8i0-8888-7b20-8000-000000000003', '8d98c8i0-8888-8888-8888-888888888888', '受講中', '2024-01-01 09:00:00'),
-  ('9d99d9j0-9999-7b20-8000-000000000004', '9d99d9j0-9999-9999-9999-999999999999', '仮申込', '2024-07-01 09:00:00'),
-  ('ad9ae9k0-aaaa-7b20-8000-000000000005', 'ad9ae9k0-aaaa-aaaa-aaaa-aaaaaaaaaaaa', '本申込', '2024-01-01 09:00:00'),
-  ('bd9bf9l0-bbbb-7b20-8000-000000000006', 'bd9bf9l0-bbbb-bbbb-bbbb-bbbbbbbbbbbb', '仮申込', '2024-07-01 09:00:00'),
-  ('bd9bf9l0-bbbb-7b20-8000-000000000015', 'bd9bf9l0-bbbb-bbbb-bbbb-bbbbbbbbbbbb', '受講中', '2024-12-01 09:00:00'),
-  ('cd9cg9m0-cccc-7b20-8000-000000000007', 'cd9cg9m0-cccc-cccc-cccc-cccccccccccc', '仮申込', '2024-01-01 09:00:00'),
-  ('dd9dh9n0-dddd-7b20-8000-000000000008', 'dd9dh9n0-dddd-dddd-dddd-dddddddddddd', '受講中', '2024-07-01 09:00:00'),
-  ('ed9ei9o0-eeee-7b20-8000-000000000009', 'ed9ei9o0-eeee-eeee-eeee-eeeeeeeeeeee', '本申込', '2024-01-01 09:00:00'),
-  ('fd9fj9p0-ffff-7b20-8000-000000000010', 'fd9fj9p0-ffff-ffff-ffff-ffffffffffff', '仮申込', '2024-07-01 09:00:00'),
-  ('gd9gi9q0-gggg-7b20-8000-000000000011', 'gd9gi9q0-gggg-gggg-gggg-gggggggggggg', '受講中', '2023-01-01 09:00:00'),
-  ('hd9hj9r0-hhhh-7b20-8000-000000000012', 'hd9hj9r0-hhhh-hhhh-hhhh-hhhhhhhhhhhh', '受講中', '2023-07-01 09:00:00');
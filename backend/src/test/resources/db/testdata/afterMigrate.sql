@@ -0,0 +1,57 @@
+-- テストデータです。Flywayのマイグレーションを適用した後に登録します。
+
+INSERT INTO students (id, full_name, kana, nick_name, email, city, age, gender, remark, is_deleted) VALUES
+  (UUID '1c91a1b0-1111-1111-1111-111111111111', '佐藤 太郎', 'サトウ タロウ', 'たろちゃん', 'taro.sato@example.com', '東京都港区', 25, 'Male', '優秀な学生です', false),
+  (UUID '2c92b2c0-2222-2222-2222-222222222222', '鈴木 花子', 'スズキ ハナコ', 'はなちゃん', 'hanako.suzuki@example.com', '東京都江東区', 28, 'Female', 'クリエイティブ志向', false),
+  (UUID '3c93c3d0-3333-3333-3333-333333333333', '高橋 健一', 'タカハシ ケンイチ', '', 'kenichi.takahashi@example.com', '愛知県名古屋市', 30, 'Male', 'リーダーシップあり', false),
+  (UUID '4c94d4e0-4444-4444-4444-444444444444', '田中 美香', 'タナカ ミカ', 'みかりん', 'mika.tanaka@example.com', '福岡県福岡市', 22, 'Female', '向上心が強い', false),
+  (UUID '5c95e5f0-5555-5555-5555-555555555555', '山本 大輔', 'ヤマモト ダイスケ', '', 'daisuke.yamamoto@example.com', '北海道札幌市', 27, 'Male', '努力家', false),
+  (UUID '6c96f600-6666-6666-6666-666666666666', '伊藤 次郎', 'イトウ ジロウ', 'ジロちゃん', 'jiro.ito@example.com', '宮城県仙台市', 35, 'Male', '退会済みの学生', true);
+
+
+INSERT INTO students_courses (id, student_id, course_name, start_date, end_date) VALUES
+  (UUID '6d96a600-6666-6666-6666-666666666666', UUID '1c91a1b0-1111-1111-1111-111111111111', 'Javaフルコース', '2024-01-01 09:00:00', '2024-06-30 17:00:00'),
+  (UUID '7d97b710-7777-7777-7777-777777777777', UUID '1c91a1b0-1111-1111-1111-111111111111', 'AWSフルコース', '2024-07-01 09:00:00', '2024-12-31 17:00:00'),
+  (UUID '8d98c820-8888-8888-8888-888888888888', UUID '2c92b2c0-2222-2222-2222-222222222222', 'デザインコース', '2024-01-01 09:00:00', '2024-06-30 17:00:00'),
+  (UUID '9d99d930-9999-9999-9999-999999999999', UUID '2c92b2c0-2222-2222-2222-222222222222', 'AWSフルコース', '2024-07-01 09:00:00', '2024-12-31 17:00:00'),
+  (UUID 'ad9ae940-aaaa-aaaa-aaaa-aaaaaaaaaaaa', UUID '3c93c3d0-3333-3333-3333-333333333333', 'Javaフルコース', '2024-01-01 09:00:00', '2024-06-30 17:00:00'),
+  (UUID 'bd9bf950-bbbb-bbbb-bbbb-bbbbbbbbbbbb', UUID '3c93c3d0-3333-3333-3333-333333333333', 'デザインコース', '2024-07-01 09:00:00', '2024-12-31 17:00:00'),
+  (UUID 'cd9c0960-cccc-cccc-cccc-cccccccccccc', UUID '4c94d4e0-4444-4444-4444-444444444444', 'AWSフルコース', '2024-01-01 09:00:00', '2024-06-30 17:00:00'),
+  (UUID 'dd9d1970-dddd-dddd-dddd-dddddddddddd', UUID '4c94d4e0-4444-4444-4444-444444444444', 'Javaフルコース', '2024-07-01 09:00:00', '2024-12-31 17:00:00'),
+  (UUID 'ed9e2980-eeee-eeee-eeee-eeeeeeeeeeee', UUID '5c95e5f0-5555-5555-5555-555555555555', 'デザインコース', '2024-01-01 09:00:00', '2024-06-30 17:00:00'),
+  (UUID 'fd9f3990-ffff-ffff-ffff-ffffffffffff', UUID '5c95e5f0-5555-5555-5555-555555555555', 'AWSフルコース', '2024-07-01 09:00:00', '2024-12-31 17:00:00'),
+  (UUID '0d9029a0-0000-0000-0000-000000000000', UUID '6c96f600-6666-6666-6666-666666666666', 'Javaフルコース', '2023-01-01 09:00:00', '2023-06-30 17:00:00'),
+  (UUID '1d9139b0-1111-1111-1111-111111111111', UUID '6c96f600-6666-6666-6666-666666666666', 'AWSフルコース', '2023-07-01 09:00:00', '2023-12-31 17:00:00');
+
+INSERT INTO enrollment_statuses (id, student_course_id, status, created_at)
+VALUES
+  (UUID '6d96a600-6666-7b20-8000-000000000001', UUID '6d96a600-6666-6666-6666-666666666666', '仮申込', '2024-01-01 09:00:00'),
+  (UUID '6d96a600-6666-7b20-8000-000000000013', UUID '6d96a600-6666-6666-6666-666666666666', '本申込', '2024-01-11 09:00:00'),
+  (UUID '6d96a600-6666-7b20-8000-000000000014', UUID '6d96a600-6666-6666-6666-666666666666', '受講中', '2024-01-12 09:00:00'),
+  (UUID '7d97b710-7777-7b20-8000-000000000002', UUID '7d97b710-7777-7777-7777-777777777777', '本申込', '2024-07-01 09:00:00'),
+  (UUID '8d98c820-8888-7b20-8000-000000000003', UUID '8d98c820-8888-8888-8888-888888888888', '受講中', '2024-01-01 09:00:00'),
+  (UUID '9d99d930-9999-7b20-8000-000000000004', UUID '9d99d930-9999-9999-9999-999999999999', '仮申込', '2024-07-01 09:00:00'),
+  (UUID 'ad9ae940-aaaa-7b20-8000-000000000005', UUID 'ad9ae940-aaaa-aaaa-aaaa-aaaaaaaaaaaa', '本申込', '2024-01-01 09:00:00'),
+  (UUID 'bd9bf950-bbbb-7b20-8000-000000000006', UUID 'bd9bf950-bbbb-bbbb-bbbb-bbbbbbbbbbbb', '仮申込', '2024-07-01 09:00:00'),
+  (UUID 'bd9bf950-bbbb-7b20-8000-000000000015', UUID 'bd9bf950-bbbb-bbbb-bbbb-bbbbbbbbbbbb', '受講中', '2024-12-01 09:00:00'),
+  (UUID 'cd9c0960-cccc-7b20-8000-000000000007', UUID 'cd9c0960-cccc-cccc-cccc-cccccccccccc', '仮申込', '2024-01-01 09:00:00'),
+  (UUID 'dd9d1970-dddd-7b20-8000-000000000008', UUID 'dd9d1970-dddd-dddd-dddd-dddddddddddd', '受講中', '2024-07-01 09:00:00'),
+  (UUID 'ed9e2980-eeee-7b20-8000-000000000009', UUID 'ed9e2980-eeee-eeee-eeee-eeeeeeeeeeee', '本申込', '2024-01-01 09:00:00'),
+  (UUID 'fd9f3990-ffff-7b20-8000-000000000010', UUID 'fd9f3990-ffff-ffff-ffff-ffffffffffff', '仮申込', '2024-07-01 09:00:00'),
+  (UUID '0d9029a0-0000-7b20-8000-000000000011', UUID '0d9029a0-0000-0000-0000-000000000000', '受講中', '2023-01-01 09:00:00'),
+  (UUID '1d9139b0-1111-7b20-8000-000000000012', UUID '1d9139b0-1111-1111-1111-111111111111', '受講中', '2023-07-01 09:00:00');
+
+-- 受講生コース情報の現在の申込状況を設定（src/main/resources/db/backfill_current_status.sqlと同じ処理）
+UPDATE students_courses sc SET current_status_id = (
+  SELECT e.id FROM enrollment_statuses e
+  WHERE e.student_course_id = sc.id
+  ORDER BY e.created_at DESC, e.id DESC
+  LIMIT 1
+);
+UPDATE students_courses sc SET current_status = (
+  SELECT e.status FROM enrollment_statuses e
+  WHERE e.id = sc.current_status_id
+);
+
+-- 論理削除済みの受講生の論理削除日時を設定
+UPDATE students SET deleted_at = '2024-01-31 09:00:00' WHERE is_deleted = true;